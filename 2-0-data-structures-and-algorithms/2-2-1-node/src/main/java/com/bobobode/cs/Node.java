@@ -8,5 +8,10 @@ package com.bobobode.cs;
  * @param <T> a generic type T
  */
 public class Node<T> {
-    // todo:
+    T element;
+    Node<T> next;
+
+    Node(T element) {
+        this.element = element;
+    }
 }
@@ -0,0 +1,184 @@
+package com.bobobode.cs;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * {@link NodePool} is a memory-compact alternative to {@link Node} objects. Instead of allocating an object per node,
+ * it stores elements and links in two parallel arrays, and a node is just an int handle, which is the index of its
+ * slot in those arrays. A link to no node is {@link #NULL}.
+ * <p>
+ * Methods {@link #create(Object)}, {@link #link(int, int)}, {@link #pairOf(Object, Object)},
+ * {@link #closedPairOf(Object, Object)}, {@link #chainOf(Object[])} and {@link #circleOf(Object[])} have the same
+ * semantics as the ones in {@link Nodes}. A chain is allocated as a single block of consecutive slots, so walking it
+ * goes through the arrays sequentially instead of chasing references. There are no per-node object headers, and
+ * {@link #clear()} frees all the nodes at once.
+ *
+ * @param <T> a generic type T
+ */
+public class NodePool<T> {
+    /**
+     * A handle that does not point to any node, an equivalent of a {@code null} reference.
+     */
+    public static final int NULL = -1;
+
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private Object[] elements;
+    private int[] next;
+    private int size;
+
+    public NodePool(int initialCapacity) {
+        if (initialCapacity <= 0) {
+            throw new IllegalArgumentException("Initial capacity should be positive, but was " + initialCapacity);
+        }
+        elements = new Object[initialCapacity];
+        next = new int[initialCapacity];
+    }
+
+    public NodePool() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates a new node that holds provided element
+     *
+     * @param element any element of type T
+     * @return a handle of the new node
+     */
+    public int create(T element) {
+        ensureCapacity(size + 1);
+        return allocate(element, NULL);
+    }
+
+    /**
+     * Create a connection between first and second nodes, so the first node stores a handle of the second.
+     *
+     * @param first  a handle of any node in the pool
+     * @param second a handle of any node in the pool, or {@link #NULL} to unlink the first node
+     */
+    public void link(int first, int second) {
+        Objects.checkIndex(first, size);
+        if (second != NULL) {
+            Objects.checkIndex(second, size);
+        }
+        next[first] = second;
+    }
+
+    /**
+     * Creates two new nodes using provided firstElement and secondElement, and links the first node to the second.
+     *
+     * @param firstElement  any element of type T
+     * @param secondElement any element of type T
+     * @return a handle of the first node
+     */
+    public int pairOf(T firstElement, T secondElement) {
+        ensureCapacity(size + 2);
+        int first = allocate(firstElement, size + 1);
+        allocate(secondElement, NULL);
+        return first;
+    }
+
+    /**
+     * Creates two new nodes using provided firstElement and secondElement, and links them to each other.
+     *
+     * @param firstElement  any element of type T
+     * @param secondElement any element of type T
+     * @return a handle of the first node
+     */
+    public int closedPairOf(T firstElement, T secondElement) {
+        int first = pairOf(firstElement, secondElement);
+        next[first + 1] = first;
+        return first;
+    }
+
+    /**
+     * Creates a linked chain of nodes based on provided elements, so each node holds a handle of the next one.
+     *
+     * @param elements a array of elements of type T
+     * @return a handle of the first node of the chain, or {@link #NULL} if there are no elements
+     */
+    @SafeVarargs
+    public final int chainOf(T... elements) {
+        if (elements.length == 0) {
+            return NULL;
+        }
+        ensureCapacity(size + elements.length);
+        int first = size;
+        for (int i = 0; i < elements.length - 1; i++) {
+            allocate(elements[i], size + 1);
+        }
+        allocate(elements[elements.length - 1], NULL);
+        return first;
+    }
+
+    /**
+     * Creates a linked circle of nodes based on provided elements, so each node holds a handle of the next one, and
+     * the last one holds a handle of the first one.
+     *
+     * @param elements a array of elements of type T
+     * @return a handle of the first node of the circle, or {@link #NULL} if there are no elements
+     */
+    @SafeVarargs
+    public final int circleOf(T... elements) {
+        int first = chainOf(elements);
+        if (first != NULL) {
+            next[size - 1] = first;
+        }
+        return first;
+    }
+
+    /**
+     * @param node a handle of any node in the pool
+     * @return an element of the node
+     */
+    @SuppressWarnings("unchecked")
+    public T element(int node) {
+        Objects.checkIndex(node, size);
+        return (T) elements[node];
+    }
+
+    /**
+     * @param node a handle of any node in the pool
+     * @return a handle of the next node, or {@link #NULL} if the node is not linked
+     */
+    public int next(int node) {
+        Objects.checkIndex(node, size);
+        return next[node];
+    }
+
+    /**
+     * @return number of nodes allocated in the pool
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Frees all the nodes of the pool at once. Handles created before are no longer valid.
+     */
+    public void clear() {
+        Arrays.fill(elements, 0, size, null);
+        size = 0;
+    }
+
+    private int allocate(T element, int nextNode) {
+        elements[size] = element;
+        next[size] = nextNode;
+        return size++;
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity < 0) {
+            throw new IllegalStateException("Node pool is full");
+        }
+        if (capacity > elements.length) {
+            int newCapacity = Math.max(capacity, elements.length + (elements.length >> 1));
+            if (newCapacity < 0) {
+                newCapacity = capacity;
+            }
+            elements = Arrays.copyOf(elements, newCapacity);
+            next = Arrays.copyOf(next, newCapacity);
+        }
+    }
+}
@@ -1,7 +1,5 @@
 package com.bobobode.cs;
 
-import com.bobocode.util.ExerciseNotCompletedException;
-
 /**
  * A class that consists of static methods only and provides util methods for {@link Node}.
  */
@@ -17,7 +15,7 @@ public class Nodes {
      * @return a new instance of {@link Node}
      */
     public static <T> Node<T> create(T element) {
-        throw new ExerciseNotCompletedException(); // todo:
+        return new Node<>(element);
     }
 
     /**
@@ -28,7 +26,7 @@ public class Nodes {
      * @param <T>    a genetic type
      */
     public static <T> void link(Node<T> first, Node<T> second) {
-        throw new ExerciseNotCompletedException(); // todo:
+        first.next = second;
     }
 
     /**
@@ -41,7 +39,9 @@ public class Nodes {
      * @return a reference to a first node created based on firstElement
      */
     public static <T> Node<T> pairOf(T firstElement, T secondElement) {
-        throw new ExerciseNotCompletedException(); // todo:
+        Node<T> first = create(firstElement);
+        link(first, create(secondElement));
+        return first;
     }
 
     /**
@@ -55,7 +55,9 @@ public class Nodes {
      * @return a reference to the first node
      */
     public static <T> Node<T> closedPairOf(T firstElement, T secondElement) {
-        throw new ExerciseNotCompletedException(); // todo:
+        Node<T> first = pairOf(firstElement, secondElement);
+        link(first.next, first);
+        return first;
     }
 
     /**
@@ -66,8 +68,15 @@ public class Nodes {
      * @param <T>      generic type T
      * @return a reference to the first element of the chain
      */
+    @SafeVarargs
     public static <T> Node<T> chainOf(T... elements) {
-        throw new ExerciseNotCompletedException(); // todo:
+        Node<T> head = null;
+        for (int i = elements.length - 1; i >= 0; i--) {
+            Node<T> node = create(elements[i]);
+            link(node, head);
+            head = node;
+        }
+        return head;
     }
 
     /**
@@ -79,7 +88,128 @@ public class Nodes {
      * @param <T>      generic type T
      * @return a reference to the first element of the chain
      */
+    @SafeVarargs
     public static <T> Node<T> circleOf(T... elements) {
-        throw new ExerciseNotCompletedException(); // todo:
+        Node<T> head = chainOf(elements);
+        if (head != null) {
+            Node<T> last = head;
+            while (last.next != null) {
+                last = last.next;
+            }
+            link(last, head);
+        }
+        return head;
+    }
+
+    /**
+     * Checks if a chain that starts from provided node loops back to one of its nodes. It uses constant memory and
+     * does not modify the nodes, so it works for chains, circles and closed pairs of any length.
+     *
+     * @param head the first node of a chain, can be {@code null}
+     * @param <T>  generic type T
+     * @return {@code true} if the chain has a cycle
+     */
+    public static <T> boolean hasCycle(Node<T> head) {
+        return cycleLength(head) > 0;
+    }
+
+    /**
+     * Finds the first node of a chain that belongs to its cycle, that is the node the last node links back to. For a
+     * circle it is the head itself.
+     *
+     * @param head the first node of a chain, can be {@code null}
+     * @param <T>  generic type T
+     * @return the first node of the cycle, or {@code null} if the chain has no cycle
+     */
+    public static <T> Node<T> cycleStart(Node<T> head) {
+        int cycleLength = cycleLength(head);
+        return cycleLength > 0 ? cycleStart(head, cycleLength) : null;
+    }
+
+    /**
+     * Counts distinct nodes of a chain. For a chain with a cycle every node of the cycle is counted once.
+     *
+     * @param head the first node of a chain, can be {@code null}
+     * @param <T>  generic type T
+     * @return number of nodes in the chain
+     */
+    public static <T> int length(Node<T> head) {
+        int cycleLength = cycleLength(head);
+        Node<T> end = cycleLength > 0 ? cycleStart(head, cycleLength) : null;
+        int tailLength = 0;
+        for (Node<T> node = head; node != end; node = node.next) {
+            tailLength++;
+        }
+        return tailLength + cycleLength;
+    }
+
+    /**
+     * Finds the middle node of a chain, which is a node with index {@code length / 2} counting distinct nodes from the
+     * head. For a chain of even length it is the first node of the second half.
+     *
+     * @param head the first node of a chain, can be {@code null}
+     * @param <T>  generic type T
+     * @return the middle node, or {@code null} if the chain is empty
+     */
+    public static <T> Node<T> middle(Node<T> head) {
+        if (cycleLength(head) == 0) {
+            Node<T> slow = head;
+            for (Node<T> fast = head; fast != null && fast.next != null; fast = fast.next.next) {
+                slow = slow.next;
+            }
+            return slow;
+        }
+        return advance(head, length(head) / 2);
+    }
+
+    /**
+     * Finds the length of a cycle using Brent's algorithm. The hare goes ahead, and the tortoise teleports to the
+     * hare each time the number of steps reaches the next power of two, so the hare meets the tortoise within the
+     * first lap after the tortoise got into the cycle.
+     *
+     * @return number of nodes in the cycle, or 0 if the chain ends with {@code null}
+     */
+    private static <T> int cycleLength(Node<T> head) {
+        if (head == null) {
+            return 0;
+        }
+        Node<T> tortoise = head;
+        Node<T> hare = head.next;
+        int power = 1;
+        int length = 1;
+        while (hare != tortoise) {
+            if (hare == null) {
+                return 0;
+            }
+            if (length == power) {
+                tortoise = hare;
+                power <<= 1;
+                length = 0;
+            }
+            hare = hare.next;
+            length++;
+        }
+        return length;
+    }
+
+    /**
+     * Finds the start of a cycle of a known length. A pointer that is ahead by exactly one lap meets the pointer from
+     * the head right at the start of the cycle.
+     */
+    private static <T> Node<T> cycleStart(Node<T> head, int cycleLength) {
+        Node<T> tortoise = head;
+        Node<T> hare = advance(head, cycleLength);
+        while (tortoise != hare) {
+            tortoise = tortoise.next;
+            hare = hare.next;
+        }
+        return tortoise;
+    }
+
+    private static <T> Node<T> advance(Node<T> node, int steps) {
+        for (int i = 0; i < steps; i++) {
+            node = node.next;
+        }
+        return node;
     }
 }
@@ -0,0 +1,144 @@
+package com.bobocode.cs;
+
+import com.bobobode.cs.NodePool;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class NodePoolTest {
+
+    private final NodePool<Integer> pool = new NodePool<>(2);
+
+    @Test
+    @Order(1)
+    void create() {
+        int node = pool.create(5);
+
+        assertThat(pool.element(node)).isEqualTo(5);
+        assertThat(pool.next(node)).isEqualTo(NodePool.NULL);
+        assertThat(pool.size()).isEqualTo(1);
+    }
+
+    @Test
+    @Order(2)
+    void link() {
+        int firstNode = pool.create(5);
+        int secondNode = pool.create(9);
+        int thirdNode = pool.create(100);
+        pool.link(secondNode, thirdNode);
+
+        pool.link(firstNode, secondNode);
+
+        assertThat(pool.next(firstNode)).isEqualTo(secondNode);
+        assertThat(pool.next(secondNode)).isEqualTo(thirdNode);
+    }
+
+    @Test
+    @Order(3)
+    void linkToNullUnlinksNode() {
+        int firstNode = pool.pairOf(8, 2);
+
+        pool.link(firstNode, NodePool.NULL);
+
+        assertThat(pool.next(firstNode)).isEqualTo(NodePool.NULL);
+    }
+
+    @Test
+    @Order(4)
+    void linkThrowsExceptionWhenHandleIsInvalid() {
+        int node = pool.create(5);
+
+        assertThatThrownBy(() -> pool.link(node, 1)).isInstanceOf(IndexOutOfBoundsException.class);
+        assertThatThrownBy(() -> pool.link(NodePool.NULL, node)).isInstanceOf(IndexOutOfBoundsException.class);
+    }
+
+    @Test
+    @Order(5)
+    void pair() {
+        int firstNode = pool.pairOf(8, 2);
+
+        int secondNode = pool.next(firstNode);
+        assertThat(pool.element(firstNode)).isEqualTo(8);
+        assertThat(pool.element(secondNode)).isEqualTo(2);
+        assertThat(pool.next(secondNode)).isEqualTo(NodePool.NULL);
+    }
+
+    @Test
+    @Order(6)
+    void closedPair() {
+        int firstNode = pool.closedPairOf(8, 2);
+
+        int secondNode = pool.next(firstNode);
+        assertThat(pool.element(firstNode)).isEqualTo(8);
+        assertThat(pool.element(secondNode)).isEqualTo(2);
+        assertThat(pool.next(secondNode)).isEqualTo(firstNode);
+    }
+
+    @Test
+    @Order(7)
+    void chain() {
+        pool.create(42);
+
+        int firstNode = pool.chainOf(8, 1, 13, 5);
+
+        int secondNode = pool.next(firstNode);
+        int thirdNode = pool.next(secondNode);
+        int fourthNode = pool.next(thirdNode);
+        assertThat(pool.element(firstNode)).isEqualTo(8);
+        assertThat(pool.element(secondNode)).isEqualTo(1);
+        assertThat(pool.element(thirdNode)).isEqualTo(13);
+        assertThat(pool.element(fourthNode)).isEqualTo(5);
+        assertThat(pool.next(fourthNode)).isEqualTo(NodePool.NULL);
+        assertThat(pool.size()).isEqualTo(5);
+    }
+
+    @Test
+    @Order(8)
+    void circle() {
+        pool.create(42);
+
+        int firstNode = pool.circleOf(8, 1, 13, 5);
+
+        int secondNode = pool.next(firstNode);
+        int thirdNode = pool.next(secondNode);
+        int fourthNode = pool.next(thirdNode);
+        assertThat(pool.element(firstNode)).isEqualTo(8);
+        assertThat(pool.element(secondNode)).isEqualTo(1);
+        assertThat(pool.element(thirdNode)).isEqualTo(13);
+        assertThat(pool.element(fourthNode)).isEqualTo(5);
+        assertThat(pool.next(fourthNode)).isEqualTo(firstNode);
+    }
+
+    @Test
+    @Order(9)
+    void chainOfNoElementsReturnsNull() {
+        assertThat(pool.chainOf()).isEqualTo(NodePool.NULL);
+        assertThat(pool.circleOf()).isEqualTo(NodePool.NULL);
+        assertThat(pool.size()).isZero();
+    }
+
+    @Test
+    @Order(10)
+    void clearFreesAllNodes() {
+        int node = pool.chainOf(8, 1, 13, 5);
+
+        pool.clear();
+
+        assertThat(pool.size()).isZero();
+        assertThatThrownBy(() -> pool.element(node)).isInstanceOf(IndexOutOfBoundsException.class);
+        assertThat(pool.element(pool.create(7))).isEqualTo(7);
+    }
+
+    @Test
+    @Order(11)
+    void constructorThrowsExceptionWhenCapacityIsNotPositive() {
+        assertThatThrownBy(() -> new NodePool<>(0))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Initial capacity should be positive, but was 0");
+    }
+}
@@ -11,6 +11,7 @@ import org.junit.jupiter.api.TestMethodOrder;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
 import java.util.Arrays;
+import java.util.stream.IntStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -110,6 +111,85 @@ class NodesTest {
         assertThat(getNodeNext(fourthNode)).isEqualTo(firstNode);
     }
 
+    @Test
+    @Order(7)
+    void hasCycle() {
+        assertThat(Nodes.hasCycle(null)).isFalse();
+        assertThat(Nodes.hasCycle(Nodes.create(1))).isFalse();
+        assertThat(Nodes.hasCycle(Nodes.chainOf(8, 1, 13, 5))).isFalse();
+        assertThat(Nodes.hasCycle(Nodes.circleOf(8, 1, 13, 5))).isTrue();
+        assertThat(Nodes.hasCycle(Nodes.closedPairOf(8, 2))).isTrue();
+        assertThat(Nodes.hasCycle(selfLoopOf(7))).isTrue();
+        assertThat(Nodes.hasCycle(lassoOf(3, 5))).isTrue();
+    }
+
+    @Test
+    @Order(8)
+    void cycleStart() {
+        Node<Integer> circle = Nodes.circleOf(8, 1, 13, 5);
+        Node<Integer> selfLoop = selfLoopOf(7);
+        Node<Integer> lasso = lassoOf(3, 5);
+
+        assertThat(Nodes.cycleStart(null)).isNull();
+        assertThat(Nodes.cycleStart(Nodes.chainOf(8, 1, 13, 5))).isNull();
+        assertThat(Nodes.cycleStart(circle)).isSameAs(circle);
+        assertThat(Nodes.cycleStart(selfLoop)).isSameAs(selfLoop);
+        assertThat(getNodeElement(Nodes.cycleStart(lasso))).isEqualTo(3);
+    }
+
+    @Test
+    @Order(9)
+    void length() {
+        assertThat(Nodes.length(null)).isZero();
+        assertThat(Nodes.length(Nodes.create(1))).isEqualTo(1);
+        assertThat(Nodes.length(Nodes.chainOf(8, 1, 13, 5))).isEqualTo(4);
+        assertThat(Nodes.length(Nodes.circleOf(8, 1, 13, 5))).isEqualTo(4);
+        assertThat(Nodes.length(Nodes.closedPairOf(8, 2))).isEqualTo(2);
+        assertThat(Nodes.length(selfLoopOf(7))).isEqualTo(1);
+        for (int tail = 0; tail < 10; tail++) {
+            for (int cycle = 1; cycle < 10; cycle++) {
+                assertThat(Nodes.length(lassoOf(tail, cycle))).isEqualTo(tail + cycle);
+            }
+        }
+    }
+
+    @Test
+    @Order(10)
+    void middle() {
+        assertThat(Nodes.middle(null)).isNull();
+        assertThat(getNodeElement(Nodes.middle(Nodes.create(1)))).isEqualTo(1);
+        assertThat(getNodeElement(Nodes.middle(Nodes.chainOf(8, 1, 13)))).isEqualTo(1);
+        assertThat(getNodeElement(Nodes.middle(Nodes.chainOf(8, 1, 13, 5)))).isEqualTo(13);
+        assertThat(getNodeElement(Nodes.middle(Nodes.circleOf(8, 1, 13, 5)))).isEqualTo(13);
+        assertThat(getNodeElement(Nodes.middle(Nodes.closedPairOf(8, 2)))).isEqualTo(2);
+        assertThat(getNodeElement(Nodes.middle(lassoOf(3, 5)))).isEqualTo(4);
+    }
+
+    /**
+     * Creates a chain of nodes with elements 0, 1, 2, ... that has a tail of provided length followed by a cycle,
+     * so the last node links back to the node with element {@code tailLength}.
+     */
+    private Node<Integer> lassoOf(int tailLength, int cycleLength) {
+        Integer[] elements = IntStream.range(0, tailLength + cycleLength).boxed().toArray(Integer[]::new);
+        Node<Integer> head = Nodes.chainOf(elements);
+        Node<Integer> cycleStart = head;
+        for (int i = 0; i < tailLength; i++) {
+            cycleStart = getNodeNext(cycleStart);
+        }
+        Node<Integer> last = cycleStart;
+        while (getNodeNext(last) != null) {
+            last = getNodeNext(last);
+        }
+        setNodeNext(last, cycleStart);
+        return head;
+    }
+
+    private Node<Integer> selfLoopOf(int element) {
+        Node<Integer> node = createNodeOf(element);
+        setNodeNext(node, node);
+        return node;
+    }
+
     @SneakyThrows
     @SuppressWarnings("unchecked")
     private Node<Integer> createNodeOf(int element) {
@@ -0,0 +1,130 @@
+package com.bobocode.cs;
+
+import com.bobocode.cs.exception.EmptyStackException;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * {@link ArrayStack} represents a last-in-first-out (LIFO) stack of objects that is based on a resizable array. Unlike
+ * {@link LinkedStack}, it does not allocate a node on every {@link #push(Object)}, and its elements lie next to each
+ * other in memory.
+ * <p>
+ * A popped slot is set to {@code null}, so the stack does not keep references to elements it no longer contains. The
+ * array doubles when it is full. A shrinking stack also halves the array once it is only a quarter full, but never
+ * below the initial capacity. The gap between the two thresholds guarantees that alternating pushes and pops do not
+ * resize the array every time.
+ *
+ * @param <T> generic type parameter
+ */
+public class ArrayStack<T> implements Stack<T> {
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private final int initialCapacity;
+    private final boolean shrinking;
+    private Object[] elements;
+    private int size;
+
+    /**
+     * Creates a stack with provided initial capacity.
+     *
+     * @param initialCapacity initial array length
+     * @param shrinking       {@code true} if the array should shrink when most of the elements were popped
+     * @throws IllegalArgumentException if initial capacity is not positive
+     */
+    public ArrayStack(int initialCapacity, boolean shrinking) {
+        if (initialCapacity <= 0) {
+            throw new IllegalArgumentException("Initial capacity should be positive, but was " + initialCapacity);
+        }
+        this.initialCapacity = initialCapacity;
+        this.shrinking = shrinking;
+        this.elements = new Object[initialCapacity];
+    }
+
+    /**
+     * Creates a stack with provided initial capacity that never shrinks.
+     *
+     * @param initialCapacity initial array length
+     */
+    public ArrayStack(int initialCapacity) {
+        this(initialCapacity, false);
+    }
+
+    /**
+     * Creates a stack with default initial capacity that never shrinks.
+     */
+    public ArrayStack() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * This method creates a stack of provided elements
+     *
+     * @param elements elements to add
+     * @param <T>      generic type
+     * @return a new stack of elements that were passed as method parameters
+     */
+    @SafeVarargs
+    public static <T> ArrayStack<T> of(T... elements) {
+        ArrayStack<T> stack = new ArrayStack<>(Math.max(elements.length, DEFAULT_CAPACITY));
+        for (T element : elements) {
+            stack.push(element);
+        }
+        return stack;
+    }
+
+    /**
+     * The method pushes an element onto the top of this stack. The array is doubled if it is full.
+     *
+     * @param element elements to add
+     */
+    @Override
+    public void push(T element) {
+        Objects.requireNonNull(element);
+        if (size == elements.length) {
+            elements = Arrays.copyOf(elements, size * 2);
+        }
+        elements[size++] = element;
+    }
+
+    /**
+     * This method removes the object at the top of this stack
+     * and returns that object as the value of this function.
+     *
+     * @return The object at the top of this stack
+     * @throws EmptyStackException - if this stack is empty
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public T pop() {
+        if (size == 0) {
+            throw new EmptyStackException();
+        }
+        T element = (T) elements[--size];
+        elements[size] = null;
+        if (shrinking && size <= elements.length / 4 && elements.length / 2 >= initialCapacity) {
+            elements = Arrays.copyOf(elements, elements.length / 2);
+        }
+        return element;
+    }
+
+    /**
+     * Returns the number of elements in the stack
+     *
+     * @return number of elements
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Checks if a stack is empty
+     *
+     * @return {@code true} if a stack is empty, {@code false} otherwise
+     */
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+}
@@ -0,0 +1,160 @@
+package com.bobocode.cs;
+
+import com.bobocode.cs.exception.EmptyStackException;
+
+import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * {@link ConcurrentLinkedStack} is a lock-free last-in-first-out (LIFO) stack, known as the Treiber stack. The top
+ * node is kept in an {@link AtomicReference}, and both {@link #push(Object)} and {@link #pop()} replace it with
+ * a single compare-and-set, retrying if another thread changed it in between.
+ * <p>
+ * Under high contention most compare-and-set operations fail, since all the threads compete for the same reference.
+ * A thread that lost the race tries the elimination array before retrying. A pushing thread puts its node into
+ * a random slot and waits there for a moment, while a popping thread looks into a random slot and takes a node it
+ * finds there. A push and a pop that meet in a slot cancel each other out without touching the head at all.
+ * <p>
+ * The number of elements is kept in a {@link LongAdder}, which spreads updates over several cells. Therefore
+ * {@link #size()} is exact only when the stack is not modified concurrently.
+ *
+ * @param <T> generic type parameter
+ */
+public class ConcurrentLinkedStack<T> implements Stack<T> {
+    private static final int ELIMINATION_SLOTS = Math.min(Runtime.getRuntime().availableProcessors(), 64);
+    private static final int ELIMINATION_SPINS = 64;
+
+    private final AtomicReference<Node<T>> head = new AtomicReference<>();
+    private final AtomicReferenceArray<Node<T>> eliminationSlots = new AtomicReferenceArray<>(ELIMINATION_SLOTS);
+    private final LongAdder size = new LongAdder();
+
+    static class Node<T> {
+        final T element;
+        Node<T> next;
+
+        Node(T element) {
+            this.element = element;
+        }
+    }
+
+    /**
+     * This method creates a stack of provided elements
+     *
+     * @param elements elements to add
+     * @param <T>      generic type
+     * @return a new stack of elements that were passed as method parameters
+     */
+    @SafeVarargs
+    public static <T> ConcurrentLinkedStack<T> of(T... elements) {
+        ConcurrentLinkedStack<T> stack = new ConcurrentLinkedStack<>();
+        for (T element : elements) {
+            stack.push(element);
+        }
+        return stack;
+    }
+
+    /**
+     * The method pushes an element onto the top of this stack. If the head was changed by another thread, it offers
+     * the element to a concurrent {@link #pop()} through the elimination array before trying again.
+     *
+     * @param element elements to add
+     */
+    @Override
+    public void push(T element) {
+        Objects.requireNonNull(element);
+        Node<T> node = new Node<>(element);
+        while (true) {
+            Node<T> top = head.get();
+            node.next = top;
+            if (head.compareAndSet(top, node)) {
+                size.increment();
+                return;
+            }
+            if (offer(node)) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * This method removes the object at the top of this stack
+     * and returns that object as the value of this function. If the head was changed by another thread, it looks
+     * for an element of a concurrent {@link #push(Object)} in the elimination array before trying again.
+     *
+     * @return The object at the top of this stack
+     * @throws EmptyStackException - if this stack is empty
+     */
+    @Override
+    public T pop() {
+        while (true) {
+            Node<T> top = head.get();
+            if (top == null) {
+                throw new EmptyStackException();
+            }
+            if (head.compareAndSet(top, top.next)) {
+                size.decrement();
+                return top.element;
+            }
+            Node<T> eliminated = take();
+            if (eliminated != null) {
+                return eliminated.element;
+            }
+        }
+    }
+
+    /**
+     * Returns the number of elements in the stack. The result is an estimate if the stack is modified concurrently.
+     *
+     * @return number of elements
+     */
+    @Override
+    public int size() {
+        return (int) Math.max(0, size.sum());
+    }
+
+    /**
+     * Checks if a stack is empty
+     *
+     * @return {@code true} if a stack is empty, {@code false} otherwise
+     */
+    @Override
+    public boolean isEmpty() {
+        return head.get() == null;
+    }
+
+    /**
+     * Puts a node into a random free slot and waits for a popping thread to take it.
+     *
+     * @return true if the node was taken, false if the slot was busy or nobody came in time
+     */
+    private boolean offer(Node<T> node) {
+        int slot = ThreadLocalRandom.current().nextInt(ELIMINATION_SLOTS);
+        if (!eliminationSlots.compareAndSet(slot, null, node)) {
+            return false;
+        }
+        for (int i = 0; i < ELIMINATION_SPINS; i++) {
+            if (eliminationSlots.get(slot) != node) {
+                return true;
+            }
+            Thread.onSpinWait();
+        }
+        return !eliminationSlots.compareAndSet(slot, node, null);
+    }
+
+    /**
+     * Takes a node that a pushing thread offered in a random slot.
+     *
+     * @return the node, or null if the slot was empty or another thread took it first
+     */
+    private Node<T> take() {
+        int slot = ThreadLocalRandom.current().nextInt(ELIMINATION_SLOTS);
+        Node<T> node = eliminationSlots.get(slot);
+        if (node != null && eliminationSlots.compareAndSet(slot, node, null)) {
+            return node;
+        }
+        return null;
+    }
+}
@@ -0,0 +1,112 @@
+package com.bobocode.cs;
+
+import com.bobocode.cs.exception.EmptyStackException;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Field;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ArrayStackTest {
+
+    private ArrayStack<Integer> intStack = new ArrayStack<>();
+
+    @Test
+    void of() {
+        intStack = ArrayStack.of(1, 2, 3);
+
+        assertThat(intStack.size()).isEqualTo(3);
+        assertThat(intStack.pop()).isEqualTo(3);
+        assertThat(intStack.pop()).isEqualTo(2);
+        assertThat(intStack.pop()).isEqualTo(1);
+    }
+
+    @Test
+    void pushAndPopInReverseOrder() {
+        for (int i = 0; i < 1000; i++) {
+            intStack.push(i);
+        }
+
+        for (int i = 999; i >= 0; i--) {
+            assertThat(intStack.pop()).isEqualTo(i);
+        }
+        assertThat(intStack.isEmpty()).isTrue();
+    }
+
+    @Test
+    void pushThrowsExceptionWhenElementIsNull() {
+        assertThatNullPointerException().isThrownBy(() -> intStack.push(null));
+    }
+
+    @Test
+    void popThrowsExceptionWhenStackIsEmpty() {
+        assertThrows(EmptyStackException.class, () -> intStack.pop());
+    }
+
+    @Test
+    void constructorThrowsExceptionWhenCapacityIsNotPositive() {
+        assertThatIllegalArgumentException().isThrownBy(() -> new ArrayStack<>(0));
+    }
+
+    @Test
+    void size() {
+        intStack.push(1);
+        intStack.push(2);
+        intStack.pop();
+
+        assertThat(intStack.size()).isEqualTo(1);
+        assertThat(intStack.isEmpty()).isFalse();
+    }
+
+    @Test
+    void popClearsSlot() {
+        intStack.push(1);
+        intStack.push(2);
+
+        intStack.pop();
+
+        assertThat(getElements()[1]).isNull();
+    }
+
+    @Test
+    void shrinkingStackHalvesArrayWhenQuarterFull() {
+        intStack = new ArrayStack<>(4, true);
+        for (int i = 0; i < 64; i++) {
+            intStack.push(i);
+        }
+        assertThat(getElements()).hasSize(64);
+
+        while (intStack.size() > 16) {
+            intStack.pop();
+        }
+        assertThat(getElements()).hasSize(32);
+
+        while (!intStack.isEmpty()) {
+            intStack.pop();
+        }
+        assertThat(getElements()).hasSize(4);
+    }
+
+    @Test
+    void nonShrinkingStackKeepsArray() {
+        for (int i = 0; i < 64; i++) {
+            intStack.push(i);
+        }
+        while (!intStack.isEmpty()) {
+            intStack.pop();
+        }
+
+        assertThat(getElements()).hasSize(64);
+    }
+
+    @SneakyThrows
+    private Object[] getElements() {
+        Field elementsField = ArrayStack.class.getDeclaredField("elements");
+        elementsField.setAccessible(true);
+        return (Object[]) elementsField.get(intStack);
+    }
+}
@@ -0,0 +1,91 @@
+package com.bobocode.cs;
+
+import com.bobocode.cs.exception.EmptyStackException;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ConcurrentLinkedStackTest {
+    private static final int THREADS = 8;
+    private static final int ELEMENTS_PER_THREAD = 50_000;
+
+    private final ConcurrentLinkedStack<Integer> intStack = new ConcurrentLinkedStack<>();
+
+    @Test
+    void of() {
+        ConcurrentLinkedStack<Integer> stack = ConcurrentLinkedStack.of(1, 2, 3);
+
+        assertThat(stack.size()).isEqualTo(3);
+        assertThat(stack.pop()).isEqualTo(3);
+        assertThat(stack.pop()).isEqualTo(2);
+        assertThat(stack.pop()).isEqualTo(1);
+        assertThat(stack.isEmpty()).isTrue();
+    }
+
+    @Test
+    void pushThrowsExceptionWhenElementIsNull() {
+        assertThatNullPointerException().isThrownBy(() -> intStack.push(null));
+    }
+
+    @Test
+    void popThrowsExceptionWhenStackIsEmpty() {
+        assertThrows(EmptyStackException.class, intStack::pop);
+    }
+
+    @Test
+    void size() {
+        intStack.push(1);
+        intStack.push(2);
+        intStack.pop();
+
+        assertThat(intStack.size()).isEqualTo(1);
+        assertThat(intStack.isEmpty()).isFalse();
+    }
+
+    @Test
+    @SneakyThrows
+    void concurrentPushesAndPopsNeitherLoseNorDuplicateElements() {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<List<Integer>>> poppedByThread = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            int offset = t * ELEMENTS_PER_THREAD;
+            poppedByThread.add(executor.submit(() -> {
+                start.await();
+                List<Integer> popped = new ArrayList<>(ELEMENTS_PER_THREAD);
+                for (int i = 0; i < ELEMENTS_PER_THREAD; i++) {
+                    intStack.push(offset + i);
+                    if (i % 2 == 1) {
+                        popped.add(intStack.pop());
+                        popped.add(intStack.pop());
+                    }
+                }
+                return popped;
+            }));
+        }
+        start.countDown();
+        List<Integer> popped = new ArrayList<>();
+        for (Future<List<Integer>> future : poppedByThread) {
+            popped.addAll(future.get());
+        }
+        executor.shutdown();
+
+        assertThat(intStack.isEmpty()).isTrue();
+        assertThat(intStack.size()).isEqualTo(0);
+        assertThat(popped).hasSize(THREADS * ELEMENTS_PER_THREAD);
+        assertThat(popped.stream().sorted().collect(Collectors.toList()))
+                .isEqualTo(IntStream.range(0, THREADS * ELEMENTS_PER_THREAD).boxed().collect(Collectors.toList()));
+    }
+}
@@ -0,0 +1,248 @@
+package com.bobocode.cs;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * {@link ArrayBlockingRingQueue} is a bounded FIFO {@link Queue} that is safe for many producers and many consumers
+ * without locks. Elements are stored in a ring buffer, which length is a power of two, so a position is turned into an
+ * index with a bit mask.
+ * <p>
+ * Every cell of the buffer has its own sequence number, which tells whose turn it is. A cell at position {@code p} is
+ * free for the producer of position {@code p} when its sequence equals {@code p}, and holds an element for the
+ * consumer of position {@code p} when its sequence equals {@code p + 1}. A producer claims a position by
+ * a compare-and-set of the tail counter, writes the element, and publishes it by setting the cell sequence. A consumer
+ * does the same with the head counter, and hands the cell over to the producer of the next round. Producers and
+ * consumers contend only among themselves, and never wait for each other unless the queue is full or empty.
+ * <p>
+ * The head and the tail counters are written by different threads all the time, so each of them is padded to take a
+ * whole cache line. Otherwise every update of one counter would invalidate the other one in the caches of all cores.
+ * <p>
+ * {@link #offer(Object, long, TimeUnit)} and {@link #take()} provide back-pressure for a full and an empty queue.
+ * They spin for a short time, then park the thread for growing periods until the queue changes.
+ *
+ * @param <T> a generic parameter
+ */
+public class ArrayBlockingRingQueue<T> implements Queue<T> {
+    private static final int SPINS = 100;
+    private static final long MAX_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private final int mask;
+    private final Object[] buffer;
+    private final AtomicLongArray sequences;
+    private final PaddedCounter head = new PaddedCounter();
+    private final PaddedCounter tail = new PaddedCounter();
+
+    /**
+     * Creates a queue that holds at least provided number of elements. The capacity is rounded up to a power of two.
+     *
+     * @param capacity minimal capacity of the queue
+     * @throws IllegalArgumentException if capacity is not positive or greater than 2^30
+     */
+    public ArrayBlockingRingQueue(int capacity) {
+        if (capacity <= 0 || capacity > 1 << 30) {
+            throw new IllegalArgumentException("Capacity should be between 1 and 2^30, but was " + capacity);
+        }
+        int length = capacity == 1 ? 1 : Integer.highestOneBit(capacity - 1) << 1;
+        this.mask = length - 1;
+        this.buffer = new Object[length];
+        this.sequences = new AtomicLongArray(length);
+        for (int i = 0; i < length; i++) {
+            sequences.set(i, i);
+        }
+    }
+
+    /**
+     * Adds an element to the end of the queue.
+     *
+     * @param element the element to add
+     * @throws IllegalStateException if the queue is full
+     */
+    @Override
+    public void add(T element) {
+        if (!offer(element)) {
+            throw new IllegalStateException("Queue is full");
+        }
+    }
+
+    /**
+     * Adds an element to the end of the queue if it is not full.
+     *
+     * @param element the element to add
+     * @return {@code true} if the element was added, {@code false} if the queue is full
+     */
+    public boolean offer(T element) {
+        Objects.requireNonNull(element);
+        long position = tail.get();
+        while (true) {
+            int index = (int) position & mask;
+            long difference = sequences.getAcquire(index) - position;
+            if (difference == 0) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    buffer[index] = element;
+                    sequences.setRelease(index, position + 1);
+                    return true;
+                }
+                position = tail.get();
+            } else if (difference < 0) {
+                return false;
+            } else {
+                position = tail.get();
+            }
+        }
+    }
+
+    /**
+     * Adds an element to the end of the queue, waiting up to the timeout for a free cell if the queue is full.
+     *
+     * @param element the element to add
+     * @param timeout how long to wait
+     * @param unit    a unit of the timeout
+     * @return {@code true} if the element was added, {@code false} if the queue stayed full until the timeout
+     * @throws InterruptedException if the thread was interrupted while waiting
+     */
+    public boolean offer(T element, long timeout, TimeUnit unit) throws InterruptedException {
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        for (int attempt = 0; ; attempt++) {
+            if (offer(element)) {
+                return true;
+            }
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                return false;
+            }
+            backOff(attempt, remaining);
+        }
+    }
+
+    /**
+     * Retrieves and removes queue head.
+     *
+     * @return an element that was retrieved from the head or null if queue is empty
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public T poll() {
+        long position = head.get();
+        while (true) {
+            int index = (int) position & mask;
+            long difference = sequences.getAcquire(index) - (position + 1);
+            if (difference == 0) {
+                if (head.compareAndSet(position, position + 1)) {
+                    T element = (T) buffer[index];
+                    buffer[index] = null;
+                    sequences.setRelease(index, position + buffer.length);
+                    return element;
+                }
+                position = head.get();
+            } else if (difference < 0) {
+                return null;
+            } else {
+                position = head.get();
+            }
+        }
+    }
+
+    /**
+     * Retrieves and removes queue head, waiting until an element is added if the queue is empty.
+     *
+     * @return an element that was retrieved from the head
+     * @throws InterruptedException if the thread was interrupted while waiting
+     */
+    public T take() throws InterruptedException {
+        for (int attempt = 0; ; attempt++) {
+            T element = poll();
+            if (element != null) {
+                return element;
+            }
+            backOff(attempt, MAX_PARK_NANOS);
+        }
+    }
+
+    /**
+     * Returns a size of the queue. The result is an estimate if the queue is modified concurrently.
+     *
+     * @return an integer value that is a size of queue
+     */
+    @Override
+    public int size() {
+        long consumed = head.get();
+        long produced = tail.get();
+        return (int) Math.max(0, Math.min(produced - consumed, buffer.length));
+    }
+
+    /**
+     * Checks if the queue is empty.
+     *
+     * @return {@code true} if the queue is empty, returns {@code false} if it's not
+     */
+    @Override
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /**
+     * @return the maximum number of elements the queue can hold
+     */
+    public int capacity() {
+        return buffer.length;
+    }
+
+    /**
+     * Spins for the first attempts, then parks the thread for a period that doubles with every attempt.
+     */
+    private static void backOff(int attempt, long maxNanos) throws InterruptedException {
+        if (Thread.interrupted()) {
+            throw new InterruptedException();
+        }
+        if (attempt < SPINS) {
+            Thread.onSpinWait();
+        } else {
+            int shift = Math.min(attempt - SPINS, 20);
+            LockSupport.parkNanos(Math.min(1L << shift, Math.min(maxNanos, MAX_PARK_NANOS)));
+        }
+    }
+
+    /**
+     * Seven longs before the value. Fields of a superclass are laid out before fields of a subclass, so the value
+     * never shares a cache line with fields of objects allocated before it.
+     */
+    @SuppressWarnings("unused")
+    private abstract static class LeftPadding {
+        long p01, p02, p03, p04, p05, p06, p07;
+    }
+
+    private abstract static class Value extends LeftPadding {
+        volatile long value;
+    }
+
+    /**
+     * A counter that takes a whole cache line, so updating it does not slow down reads of its neighbours.
+     */
+    @SuppressWarnings("unused")
+    private static final class PaddedCounter extends Value {
+        private static final VarHandle VALUE;
+
+        static {
+            try {
+                VALUE = MethodHandles.lookup().findVarHandle(Value.class, "value", long.class);
+            } catch (ReflectiveOperationException e) {
+                throw new ExceptionInInitializerError(e);
+            }
+        }
+
+        long p11, p12, p13, p14, p15, p16, p17;
+
+        long get() {
+            return value;
+        }
+
+        boolean compareAndSet(long expected, long newValue) {
+            return VALUE.compareAndSet(this, expected, newValue);
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.bobocode.cs;
+
+import java.util.Comparator;
+
+/**
+ * {@link BinaryHeapQueue} is a priority {@link Queue} based on a classic binary min-heap, where every node has two
+ * children. It is a {@link DaryHeapQueue} with {@code d = 2}, so {@link #poll()} always returns the smallest element
+ * according to the comparator.
+ *
+ * @param <T> a generic parameter
+ */
+public class BinaryHeapQueue<T> extends DaryHeapQueue<T> {
+
+    /**
+     * Creates a binary heap with provided comparator.
+     *
+     * @param comparator defines the order of elements, the smallest element is polled first
+     */
+    public BinaryHeapQueue(Comparator<? super T> comparator) {
+        super(2, comparator);
+    }
+
+    /**
+     * Creates a binary heap of {@link Comparable} elements in their natural order.
+     */
+    @SuppressWarnings("unchecked")
+    public BinaryHeapQueue() {
+        this((Comparator<? super T>) Comparator.naturalOrder());
+    }
+}
@@ -0,0 +1,170 @@
+package com.bobocode.cs;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Collection;
+import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * {@link ConcurrentLinkedQueue} is an unbounded FIFO {@link Queue} that is safe for many producers and many consumers
+ * without locks. It is the Michael–Scott queue, the algorithm behind {@link java.util.concurrent.ConcurrentLinkedQueue}.
+ * <p>
+ * Like {@link LinkedQueue}, it keeps references to the head and the tail of singly linked nodes, but the head always
+ * points to a dummy node, so producers and consumers never update the same reference when the queue has elements.
+ * {@link #add(Object)} links a new node after the last one with a compare-and-set of its next reference, then swings
+ * the tail to it. The tail may lag one node behind, and any thread that notices it moves the tail forward before doing
+ * its own work, so a stalled producer never blocks the others. {@link #poll()} swings the head to the next node, which
+ * becomes the new dummy.
+ * <p>
+ * The number of elements is kept in a {@link LongAdder}, so {@link #size()} does not make all the threads update the
+ * same counter, and is exact only when the queue is not modified concurrently.
+ *
+ * @param <T> a generic parameter
+ */
+public class ConcurrentLinkedQueue<T> implements Queue<T> {
+    private static final VarHandle HEAD;
+    private static final VarHandle TAIL;
+    private static final VarHandle NEXT;
+
+    static {
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            HEAD = lookup.findVarHandle(ConcurrentLinkedQueue.class, "head", Node.class);
+            TAIL = lookup.findVarHandle(ConcurrentLinkedQueue.class, "tail", Node.class);
+            NEXT = lookup.findVarHandle(Node.class, "next", Node.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private volatile Node<T> head;
+    private volatile Node<T> tail;
+    private final LongAdder size = new LongAdder();
+
+    static class Node<T> {
+        T element;
+        volatile Node<T> next;
+
+        Node(T element) {
+            this.element = element;
+        }
+    }
+
+    public ConcurrentLinkedQueue() {
+        head = tail = new Node<>(null);
+    }
+
+    /**
+     * Adds an element to the end of the queue.
+     *
+     * @param element the element to add
+     */
+    @Override
+    public void add(T element) {
+        Objects.requireNonNull(element);
+        Node<T> node = new Node<>(element);
+        while (true) {
+            Node<T> last = tail;
+            Node<T> next = last.next;
+            if (last != tail) {
+                continue;
+            }
+            if (next != null) {
+                TAIL.compareAndSet(this, last, next);
+            } else if (NEXT.compareAndSet(last, null, node)) {
+                TAIL.compareAndSet(this, last, node);
+                size.increment();
+                return;
+            }
+        }
+    }
+
+    /**
+     * Adds all elements of provided collection to the end of the queue. The elements are linked into a chain first,
+     * and the chain is attached with a single compare-and-set, so elements of other producers never get in between.
+     *
+     * @param elements elements to add
+     */
+    @Override
+    public void addAll(Collection<? extends T> elements) {
+        Node<T> first = null;
+        Node<T> chainEnd = null;
+        int count = 0;
+        for (T element : elements) {
+            Node<T> node = new Node<>(Objects.requireNonNull(element));
+            if (chainEnd == null) {
+                first = node;
+            } else {
+                chainEnd.next = node;
+            }
+            chainEnd = node;
+            count++;
+        }
+        if (first == null) {
+            return;
+        }
+        while (true) {
+            Node<T> last = tail;
+            Node<T> next = last.next;
+            if (last != tail) {
+                continue;
+            }
+            if (next != null) {
+                TAIL.compareAndSet(this, last, next);
+            } else if (NEXT.compareAndSet(last, null, first)) {
+                TAIL.compareAndSet(this, last, chainEnd);
+                size.add(count);
+                return;
+            }
+        }
+    }
+
+    /**
+     * Retrieves and removes queue head.
+     *
+     * @return an element that was retrieved from the head or null if queue is empty
+     */
+    @Override
+    public T poll() {
+        while (true) {
+            Node<T> first = head;
+            Node<T> last = tail;
+            Node<T> next = first.next;
+            if (first != head) {
+                continue;
+            }
+            if (next == null) {
+                return null;
+            }
+            if (first == last) {
+                TAIL.compareAndSet(this, last, next);
+            } else if (HEAD.compareAndSet(this, first, next)) {
+                T element = next.element;
+                next.element = null;
+                size.decrement();
+                return element;
+            }
+        }
+    }
+
+    /**
+     * Returns a size of the queue. The result is an estimate if the queue is modified concurrently.
+     *
+     * @return an integer value that is a size of queue
+     */
+    @Override
+    public int size() {
+        return (int) Math.max(0, size.sum());
+    }
+
+    /**
+     * Checks if the queue is empty.
+     *
+     * @return {@code true} if the queue is empty, returns {@code false} if it's not
+     */
+    @Override
+    public boolean isEmpty() {
+        return head.next == null;
+    }
+}
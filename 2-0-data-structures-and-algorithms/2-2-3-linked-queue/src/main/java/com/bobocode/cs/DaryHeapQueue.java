@@ -0,0 +1,213 @@
+package com.bobocode.cs;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Objects;
+
+/**
+ * {@link DaryHeapQueue} is a priority {@link Queue} based on a d-ary min-heap stored in an array. Unlike other queues
+ * of this module, it does not follow the FIFO rule: {@link #poll()} always returns the smallest element according to
+ * the comparator. Both {@link #add(Object)} and {@link #poll()} take O(log n) time.
+ * <p>
+ * The children of the node at index {@code i} are stored at indexes from {@code d * i + 1} to {@code d * i + d}, so
+ * all the children of a node lie next to each other. The heap has {@code log_d(n)} levels, so with {@code d = 4} it
+ * is half as deep as a binary heap. {@link #poll()} compares more children on each level, but they share a cache
+ * line, while every level it goes down is likely to be a cache miss. That is why a 4-ary heap usually beats a binary
+ * one on large queues, and it is the default arity.
+ *
+ * @param <T> a generic parameter
+ */
+public class DaryHeapQueue<T> implements Queue<T> {
+    private static final int DEFAULT_ARITY = 4;
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private final int arity;
+    private final Comparator<? super T> comparator;
+    private Object[] elements;
+    private int size;
+
+    /**
+     * Creates a heap with provided number of children per node.
+     *
+     * @param arity      number of children of every node, at least 2
+     * @param comparator defines the order of elements, the smallest element is polled first
+     * @throws IllegalArgumentException if arity is less than 2
+     */
+    public DaryHeapQueue(int arity, Comparator<? super T> comparator) {
+        if (arity < 2) {
+            throw new IllegalArgumentException("Arity should be at least 2, but was " + arity);
+        }
+        this.arity = arity;
+        this.comparator = Objects.requireNonNull(comparator);
+        this.elements = new Object[DEFAULT_CAPACITY];
+    }
+
+    /**
+     * Creates a 4-ary heap with provided comparator.
+     *
+     * @param comparator defines the order of elements, the smallest element is polled first
+     */
+    public DaryHeapQueue(Comparator<? super T> comparator) {
+        this(DEFAULT_ARITY, comparator);
+    }
+
+    /**
+     * Creates a 4-ary heap of {@link Comparable} elements in their natural order.
+     */
+    @SuppressWarnings("unchecked")
+    public DaryHeapQueue() {
+        this((Comparator<? super T>) Comparator.naturalOrder());
+    }
+
+    /**
+     * Adds an element to the heap, moving it up until its parent is not greater than it.
+     *
+     * @param element the element to add
+     */
+    @Override
+    public void add(T element) {
+        Objects.requireNonNull(element);
+        ensureCapacity(size + 1);
+        siftUp(size++, element);
+    }
+
+    /**
+     * Adds all elements of provided collection to the heap. If the collection is larger than the heap, the elements
+     * are appended and the whole heap is rebuilt bottom-up in O(n) time, otherwise they are added one by one.
+     * <p>
+     * The collection is copied into an array first, and the heap is not changed if any of its elements is null.
+     *
+     * @param elements elements to add
+     * @throws NullPointerException if the collection or any of its elements is null
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public void addAll(Collection<? extends T> elements) {
+        Object[] added = elements.toArray();
+        for (Object element : added) {
+            Objects.requireNonNull(element);
+        }
+        if (added.length <= size) {
+            for (Object element : added) {
+                add((T) element);
+            }
+            return;
+        }
+        ensureCapacity(size + added.length);
+        System.arraycopy(added, 0, this.elements, size, added.length);
+        size += added.length;
+        for (int i = parent(size - 1); i >= 0; i--) {
+            siftDown(i, elementAt(i));
+        }
+    }
+
+    /**
+     * Retrieves and removes the smallest element. The last element takes its place and moves down until none of its
+     * children is smaller than it.
+     *
+     * @return the smallest element or null if queue is empty
+     */
+    @Override
+    public T poll() {
+        if (size == 0) {
+            return null;
+        }
+        T first = elementAt(0);
+        T last = elementAt(--size);
+        elements[size] = null;
+        if (size > 0) {
+            siftDown(0, last);
+        }
+        return first;
+    }
+
+    /**
+     * Retrieves the smallest element without removing it.
+     *
+     * @return the smallest element or null if queue is empty
+     */
+    public T peek() {
+        return size == 0 ? null : elementAt(0);
+    }
+
+    /**
+     * Returns a size of the queue.
+     *
+     * @return an integer value that is a size of queue
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Checks if the queue is empty.
+     *
+     * @return {@code true} if the queue is empty, returns {@code false} if it's not
+     */
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Moves the hole at provided index up while its parent is greater than the element, then puts the element there.
+     */
+    private void siftUp(int index, T element) {
+        while (index > 0) {
+            int parent = parent(index);
+            T parentElement = elementAt(parent);
+            if (comparator.compare(element, parentElement) >= 0) {
+                break;
+            }
+            elements[index] = parentElement;
+            index = parent;
+        }
+        elements[index] = element;
+    }
+
+    /**
+     * Moves the hole at provided index down while its smallest child is less than the element, then puts the element
+     * there.
+     */
+    private void siftDown(int index, T element) {
+        while (true) {
+            int firstChild = arity * index + 1;
+            if (firstChild >= size) {
+                break;
+            }
+            int lastChild = Math.min(firstChild + arity, size);
+            int smallest = firstChild;
+            T smallestElement = elementAt(firstChild);
+            for (int child = firstChild + 1; child < lastChild; child++) {
+                T childElement = elementAt(child);
+                if (comparator.compare(childElement, smallestElement) < 0) {
+                    smallest = child;
+                    smallestElement = childElement;
+                }
+            }
+            if (comparator.compare(smallestElement, element) >= 0) {
+                break;
+            }
+            elements[index] = smallestElement;
+            index = smallest;
+        }
+        elements[index] = element;
+    }
+
+    private int parent(int index) {
+        return (index - 1) / arity;
+    }
+
+    @SuppressWarnings("unchecked")
+    private T elementAt(int index) {
+        return (T) elements[index];
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity > elements.length) {
+            elements = Arrays.copyOf(elements, Math.max(capacity, elements.length * 2));
+        }
+    }
+}
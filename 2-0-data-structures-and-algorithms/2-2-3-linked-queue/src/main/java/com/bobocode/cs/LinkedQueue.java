@@ -1,15 +1,35 @@
 package com.bobocode.cs;
 
-import com.bobocode.util.ExerciseNotCompletedException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Consumer;
 
 /**
  * {@link LinkedQueue} implements FIFO {@link Queue}, using singly linked nodes. Nodes are stores in instances of nested
  * class Node. In order to perform operations {@link LinkedQueue#add(Object)} and {@link LinkedQueue#poll()}
  * in a constant time, it keeps to references to the head and tail of the queue.
+ * <p>
+ * Batch operations work with whole chains of nodes. {@link LinkedQueue#addAll(Collection)} links new nodes to each
+ * other first and attaches the chain to the tail in one step, while {@link LinkedQueue#drainTo(Consumer, int)} and
+ * {@link LinkedQueue#pollBatch(int)} detach a chain from the head in one step and only then go through its elements.
  *
  * @param <T> a generic parameter
  */
 public class LinkedQueue<T> implements Queue<T> {
+    private Node<T> head;
+    private Node<T> tail;
+    private int size;
+
+    static class Node<T> {
+        T element;
+        Node<T> next;
+
+        Node(T element) {
+            this.element = element;
+        }
+    }
 
     /**
      * Adds an element to the end of the queue.
@@ -17,7 +37,15 @@ public class LinkedQueue<T> implements Queue<T> {
      * @param element the element to add
      */
     public void add(T element) {
-        throw new ExerciseNotCompletedException(); // todo: implement this method
+        Objects.requireNonNull(element);
+        Node<T> node = new Node<>(element);
+        if (tail == null) {
+            head = node;
+        } else {
+            tail.next = node;
+        }
+        tail = node;
+        size++;
     }
 
     /**
@@ -26,7 +54,16 @@ public class LinkedQueue<T> implements Queue<T> {
      * @return an element that was retrieved from the head or null if queue is empty
      */
     public T poll() {
-        throw new ExerciseNotCompletedException(); // todo: implement this method
+        if (head == null) {
+            return null;
+        }
+        T element = head.element;
+        head = head.next;
+        if (head == null) {
+            tail = null;
+        }
+        size--;
+        return element;
     }
 
     /**
@@ -35,7 +72,7 @@ public class LinkedQueue<T> implements Queue<T> {
      * @return an integer value that is a size of queue
      */
     public int size() {
-        throw new ExerciseNotCompletedException(); // todo: implement this method
+        return size;
     }
 
     /**
@@ -44,6 +81,130 @@ public class LinkedQueue<T> implements Queue<T> {
      * @return {@code true} if the queue is empty, returns {@code false} if it's not
      */
     public boolean isEmpty() {
-        throw new ExerciseNotCompletedException(); // todo: implement this method
+        return head == null;
+    }
+
+    /**
+     * Adds all elements of provided collection to the end of the queue, linking them into a chain first. If any of the
+     * elements is null, the queue is not changed.
+     *
+     * @param elements elements to add
+     */
+    @Override
+    public void addAll(Collection<? extends T> elements) {
+        Node<T> first = null;
+        Node<T> last = null;
+        int count = 0;
+        for (T element : elements) {
+            Node<T> node = new Node<>(Objects.requireNonNull(element));
+            if (last == null) {
+                first = node;
+            } else {
+                last.next = node;
+            }
+            last = node;
+            count++;
+        }
+        if (first != null) {
+            if (tail == null) {
+                head = first;
+            } else {
+                tail.next = first;
+            }
+            tail = last;
+            size += count;
+        }
+    }
+
+    /**
+     * Detaches a chain of up to provided number of nodes from the head of the queue, then passes their elements to
+     * the consumer. If the consumer throws an exception, the nodes it has not got yet are attached back to the head.
+     *
+     * @param consumer    accepts removed elements
+     * @param maxElements the maximum number of elements to remove
+     * @return the number of removed elements
+     */
+    @Override
+    public int drainTo(Consumer<? super T> consumer, int maxElements) {
+        Objects.requireNonNull(consumer);
+        int count = Math.min(checkBatchSize(maxElements), size);
+        Node<T> node = detach(count);
+        try {
+            while (node != null) {
+                Node<T> current = node;
+                node = node.next;
+                consumer.accept(current.element);
+            }
+        } finally {
+            if (node != null) {
+                attachToHead(node);
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Detaches a chain of up to n nodes from the head of the queue, and collects their elements.
+     *
+     * @param n the maximum number of elements to remove
+     * @return a list of removed elements in the queue order, empty if the queue is empty
+     */
+    @Override
+    public List<T> pollBatch(int n) {
+        int count = Math.min(checkBatchSize(n), size);
+        List<T> batch = new ArrayList<>(count);
+        for (Node<T> node = detach(count); node != null; node = node.next) {
+            batch.add(node.element);
+        }
+        return batch;
+    }
+
+    /**
+     * Cuts the first count nodes off the queue. The whole queue is taken without walking through it.
+     *
+     * @return the first node of the detached chain, which ends with null, or null if count is zero
+     */
+    private Node<T> detach(int count) {
+        if (count == 0) {
+            return null;
+        }
+        Node<T> first = head;
+        if (count == size) {
+            head = tail = null;
+        } else {
+            Node<T> last = first;
+            for (int i = 1; i < count; i++) {
+                last = last.next;
+            }
+            head = last.next;
+            last.next = null;
+        }
+        size -= count;
+        return first;
+    }
+
+    /**
+     * Puts a chain of nodes that ends with null back in front of the head of the queue.
+     */
+    private void attachToHead(Node<T> first) {
+        Node<T> last = first;
+        int count = 1;
+        while (last.next != null) {
+            last = last.next;
+            count++;
+        }
+        last.next = head;
+        if (head == null) {
+            tail = last;
+        }
+        head = first;
+        size += count;
+    }
+
+    private static int checkBatchSize(int n) {
+        if (n < 0) {
+            throw new IllegalArgumentException("Number of elements should not be negative, but was " + n);
+        }
+        return n;
     }
 }
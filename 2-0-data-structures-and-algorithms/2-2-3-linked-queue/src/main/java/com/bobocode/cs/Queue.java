@@ -1,5 +1,11 @@
 package com.bobocode.cs;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Consumer;
+
 /**
  * Queue is a data structure that follows "first in, first out" rule (FIFO). Operations {@link Queue#add(Object)} and
  * {@link Queue#poll()} are performed in constant time O(1)
@@ -32,4 +38,56 @@ public interface Queue<T> {
      * @return {@code true} if the queue is empty, returns {@code false} if it's not
      */
     boolean isEmpty();
+
+    /**
+     * Adds all elements of provided collection to the end of the queue, in the order they are returned by the
+     * collection iterator. The default implementation adds elements one by one.
+     *
+     * @param elements elements to add
+     */
+    default void addAll(Collection<? extends T> elements) {
+        for (T element : elements) {
+            add(element);
+        }
+    }
+
+    /**
+     * Removes up to provided number of elements from the head of the queue and passes them to the consumer in the
+     * queue order. The default implementation polls elements one by one.
+     * <p>
+     * If the consumer throws an exception, the exception is propagated. The element the consumer has thrown on is
+     * removed, and the elements that have not been passed to the consumer stay in the queue in the same order.
+     *
+     * @param consumer    accepts removed elements
+     * @param maxElements the maximum number of elements to remove
+     * @return the number of removed elements
+     * @throws IllegalArgumentException if maxElements is negative
+     * @throws NullPointerException     if the consumer is null, before any element is removed
+     */
+    default int drainTo(Consumer<? super T> consumer, int maxElements) {
+        Objects.requireNonNull(consumer);
+        if (maxElements < 0) {
+            throw new IllegalArgumentException("Number of elements should not be negative, but was " + maxElements);
+        }
+        int drained = 0;
+        T element;
+        while (drained < maxElements && (element = poll()) != null) {
+            consumer.accept(element);
+            drained++;
+        }
+        return drained;
+    }
+
+    /**
+     * Retrieves and removes up to provided number of elements from the head of the queue.
+     *
+     * @param n the maximum number of elements to remove
+     * @return a list of removed elements in the queue order, empty if the queue is empty
+     * @throws IllegalArgumentException if n is negative
+     */
+    default List<T> pollBatch(int n) {
+        List<T> batch = new ArrayList<>(Math.max(0, Math.min(n, size())));
+        drainTo(batch::add, n);
+        return batch;
+    }
 }
@@ -0,0 +1,165 @@
+package com.bobocode.cs;
+
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+
+class ArrayBlockingRingQueueTest {
+    private static final int PRODUCERS = 4;
+    private static final int CONSUMERS = 4;
+    private static final int ELEMENTS_PER_PRODUCER = 100_000;
+
+    private final ArrayBlockingRingQueue<Integer> queue = new ArrayBlockingRingQueue<>(4);
+
+    @Test
+    void capacityIsRoundedUpToPowerOfTwo() {
+        assertThat(new ArrayBlockingRingQueue<>(1).capacity()).isEqualTo(1);
+        assertThat(new ArrayBlockingRingQueue<>(5).capacity()).isEqualTo(8);
+        assertThat(new ArrayBlockingRingQueue<>(1024).capacity()).isEqualTo(1024);
+        assertThatIllegalArgumentException().isThrownBy(() -> new ArrayBlockingRingQueue<>(0));
+    }
+
+    @Test
+    void addAndPollInFifoOrder() {
+        queue.add(1);
+        queue.add(2);
+        queue.add(3);
+
+        assertThat(queue.size()).isEqualTo(3);
+        assertThat(queue.poll()).isEqualTo(1);
+        assertThat(queue.poll()).isEqualTo(2);
+        assertThat(queue.poll()).isEqualTo(3);
+        assertThat(queue.poll()).isNull();
+        assertThat(queue.isEmpty()).isTrue();
+    }
+
+    @Test
+    void addThrowsExceptionWhenElementIsNull() {
+        assertThatNullPointerException().isThrownBy(() -> queue.add(null));
+    }
+
+    @Test
+    void addThrowsExceptionWhenQueueIsFull() {
+        for (int i = 0; i < 4; i++) {
+            queue.add(i);
+        }
+
+        assertThat(queue.offer(4)).isFalse();
+        assertThatIllegalStateException().isThrownBy(() -> queue.add(4));
+    }
+
+    @Test
+    void ringWrapsAround() {
+        for (int i = 0; i < 1000; i++) {
+            queue.add(i);
+            queue.add(-i);
+            assertThat(queue.poll()).isEqualTo(i);
+            assertThat(queue.poll()).isEqualTo(-i);
+        }
+        assertThat(queue.isEmpty()).isTrue();
+    }
+
+    @Test
+    @SneakyThrows
+    void offerWithTimeoutReturnsFalseWhenQueueStaysFull() {
+        for (int i = 0; i < 4; i++) {
+            queue.add(i);
+        }
+
+        long start = System.nanoTime();
+        assertThat(queue.offer(4, 20, TimeUnit.MILLISECONDS)).isFalse();
+        assertThat(System.nanoTime() - start).isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(20));
+    }
+
+    @Test
+    @SneakyThrows
+    void offerWithTimeoutWaitsForFreeCell() {
+        for (int i = 0; i < 4; i++) {
+            queue.add(i);
+        }
+
+        CompletableFuture.runAsync(() -> {
+            sleep(20);
+            queue.poll();
+        });
+
+        assertThat(queue.offer(4, 10, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    @SneakyThrows
+    void takeWaitsForElement() {
+        CompletableFuture.runAsync(() -> {
+            sleep(20);
+            queue.add(42);
+        });
+
+        assertThat(queue.take()).isEqualTo(42);
+    }
+
+    @Test
+    @SneakyThrows
+    void multipleProducersAndConsumersHandOverEveryElementOnce() {
+        ArrayBlockingRingQueue<Integer> queue = new ArrayBlockingRingQueue<>(1024);
+        ExecutorService executor = Executors.newFixedThreadPool(PRODUCERS + CONSUMERS);
+        CountDownLatch start = new CountDownLatch(1);
+        for (int p = 0; p < PRODUCERS; p++) {
+            int producer = p;
+            executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < ELEMENTS_PER_PRODUCER; i++) {
+                    while (!queue.offer(producer * ELEMENTS_PER_PRODUCER + i, 1, TimeUnit.SECONDS)) {
+                        Thread.onSpinWait();
+                    }
+                }
+                return null;
+            });
+        }
+        List<Future<List<Integer>>> consumed = new ArrayList<>();
+        for (int c = 0; c < CONSUMERS; c++) {
+            consumed.add(executor.submit(() -> {
+                start.await();
+                List<Integer> elements = new ArrayList<>();
+                for (int i = 0; i < ELEMENTS_PER_PRODUCER; i++) {
+                    elements.add(queue.take());
+                }
+                return elements;
+            }));
+        }
+        start.countDown();
+
+        boolean[] seen = new boolean[PRODUCERS * ELEMENTS_PER_PRODUCER];
+        for (Future<List<Integer>> future : consumed) {
+            int[] lastByProducer = new int[PRODUCERS];
+            Arrays.fill(lastByProducer, -1);
+            for (int element : future.get(1, TimeUnit.MINUTES)) {
+                assertThat(seen[element]).isFalse();
+                seen[element] = true;
+                int producer = element / ELEMENTS_PER_PRODUCER;
+                assertThat(element).isGreaterThan(lastByProducer[producer]);
+                lastByProducer[producer] = element;
+            }
+        }
+        executor.shutdown();
+        assertThat(queue.isEmpty()).isTrue();
+    }
+
+    @SneakyThrows
+    private static void sleep(long millis) {
+        Thread.sleep(millis);
+    }
+}
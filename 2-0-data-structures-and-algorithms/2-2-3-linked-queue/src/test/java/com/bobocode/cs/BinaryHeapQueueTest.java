@@ -0,0 +1,29 @@
+package com.bobocode.cs;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Comparator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BinaryHeapQueueTest {
+
+    @Test
+    void pollReturnsElementsInNaturalOrder() {
+        BinaryHeapQueue<Integer> queue = new BinaryHeapQueue<>();
+        queue.addAll(List.of(7, 3, 9, 1, 5));
+
+        assertThat(queue.pollBatch(5)).containsExactly(1, 3, 5, 7, 9);
+    }
+
+    @Test
+    void pollReturnsElementsInComparatorOrder() {
+        BinaryHeapQueue<Integer> queue = new BinaryHeapQueue<>(Comparator.reverseOrder());
+        for (int element : new int[]{7, 3, 9, 1, 5}) {
+            queue.add(element);
+        }
+
+        assertThat(queue.pollBatch(5)).containsExactly(9, 7, 5, 3, 1);
+    }
+}
@@ -0,0 +1,109 @@
+package com.bobocode.cs;
+
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+
+class ConcurrentLinkedQueueTest {
+    private static final int PRODUCERS = 4;
+    private static final int CONSUMERS = 4;
+    private static final int ELEMENTS_PER_PRODUCER = 100_000;
+
+    private final ConcurrentLinkedQueue<Integer> queue = new ConcurrentLinkedQueue<>();
+
+    @Test
+    void addAndPollInFifoOrder() {
+        queue.add(1);
+        queue.add(2);
+        queue.add(3);
+
+        assertThat(queue.size()).isEqualTo(3);
+        assertThat(queue.poll()).isEqualTo(1);
+        assertThat(queue.poll()).isEqualTo(2);
+        assertThat(queue.poll()).isEqualTo(3);
+        assertThat(queue.poll()).isNull();
+        assertThat(queue.isEmpty()).isTrue();
+        assertThat(queue.size()).isEqualTo(0);
+    }
+
+    @Test
+    void addThrowsExceptionWhenElementIsNull() {
+        assertThatNullPointerException().isThrownBy(() -> queue.add(null));
+    }
+
+    @Test
+    void addAllAndPollBatch() {
+        queue.add(1);
+        queue.addAll(List.of(2, 3, 4));
+
+        assertThat(queue.size()).isEqualTo(4);
+        assertThat(queue.pollBatch(3)).containsExactly(1, 2, 3);
+        queue.add(5);
+        assertThat(queue.pollBatch(3)).containsExactly(4, 5);
+    }
+
+    @Test
+    @SneakyThrows
+    void multipleProducersAndConsumersHandOverEveryElementOnce() {
+        ExecutorService executor = Executors.newFixedThreadPool(PRODUCERS + CONSUMERS);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger remaining = new AtomicInteger(PRODUCERS * ELEMENTS_PER_PRODUCER);
+        for (int p = 0; p < PRODUCERS; p++) {
+            int producer = p;
+            executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < ELEMENTS_PER_PRODUCER; i++) {
+                    queue.add(producer * ELEMENTS_PER_PRODUCER + i);
+                }
+                return null;
+            });
+        }
+        List<Future<List<Integer>>> consumed = new ArrayList<>();
+        for (int c = 0; c < CONSUMERS; c++) {
+            consumed.add(executor.submit(() -> {
+                start.await();
+                List<Integer> elements = new ArrayList<>();
+                while (remaining.get() > 0) {
+                    Integer element = queue.poll();
+                    if (element != null) {
+                        elements.add(element);
+                        remaining.decrementAndGet();
+                    }
+                }
+                return elements;
+            }));
+        }
+        start.countDown();
+
+        boolean[] seen = new boolean[PRODUCERS * ELEMENTS_PER_PRODUCER];
+        int total = 0;
+        for (Future<List<Integer>> future : consumed) {
+            int[] lastByProducer = new int[PRODUCERS];
+            Arrays.fill(lastByProducer, -1);
+            for (int element : future.get(1, TimeUnit.MINUTES)) {
+                assertThat(seen[element]).isFalse();
+                seen[element] = true;
+                int producer = element / ELEMENTS_PER_PRODUCER;
+                assertThat(element).isGreaterThan(lastByProducer[producer]);
+                lastByProducer[producer] = element;
+                total++;
+            }
+        }
+        executor.shutdown();
+        assertThat(total).isEqualTo(PRODUCERS * ELEMENTS_PER_PRODUCER);
+        assertThat(queue.isEmpty()).isTrue();
+        assertThat(queue.size()).isEqualTo(0);
+    }
+}
@@ -0,0 +1,141 @@
+package com.bobocode.cs;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.AbstractCollection;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Random;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+
+class DaryHeapQueueTest {
+
+    private final DaryHeapQueue<Integer> queue = new DaryHeapQueue<>();
+
+    @Test
+    void pollReturnsSmallestElement() {
+        queue.add(5);
+        queue.add(1);
+        queue.add(3);
+
+        assertThat(queue.peek()).isEqualTo(1);
+        assertThat(queue.poll()).isEqualTo(1);
+        assertThat(queue.poll()).isEqualTo(3);
+        assertThat(queue.poll()).isEqualTo(5);
+        assertThat(queue.poll()).isNull();
+        assertThat(queue.peek()).isNull();
+    }
+
+    @Test
+    void comparatorDefinesOrder() {
+        DaryHeapQueue<String> queue = new DaryHeapQueue<>(Comparator.comparing(String::length));
+        queue.add("three");
+        queue.add("a");
+        queue.add("to");
+
+        assertThat(queue.poll()).isEqualTo("a");
+        assertThat(queue.poll()).isEqualTo("to");
+        assertThat(queue.poll()).isEqualTo("three");
+    }
+
+    @Test
+    void addThrowsExceptionWhenElementIsNull() {
+        assertThatNullPointerException().isThrownBy(() -> queue.add(null));
+    }
+
+    @Test
+    void constructorThrowsExceptionWhenArityIsLessThanTwo() {
+        assertThatIllegalArgumentException().isThrownBy(() -> new DaryHeapQueue<Integer>(1, Comparator.naturalOrder()));
+    }
+
+    @Test
+    void sizeAndIsEmpty() {
+        assertThat(queue.isEmpty()).isTrue();
+        queue.add(1);
+        queue.add(2);
+        queue.poll();
+
+        assertThat(queue.size()).isEqualTo(1);
+        assertThat(queue.isEmpty()).isFalse();
+    }
+
+    @Test
+    void addAllRebuildsHeap() {
+        queue.add(50);
+        List<Integer> elements = IntStream.range(0, 100).map(i -> 99 - i).boxed().collect(Collectors.toList());
+
+        queue.addAll(elements);
+
+        assertThat(queue.size()).isEqualTo(101);
+        List<Integer> polled = queue.pollBatch(101);
+        assertThat(polled).isSorted().hasSize(101);
+    }
+
+    @Test
+    void addAllDoesNotChangeHeapWhenElementIsNull() {
+        queue.addAll(List.of(5, 6, 7));
+
+        assertThatNullPointerException().isThrownBy(() -> queue.addAll(Arrays.asList(1, null)));
+
+        assertThat(queue.size()).isEqualTo(3);
+        assertThat(queue.pollBatch(10)).containsExactly(5, 6, 7);
+    }
+
+    @Test
+    void addAllTakesAllElementsOfCollectionWithWrongSize() {
+        queue.add(50);
+        Collection<Integer> elements = new AbstractCollection<>() {
+            private final List<Integer> actual = IntStream.range(0, 100).map(i -> 99 - i).boxed()
+                    .collect(Collectors.toList());
+
+            @Override
+            public Iterator<Integer> iterator() {
+                return actual.iterator();
+            }
+
+            @Override
+            public int size() {
+                return 2;
+            }
+        };
+
+        queue.addAll(elements);
+
+        assertThat(queue.size()).isEqualTo(101);
+        assertThat(queue.pollBatch(101)).isSorted().hasSize(101);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {2, 3, 4, 8})
+    void behavesLikePriorityQueue(int arity) {
+        DaryHeapQueue<Integer> queue = new DaryHeapQueue<>(arity, Comparator.naturalOrder());
+        PriorityQueue<Integer> expected = new PriorityQueue<>();
+        Random random = new Random(arity);
+
+        for (int i = 0; i < 20_000; i++) {
+            if (random.nextInt(3) == 0) {
+                assertThat(queue.poll()).isEqualTo(expected.poll());
+            } else {
+                int element = random.nextInt(1000);
+                queue.add(element);
+                expected.add(element);
+            }
+            assertThat(queue.size()).isEqualTo(expected.size());
+        }
+        List<Integer> rest = new ArrayList<>();
+        queue.drainTo(rest::add, Integer.MAX_VALUE);
+        assertThat(rest).isSorted().hasSize(expected.size());
+    }
+}
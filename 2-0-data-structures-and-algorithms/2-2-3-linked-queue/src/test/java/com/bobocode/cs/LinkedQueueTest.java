@@ -9,10 +9,15 @@ import org.junit.jupiter.api.TestMethodOrder;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
 import java.lang.reflect.Modifier;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 import java.util.function.Predicate;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
 
 @TestMethodOrder(MethodOrderer.OrderAnnotation.class)
 public class LinkedQueueTest {
@@ -219,6 +224,117 @@ public class LinkedQueueTest {
         assertThat(isEmpty).isEqualTo(false);
     }
 
+    @Test
+    @Order(16)
+    void addAllAppendsElementsInOrder() {
+        addIntElementToQueue(1);
+
+        integerQueue.addAll(List.of(2, 3, 4));
+
+        assertThat(getInternalSize()).isEqualTo(4);
+        assertThat(pollElementFromQueue()).isEqualTo(1);
+        assertThat(pollElementFromQueue()).isEqualTo(2);
+        assertThat(pollElementFromQueue()).isEqualTo(3);
+        assertThat(pollElementFromQueue()).isEqualTo(4);
+        assertThat(isEmptyQueue()).isTrue();
+    }
+
+    @Test
+    @Order(17)
+    void addAllDoesNotChangeQueueWhenElementIsNull() {
+        addIntElementToQueue(1);
+
+        assertThatNullPointerException().isThrownBy(() -> integerQueue.addAll(Arrays.asList(2, null, 4)));
+
+        assertThat(getInternalSize()).isEqualTo(1);
+        assertThat(integerQueue.poll()).isEqualTo(1);
+        assertThat(integerQueue.poll()).isNull();
+    }
+
+    @Test
+    @Order(18)
+    void drainToRemovesUpToMaxElements() {
+        addIntElementToQueue(1);
+        addIntElementToQueue(2);
+        addIntElementToQueue(3);
+        List<Integer> drained = new ArrayList<>();
+
+        int count = integerQueue.drainTo(drained::add, 2);
+
+        assertThat(count).isEqualTo(2);
+        assertThat(drained).containsExactly(1, 2);
+        assertThat(getInternalSize()).isEqualTo(1);
+        assertThat(pollElementFromQueue()).isEqualTo(3);
+    }
+
+    @Test
+    @Order(19)
+    void drainToRemovesAllElementsWhenMaxElementsExceedsSize() {
+        addIntElementToQueue(1);
+        addIntElementToQueue(2);
+        List<Integer> drained = new ArrayList<>();
+
+        int count = integerQueue.drainTo(drained::add, 512);
+
+        assertThat(count).isEqualTo(2);
+        assertThat(drained).containsExactly(1, 2);
+        assertThat(isEmptyQueue()).isTrue();
+        integerQueue.add(3);
+        assertThat(integerQueue.poll()).isEqualTo(3);
+    }
+
+    @Test
+    @Order(20)
+    void pollBatch() {
+        integerQueue.addAll(List.of(1, 2, 3, 4, 5));
+
+        assertThat(integerQueue.pollBatch(3)).containsExactly(1, 2, 3);
+        assertThat(integerQueue.pollBatch(3)).containsExactly(4, 5);
+        assertThat(integerQueue.pollBatch(3)).isEmpty();
+        assertThat(integerQueue.size()).isEqualTo(0);
+    }
+
+    @Test
+    @Order(21)
+    void pollBatchThrowsExceptionWhenSizeIsNegative() {
+        assertThatIllegalArgumentException().isThrownBy(() -> integerQueue.pollBatch(-1));
+    }
+
+    @Test
+    @Order(22)
+    void drainToDoesNotChangeQueueWhenConsumerIsNull() {
+        addIntElementToQueue(1);
+        addIntElementToQueue(2);
+
+        assertThatNullPointerException().isThrownBy(() -> integerQueue.drainTo(null, 2));
+
+        assertThat(getInternalSize()).isEqualTo(2);
+        assertThat(pollElementFromQueue()).isEqualTo(1);
+        assertThat(pollElementFromQueue()).isEqualTo(2);
+    }
+
+    @Test
+    @Order(23)
+    void drainToKeepsUndeliveredElementsWhenConsumerThrows() {
+        integerQueue.addAll(List.of(1, 2, 3, 4, 5));
+        List<Integer> drained = new ArrayList<>();
+
+        assertThatIllegalStateException().isThrownBy(() -> integerQueue.drainTo(element -> {
+            if (element == 3) {
+                throw new IllegalStateException();
+            }
+            drained.add(element);
+        }, 5));
+
+        assertThat(drained).containsExactly(1, 2);
+        assertThat(integerQueue.size()).isEqualTo(2);
+        assertThat(integerQueue.poll()).isEqualTo(4);
+        assertThat(integerQueue.poll()).isEqualTo(5);
+        assertThat(integerQueue.poll()).isNull();
+        integerQueue.add(6);
+        assertThat(integerQueue.poll()).isEqualTo(6);
+    }
+
 
     private Class<?> getInnerStaticNodeClass() {
         return Arrays.stream(integerQueue.getClass().getDeclaredClasses())
@@ -1,15 +1,38 @@
 package com.bobocode.cs;
 
-
-import com.bobocode.util.ExerciseNotCompletedException;
+import java.util.Collection;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
 
 /**
  * {@link LinkedList} is a list implementation that is based on singly linked generic nodes. A node is implemented as
  * inner static class {@link Node<T>}.
+ * <p>
+ * Its iterators are fail-fast: if the list is structurally modified after an iterator is created, in any way except
+ * through the iterator's own remove method, the iterator throws {@link ConcurrentModificationException}.
  *
  * @param <T> generic type parameter
  */
-public class LinkedList<T> implements List<T> {
+public class LinkedList<T> implements List<T>, ModificationTracking {
+    private Node<T> head;
+    private Node<T> tail;
+    private int size;
+    private int modCount;
+
+    static class Node<T> {
+        T element;
+        Node<T> next;
+
+        Node(T element) {
+            this.element = element;
+        }
+    }
 
     /**
      * This method creates a list of provided elements
@@ -19,7 +42,11 @@ public class LinkedList<T> implements List<T> {
      * @return a new list of elements the were passed as method parameters
      */
     public static <T> LinkedList<T> of(T... elements) {
-        throw new ExerciseNotCompletedException(); // todo: implement this method
+        LinkedList<T> list = new LinkedList<>();
+        for (T element : elements) {
+            list.add(element);
+        }
+        return list;
     }
 
     /**
@@ -29,7 +56,15 @@ public class LinkedList<T> implements List<T> {
      */
     @Override
     public void add(T element) {
-        throw new ExerciseNotCompletedException(); // todo: implement this method
+        Node<T> newNode = new Node<>(element);
+        if (head == null) {
+            head = newNode;
+        } else {
+            tail.next = newNode;
+        }
+        tail = newNode;
+        size++;
+        modCount++;
     }
 
     /**
@@ -41,7 +76,22 @@ public class LinkedList<T> implements List<T> {
      */
     @Override
     public void add(int index, T element) {
-        throw new ExerciseNotCompletedException(); // todo: implement this method
+        Objects.checkIndex(index, size + 1);
+        if (index == size) {
+            add(element);
+            return;
+        }
+        Node<T> newNode = new Node<>(element);
+        if (index == 0) {
+            newNode.next = head;
+            head = newNode;
+        } else {
+            Node<T> previous = nodeAt(index - 1);
+            newNode.next = previous.next;
+            previous.next = newNode;
+        }
+        size++;
+        modCount++;
     }
 
     /**
@@ -53,7 +103,8 @@ public class LinkedList<T> implements List<T> {
      */
     @Override
     public void set(int index, T element) {
-        throw new ExerciseNotCompletedException(); // todo: implement this method
+        Objects.checkIndex(index, size);
+        nodeAt(index).element = element;
     }
 
     /**
@@ -65,7 +116,8 @@ public class LinkedList<T> implements List<T> {
      */
     @Override
     public T get(int index) {
-        throw new ExerciseNotCompletedException(); // todo: implement this method
+        Objects.checkIndex(index, size);
+        return nodeAt(index).element;
     }
 
     /**
@@ -76,7 +128,8 @@ public class LinkedList<T> implements List<T> {
      */
     @Override
     public T getFirst() {
-        throw new ExerciseNotCompletedException(); // todo: implement this method
+        checkNotEmpty();
+        return head.element;
     }
 
     /**
@@ -87,7 +140,8 @@ public class LinkedList<T> implements List<T> {
      */
     @Override
     public T getLast() {
-        throw new ExerciseNotCompletedException(); // todo: implement this method
+        checkNotEmpty();
+        return tail.element;
     }
 
     /**
@@ -99,7 +153,16 @@ public class LinkedList<T> implements List<T> {
      */
     @Override
     public T remove(int index) {
-        throw new ExerciseNotCompletedException(); // todo: implement this method
+        Objects.checkIndex(index, size);
+        if (index == 0) {
+            T removed = head.element;
+            unlinkNext(null);
+            return removed;
+        }
+        Node<T> previous = nodeAt(index - 1);
+        T removed = previous.next.element;
+        unlinkNext(previous);
+        return removed;
     }
 
 
@@ -110,7 +173,12 @@ public class LinkedList<T> implements List<T> {
      */
     @Override
     public boolean contains(T element) {
-        throw new ExerciseNotCompletedException(); // todo: implement this method
+        for (Node<T> current = head; current != null; current = current.next) {
+            if (Objects.equals(current.element, element)) {
+                return true;
+            }
+        }
+        return false;
     }
 
     /**
@@ -120,7 +188,7 @@ public class LinkedList<T> implements List<T> {
      */
     @Override
     public boolean isEmpty() {
-        throw new ExerciseNotCompletedException(); // todo: implement this method
+        return size == 0;
     }
 
     /**
@@ -130,7 +198,7 @@ public class LinkedList<T> implements List<T> {
      */
     @Override
     public int size() {
-        throw new ExerciseNotCompletedException(); // todo: implement this method
+        return size;
     }
 
     /**
@@ -138,6 +206,284 @@ public class LinkedList<T> implements List<T> {
      */
     @Override
     public void clear() {
-        throw new ExerciseNotCompletedException(); // todo: implement this method
+        head = tail = null;
+        size = 0;
+        modCount++;
+    }
+
+    /**
+     * Adds all elements of provided collection to the end of the list. New nodes are linked into a separate chain
+     * first, and the whole chain is attached to the tail in one step.
+     *
+     * @param elements elements to add
+     */
+    @Override
+    public void addAll(Collection<? extends T> elements) {
+        Node<T> first = null;
+        Node<T> last = null;
+        int count = 0;
+        for (T element : elements) {
+            Node<T> newNode = new Node<>(element);
+            if (first == null) {
+                first = newNode;
+            } else {
+                last.next = newNode;
+            }
+            last = newNode;
+            count++;
+        }
+        if (count == 0) {
+            return;
+        }
+        if (head == null) {
+            head = first;
+        } else {
+            tail.next = first;
+        }
+        tail = last;
+        size += count;
+        modCount++;
+    }
+
+    /**
+     * Removes all elements that satisfy provided predicate in a single pass. Matching nodes are unlinked on the way
+     * while the previous node is kept at hand, so the operation takes O(n) time instead of O(n^2) for removing
+     * elements by index one by one.
+     *
+     * @param filter a predicate which returns {@code true} for elements to be removed
+     * @return {@code true} if any elements were removed
+     */
+    @Override
+    public boolean removeIf(Predicate<? super T> filter) {
+        Objects.requireNonNull(filter);
+        int expectedModCount = modCount;
+        boolean removed = false;
+        Node<T> previous = null;
+        Node<T> current = head;
+        while (current != null) {
+            Node<T> next = current.next;
+            if (filter.test(current.element)) {
+                unlinkNext(previous);
+                expectedModCount++;
+                removed = true;
+            } else {
+                previous = current;
+            }
+            current = next;
+        }
+        if (modCount != expectedModCount) {
+            throw new ConcurrentModificationException();
+        }
+        return removed;
+    }
+
+    /**
+     * Performs the given action for each element of the list, following the node links directly.
+     *
+     * @param action the action to be performed for each element
+     */
+    @Override
+    public void forEach(Consumer<? super T> action) {
+        Objects.requireNonNull(action);
+        int expectedModCount = modCount;
+        for (Node<T> current = head; current != null && modCount == expectedModCount; current = current.next) {
+            action.accept(current.element);
+        }
+        if (modCount != expectedModCount) {
+            throw new ConcurrentModificationException();
+        }
+    }
+
+    /**
+     * Returns a number that changes on every structural modification of the list, so sub-list views can detect
+     * modifications that keep the size of the list.
+     *
+     * @return the modification count
+     */
+    @Override
+    public int modCount() {
+        return modCount;
+    }
+
+    /**
+     * Returns a fail-fast iterator over the list elements that supports {@link Iterator#remove()} in constant time.
+     *
+     * @return an iterator over the list elements
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return new Itr();
+    }
+
+    /**
+     * Returns a late-binding and fail-fast spliterator. Linked nodes can not be split in the middle without walking
+     * to it, so each split copies the next batch of elements into an array, like
+     * {@link Spliterators#spliterator(Iterator, long, int)} does. Batches grow arithmetically, so the cost of copying
+     * is paid off by the parallel processing of larger batches.
+     *
+     * @return a spliterator over the list elements
+     */
+    @Override
+    public Spliterator<T> spliterator() {
+        return new LinkedListSpliterator();
+    }
+
+    private class Itr implements Iterator<T> {
+        private Node<T> next = head;
+        private Node<T> lastReturned;
+        private Node<T> beforeLastReturned;
+        private int expectedModCount = modCount;
+
+        @Override
+        public boolean hasNext() {
+            return next != null;
+        }
+
+        @Override
+        public T next() {
+            checkForComodification();
+            if (next == null) {
+                throw new NoSuchElementException();
+            }
+            if (lastReturned != null) {
+                beforeLastReturned = lastReturned;
+            }
+            lastReturned = next;
+            next = next.next;
+            return lastReturned.element;
+        }
+
+        @Override
+        public void remove() {
+            if (lastReturned == null) {
+                throw new IllegalStateException();
+            }
+            checkForComodification();
+            unlinkNext(beforeLastReturned);
+            lastReturned = null;
+            expectedModCount = modCount;
+        }
+
+        private void checkForComodification() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+    }
+
+    private class LinkedListSpliterator implements Spliterator<T> {
+        private static final int BATCH_UNIT = 1 << 10;
+        private static final int MAX_BATCH = 1 << 25;
+
+        private Node<T> current;
+        private int estimatedSize = -1;
+        private int expectedModCount;
+        private int batch;
+
+        /**
+         * Binds the spliterator to the list on the first use.
+         */
+        private int getEstimatedSize() {
+            if (estimatedSize < 0) {
+                current = head;
+                estimatedSize = size;
+                expectedModCount = modCount;
+            }
+            return estimatedSize;
+        }
+
+        @Override
+        public Spliterator<T> trySplit() {
+            int remaining = getEstimatedSize();
+            if (remaining <= 1 || current == null) {
+                return null;
+            }
+            int batchSize = Math.min(Math.min(batch + BATCH_UNIT, remaining), MAX_BATCH);
+            Object[] array = new Object[batchSize];
+            int count = 0;
+            Node<T> node = current;
+            do {
+                array[count++] = node.element;
+                node = node.next;
+            } while (node != null && count < batchSize);
+            current = node;
+            batch = count;
+            estimatedSize = remaining - count;
+            return Spliterators.spliterator(array, 0, count, ORDERED);
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super T> action) {
+            Objects.requireNonNull(action);
+            if (getEstimatedSize() > 0 && current != null) {
+                estimatedSize--;
+                T element = current.element;
+                current = current.next;
+                action.accept(element);
+                if (modCount != expectedModCount) {
+                    throw new ConcurrentModificationException();
+                }
+                return true;
+            }
+            return false;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super T> action) {
+            Objects.requireNonNull(action);
+            int remaining = getEstimatedSize();
+            Node<T> node = current;
+            current = null;
+            estimatedSize = 0;
+            for (; node != null && remaining > 0; remaining--) {
+                action.accept(node.element);
+                node = node.next;
+            }
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+
+        @Override
+        public long estimateSize() {
+            return getEstimatedSize();
+        }
+
+        @Override
+        public int characteristics() {
+            return ORDERED | SIZED | SUBSIZED;
+        }
+    }
+
+    private Node<T> nodeAt(int index) {
+        Node<T> current = head;
+        for (int i = 0; i < index; i++) {
+            current = current.next;
+        }
+        return current;
+    }
+
+    /**
+     * Unlinks the node that follows the provided one, or the head node if the provided one is {@code null}.
+     */
+    private void unlinkNext(Node<T> previous) {
+        Node<T> removed = previous == null ? head : previous.next;
+        if (previous == null) {
+            head = removed.next;
+        } else {
+            previous.next = removed.next;
+        }
+        if (removed == tail) {
+            tail = previous;
+        }
+        removed.next = null;
+        size--;
+        modCount++;
+    }
+
+    private void checkNotEmpty() {
+        if (size == 0) {
+            throw new NoSuchElementException("List is empty");
+        }
     }
 }
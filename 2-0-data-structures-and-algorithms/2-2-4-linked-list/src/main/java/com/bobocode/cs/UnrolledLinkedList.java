@@ -0,0 +1,542 @@
+package com.bobocode.cs;
+
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.function.Predicate;
+
+/**
+ * {@link UnrolledLinkedList} is a list implementation that is based on doubly linked nodes, where each node stores
+ * a chunk of elements in a small array instead of a single element. A node is implemented as inner static class
+ * {@link Node}.
+ * <p>
+ * Like {@link LinkedList}, it adds elements to the head and to the tail in constant time. Since the elements of a node
+ * are stored next to each other in memory, {@link UnrolledLinkedList#get(int)} skips a whole node at once, and
+ * iteration touches a new object only once per node, which is much friendlier to the CPU cache. A node is split in two
+ * when it overflows and is merged with its neighbour when it becomes less than half-full.
+ *
+ * @param <T> generic type parameter
+ */
+public class UnrolledLinkedList<T> implements List<T>, ModificationTracking {
+    public static final int MIN_NODE_CAPACITY = 32;
+    public static final int MAX_NODE_CAPACITY = 128;
+    private static final int DEFAULT_NODE_CAPACITY = 64;
+
+    private final int nodeCapacity;
+    private Node<T> head;
+    private Node<T> tail;
+    private int size;
+    private int modCount;
+
+    static class Node<T> {
+        Object[] elements;
+        int count;
+        Node<T> prev;
+        Node<T> next;
+
+        Node(int capacity) {
+            this.elements = new Object[capacity];
+        }
+    }
+
+    private static class Position<T> {
+        final Node<T> node;
+        final int offset;
+
+        Position(Node<T> node, int offset) {
+            this.node = node;
+            this.offset = offset;
+        }
+    }
+
+    /**
+     * This constructor creates an instance of {@link UnrolledLinkedList} that stores a specific number of elements per
+     * node.
+     *
+     * @param nodeCapacity the maximum number of elements in one node
+     * @throws IllegalArgumentException if node capacity is out of {@link #MIN_NODE_CAPACITY} and
+     *                                  {@link #MAX_NODE_CAPACITY} bounds
+     */
+    public UnrolledLinkedList(int nodeCapacity) {
+        if (nodeCapacity < MIN_NODE_CAPACITY || nodeCapacity > MAX_NODE_CAPACITY) {
+            throw new IllegalArgumentException(String.format("Node capacity should be between %d and %d, but was %d",
+                    MIN_NODE_CAPACITY, MAX_NODE_CAPACITY, nodeCapacity));
+        }
+        this.nodeCapacity = nodeCapacity;
+    }
+
+    /**
+     * This constructor creates an instance of {@link UnrolledLinkedList} that stores 64 elements per node.
+     */
+    public UnrolledLinkedList() {
+        this(DEFAULT_NODE_CAPACITY);
+    }
+
+    /**
+     * This method creates a list of provided elements
+     *
+     * @param elements elements to add
+     * @param <T>      generic type
+     * @return a new list of elements the were passed as method parameters
+     */
+    @SafeVarargs
+    public static <T> UnrolledLinkedList<T> of(T... elements) {
+        UnrolledLinkedList<T> list = new UnrolledLinkedList<>();
+        for (T element : elements) {
+            list.add(element);
+        }
+        return list;
+    }
+
+    /**
+     * Adds an element to the end of the list. Operation is performed in constant time O(1)
+     *
+     * @param element element to add
+     */
+    @Override
+    public void add(T element) {
+        if (tail == null || tail.count == nodeCapacity) {
+            linkLast(new Node<>(nodeCapacity));
+        }
+        tail.elements[tail.count++] = element;
+        size++;
+        modCount++;
+    }
+
+    /**
+     * Adds a new element to the specific position in the list. In case provided index in out of the list bounds it
+     * throws {@link IndexOutOfBoundsException}. Adding to the head or to the tail is performed in constant time O(1),
+     * adding to the middle takes O(n / nodeCapacity) to find a node, and O(nodeCapacity) to shift or split it.
+     *
+     * @param index   an index of new element
+     * @param element element to add
+     */
+    @Override
+    public void add(int index, T element) {
+        Objects.checkIndex(index, size + 1);
+        if (index == size) {
+            add(element);
+            return;
+        }
+        if (index == 0 && head.count == nodeCapacity) {
+            linkBefore(head, new Node<>(nodeCapacity));
+            head.elements[head.count++] = element;
+            size++;
+            modCount++;
+            return;
+        }
+        Position<T> position = positionOf(index);
+        Node<T> node = position.node;
+        int offset = position.offset;
+        if (node.count == nodeCapacity) {
+            if (offset == 0 && node.prev != null && node.prev.count < nodeCapacity) {
+                node = node.prev;
+                offset = node.count;
+            } else {
+                Node<T> newNode = split(node);
+                if (offset > node.count) {
+                    offset -= node.count;
+                    node = newNode;
+                }
+            }
+        }
+        System.arraycopy(node.elements, offset, node.elements, offset + 1, node.count - offset);
+        node.elements[offset] = element;
+        node.count++;
+        size++;
+        modCount++;
+    }
+
+    /**
+     * Changes the value of an list element at specific position. In case provided index in out of the list bounds it
+     * throws {@link IndexOutOfBoundsException}
+     *
+     * @param index   an position of element to change
+     * @param element a new element value
+     */
+    @Override
+    public void set(int index, T element) {
+        Objects.checkIndex(index, size);
+        Position<T> position = positionOf(index);
+        position.node.elements[position.offset] = element;
+    }
+
+    /**
+     * Retrieves an elements by its position index. In case provided index in out of the list bounds it
+     * throws {@link IndexOutOfBoundsException}. The node is searched from the closest end of the list, skipping
+     * a whole node per step.
+     *
+     * @param index element index
+     * @return an element value
+     */
+    @Override
+    public T get(int index) {
+        Objects.checkIndex(index, size);
+        Position<T> position = positionOf(index);
+        return elementOf(position.node, position.offset);
+    }
+
+    /**
+     * Returns the first element of the list. Operation is performed in constant time O(1)
+     *
+     * @return the first element of the list
+     * @throws java.util.NoSuchElementException if list is empty
+     */
+    @Override
+    public T getFirst() {
+        checkNotEmpty();
+        return elementOf(head, 0);
+    }
+
+    /**
+     * Returns the last element of the list. Operation is performed in constant time O(1)
+     *
+     * @return the last element of the list
+     * @throws java.util.NoSuchElementException if list is empty
+     */
+    @Override
+    public T getLast() {
+        checkNotEmpty();
+        return elementOf(tail, tail.count - 1);
+    }
+
+    /**
+     * Removes an elements by its position index. In case provided index in out of the list bounds it
+     * throws {@link IndexOutOfBoundsException}
+     *
+     * @param index element index
+     * @return deleted element
+     */
+    @Override
+    public T remove(int index) {
+        Objects.checkIndex(index, size);
+        Position<T> position = positionOf(index);
+        Node<T> node = position.node;
+        int offset = position.offset;
+        T removed = elementOf(node, offset);
+        System.arraycopy(node.elements, offset + 1, node.elements, offset, node.count - offset - 1);
+        node.elements[--node.count] = null;
+        size--;
+        modCount++;
+        if (node.count == 0) {
+            unlink(node);
+        } else {
+            rebalance(node);
+        }
+        return removed;
+    }
+
+    /**
+     * Checks if a specific exists in he list
+     *
+     * @return {@code true} if element exist, {@code false} otherwise
+     */
+    @Override
+    public boolean contains(T element) {
+        for (Node<T> node = head; node != null; node = node.next) {
+            for (int i = 0; i < node.count; i++) {
+                if (Objects.equals(node.elements[i], element)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Checks if a list is empty
+     *
+     * @return {@code true} if list is empty, {@code false} otherwise
+     */
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns the number of elements in the list
+     *
+     * @return number of elements
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Removes all list elements
+     */
+    @Override
+    public void clear() {
+        head = tail = null;
+        size = 0;
+        modCount++;
+    }
+
+    /**
+     * Removes all elements that satisfy provided predicate in a single pass. Each node array is compacted in place,
+     * and the nodes that became less than half-full are merged with their neighbours afterwards, so the operation takes
+     * O(n) time.
+     *
+     * @param filter a predicate which returns {@code true} for elements to be removed
+     * @return {@code true} if any elements were removed
+     */
+    @Override
+    public boolean removeIf(Predicate<? super T> filter) {
+        Objects.requireNonNull(filter);
+        int expectedModCount = modCount;
+        int oldSize = size;
+        try {
+            for (Node<T> node = head; node != null; node = node.next) {
+                removeIf(node, filter);
+            }
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        } finally {
+            if (size != oldSize) {
+                compact();
+                modCount++;
+            }
+        }
+        return size != oldSize;
+    }
+
+    /**
+     * Returns a number that changes on every structural modification of the list, so sub-list views can detect
+     * modifications that keep the size of the list.
+     *
+     * @return the modification count
+     */
+    @Override
+    public int modCount() {
+        return modCount;
+    }
+
+    /**
+     * Returns a fail-fast iterator that goes through the elements of each node array one by one. It supports
+     * {@link Iterator#remove()}.
+     *
+     * @return an iterator over the list elements
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return new Iterator<>() {
+            private Node<T> node = head;
+            private int offset;
+            private int cursor;
+            private boolean canRemove;
+            private int expectedModCount = modCount;
+
+            @Override
+            public boolean hasNext() {
+                return cursor < size;
+            }
+
+            @Override
+            public T next() {
+                checkForComodification();
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                T element = elementOf(node, offset++);
+                if (offset == node.count) {
+                    node = node.next;
+                    offset = 0;
+                }
+                cursor++;
+                canRemove = true;
+                return element;
+            }
+
+            /**
+             * Removes the last returned element. Nodes may be merged after removal, so the position of the next
+             * element is looked up again, which takes O(n / nodeCapacity).
+             */
+            @Override
+            public void remove() {
+                if (!canRemove) {
+                    throw new IllegalStateException();
+                }
+                checkForComodification();
+                UnrolledLinkedList.this.remove(--cursor);
+                canRemove = false;
+                expectedModCount = modCount;
+                if (cursor < size) {
+                    Position<T> position = positionOf(cursor);
+                    node = position.node;
+                    offset = position.offset;
+                }
+            }
+
+            private void checkForComodification() {
+                if (modCount != expectedModCount) {
+                    throw new ConcurrentModificationException();
+                }
+            }
+        };
+    }
+
+    /**
+     * Compacts the elements of a node that do not satisfy provided predicate. If the predicate throws an exception,
+     * the elements that were already matched are removed, and the rest of the node is left as is.
+     */
+    private void removeIf(Node<T> node, Predicate<? super T> filter) {
+        int kept = 0;
+        int i = 0;
+        try {
+            for (; i < node.count; i++) {
+                Object element = node.elements[i];
+                if (!filter.test(elementOf(node, i))) {
+                    node.elements[kept++] = element;
+                }
+            }
+        } finally {
+            System.arraycopy(node.elements, i, node.elements, kept, node.count - i);
+            int newCount = kept + node.count - i;
+            Arrays.fill(node.elements, newCount, node.count, null);
+            size -= node.count - newCount;
+            node.count = newCount;
+        }
+    }
+
+    /**
+     * Unlinks empty nodes and merges each node with its neighbours while they fit into a single node.
+     */
+    private void compact() {
+        Node<T> node = head;
+        while (node != null) {
+            Node<T> next = node.next;
+            if (node.count == 0) {
+                unlink(node);
+            } else {
+                while (next != null && node.count + next.count <= nodeCapacity) {
+                    System.arraycopy(next.elements, 0, node.elements, node.count, next.count);
+                    node.count += next.count;
+                    Node<T> afterNext = next.next;
+                    unlink(next);
+                    next = afterNext;
+                }
+            }
+            node = next;
+        }
+    }
+
+    /**
+     * Finds a node that contains an element with a provided index, and the offset of that element inside the node.
+     * The search starts from the closest end of the list.
+     */
+    private Position<T> positionOf(int index) {
+        Node<T> node;
+        int first;
+        if (index < size / 2) {
+            node = head;
+            first = 0;
+            while (index >= first + node.count) {
+                first += node.count;
+                node = node.next;
+            }
+        } else {
+            node = tail;
+            first = size - tail.count;
+            while (index < first) {
+                node = node.prev;
+                first -= node.count;
+            }
+        }
+        return new Position<>(node, index - first);
+    }
+
+    /**
+     * Moves the upper half of a full node into a new node that is linked right after it.
+     */
+    private Node<T> split(Node<T> node) {
+        Node<T> newNode = new Node<>(nodeCapacity);
+        int half = node.count / 2;
+        int moved = node.count - half;
+        System.arraycopy(node.elements, half, newNode.elements, 0, moved);
+        Arrays.fill(node.elements, half, node.count, null);
+        node.count = half;
+        newNode.count = moved;
+        linkAfter(node, newNode);
+        return newNode;
+    }
+
+    /**
+     * Keeps a node at least half-full by merging the next node into it, or by borrowing elements from the next node
+     * when both of them do not fit into one.
+     */
+    private void rebalance(Node<T> node) {
+        int half = nodeCapacity / 2;
+        Node<T> next = node.next;
+        if (node.count >= half || next == null) {
+            return;
+        }
+        int moved = next.count + node.count <= nodeCapacity ? next.count : half - node.count;
+        System.arraycopy(next.elements, 0, node.elements, node.count, moved);
+        System.arraycopy(next.elements, moved, next.elements, 0, next.count - moved);
+        Arrays.fill(next.elements, next.count - moved, next.count, null);
+        node.count += moved;
+        next.count -= moved;
+        if (next.count == 0) {
+            unlink(next);
+        }
+    }
+
+    private void linkLast(Node<T> node) {
+        if (tail == null) {
+            head = tail = node;
+        } else {
+            linkAfter(tail, node);
+        }
+    }
+
+    private void linkAfter(Node<T> node, Node<T> newNode) {
+        newNode.prev = node;
+        newNode.next = node.next;
+        if (node.next == null) {
+            tail = newNode;
+        } else {
+            node.next.prev = newNode;
+        }
+        node.next = newNode;
+    }
+
+    private void linkBefore(Node<T> node, Node<T> newNode) {
+        newNode.next = node;
+        newNode.prev = node.prev;
+        if (node.prev == null) {
+            head = newNode;
+        } else {
+            node.prev.next = newNode;
+        }
+        node.prev = newNode;
+    }
+
+    private void unlink(Node<T> node) {
+        if (node.prev == null) {
+            head = node.next;
+        } else {
+            node.prev.next = node.next;
+        }
+        if (node.next == null) {
+            tail = node.prev;
+        } else {
+            node.next.prev = node.prev;
+        }
+        node.prev = node.next = null;
+    }
+
+    @SuppressWarnings("unchecked")
+    private T elementOf(Node<T> node, int offset) {
+        return (T) node.elements[offset];
+    }
+
+    private void checkNotEmpty() {
+        if (size == 0) {
+            throw new NoSuchElementException("List is empty");
+        }
+    }
+}
@@ -8,8 +8,12 @@ import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
 import java.lang.reflect.Modifier;
 import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
 import java.util.NoSuchElementException;
+import java.util.Spliterator;
 import java.util.function.Predicate;
+import java.util.stream.Collectors;
 
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThatExceptionOfType;
@@ -491,6 +495,135 @@ public class LinkedListTest {
                 .isThrownBy(() -> getInternalElement(0));
     }
 
+    @Test
+    @Order(42)
+    void addAllAppendsElementsToTheTail() {
+        addInternalElements(1, 2);
+
+        intList.addAll(java.util.List.of(3, 4, 5));
+        intList.add(6);
+
+        assertThat(getInternalSize()).isEqualTo(6);
+        assertThat(getInternalElement(2)).isEqualTo(3);
+        assertThat(intList.getLast()).isEqualTo(6);
+    }
+
+    @Test
+    @Order(43)
+    void removeIfUnlinksMatchingNodes() {
+        addInternalElements(1, 2, 3, 4, 5, 6);
+
+        boolean removed = intList.removeIf(e -> e % 2 == 0);
+
+        assertThat(removed).isTrue();
+        assertThat(getInternalSize()).isEqualTo(3);
+        assertThat(getInternalElement(0)).isEqualTo(1);
+        assertThat(getInternalElement(1)).isEqualTo(3);
+        assertThat(getInternalElement(2)).isEqualTo(5);
+        assertThat(intList.getLast()).isEqualTo(5);
+    }
+
+    @Test
+    @Order(44)
+    void removeIfUpdatesTailWhenLastElementIsRemoved() {
+        addInternalElements(1, 2, 3);
+
+        intList.removeIf(e -> e > 1);
+        intList.add(4);
+
+        assertThat(getInternalElement(1)).isEqualTo(4);
+        assertThat(intList.getLast()).isEqualTo(4);
+    }
+
+    @Test
+    @Order(45)
+    void iteratorRemove() {
+        addInternalElements(1, 2, 3);
+
+        Iterator<Integer> iterator = intList.iterator();
+        iterator.next();
+        iterator.remove();
+        iterator.next();
+        iterator.next();
+        iterator.remove();
+
+        assertThat(getInternalSize()).isEqualTo(1);
+        assertThat(intList.getFirst()).isEqualTo(2);
+        assertThat(intList.getLast()).isEqualTo(2);
+    }
+
+    @Test
+    @Order(46)
+    void iteratorIsFailFast() {
+        intList.add(1);
+        intList.add(2);
+
+        Iterator<Integer> iterator = intList.iterator();
+        iterator.next();
+        intList.add(3);
+
+        assertThatExceptionOfType(ConcurrentModificationException.class)
+                .isThrownBy(iterator::next);
+    }
+
+    @Test
+    @Order(47)
+    void subListIsBackedByTheList() {
+        addInternalElements(1, 2, 3, 4, 5);
+
+        List<Integer> subList = intList.subList(1, 4);
+        subList.remove(0);
+        subList.add(10);
+
+        assertThat(subList.size()).isEqualTo(3);
+        assertThat(intList.stream().collect(Collectors.toList())).isEqualTo(java.util.List.of(1, 3, 4, 10, 5));
+    }
+
+    @Test
+    @Order(48)
+    void parallelStream() {
+        for (int i = 0; i < 10_000; i++) {
+            intList.add(i);
+        }
+
+        long sum = intList.stream().parallel().mapToLong(Integer::longValue).sum();
+
+        assertThat(sum).isEqualTo(49_995_000L);
+    }
+
+    @Test
+    @Order(49)
+    void spliteratorSplitsInBatches() {
+        for (int i = 0; i < 5000; i++) {
+            intList.add(i);
+        }
+        Spliterator<Integer> spliterator = intList.spliterator();
+
+        Spliterator<Integer> firstBatch = spliterator.trySplit();
+        Spliterator<Integer> secondBatch = spliterator.trySplit();
+
+        assertThat(firstBatch.getExactSizeIfKnown()).isEqualTo(1024);
+        assertThat(secondBatch.getExactSizeIfKnown()).isEqualTo(2048);
+        assertThat(spliterator.getExactSizeIfKnown()).isEqualTo(5000 - 1024 - 2048);
+        spliterator.tryAdvance(e -> assertThat(e).isEqualTo(3072));
+    }
+
+    @Test
+    @Order(50)
+    void subListDetectsModificationThatKeepsSize() {
+        addInternalElements(1, 2, 3, 4, 5);
+
+        List<Integer> subList = intList.subList(1, 4);
+        List<Integer> nestedSubList = subList.subList(0, 2);
+        intList.add(0, 6);
+        intList.remove(0);
+
+        assertThatExceptionOfType(ConcurrentModificationException.class)
+                .isThrownBy(() -> subList.get(0));
+        assertThatExceptionOfType(ConcurrentModificationException.class)
+                .isThrownBy(() -> nestedSubList.get(0));
+    }
+
     @SneakyThrows
     private int getInternalElement(int index) {
 
@@ -0,0 +1,202 @@
+package com.bobocode.cs;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+class UnrolledLinkedListTest {
+
+    private UnrolledLinkedList<Integer> list = new UnrolledLinkedList<>(UnrolledLinkedList.MIN_NODE_CAPACITY);
+
+    @Test
+    void addToTheTail() {
+        for (int i = 0; i < 1000; i++) {
+            list.add(i);
+        }
+
+        assertThat(list.size()).isEqualTo(1000);
+        for (int i = 0; i < 1000; i++) {
+            assertThat(list.get(i)).isEqualTo(i);
+        }
+    }
+
+    @Test
+    void addToTheHead() {
+        for (int i = 0; i < 1000; i++) {
+            list.add(0, i);
+        }
+
+        assertThat(list.getFirst()).isEqualTo(999);
+        assertThat(list.getLast()).isEqualTo(0);
+        for (int i = 0; i < 1000; i++) {
+            assertThat(list.get(i)).isEqualTo(999 - i);
+        }
+    }
+
+    @Test
+    void addToTheMiddleSplitsNodes() {
+        for (int i = 0; i < 100; i++) {
+            list.add(i);
+        }
+
+        for (int i = 0; i < 100; i++) {
+            list.add(50, -i);
+        }
+
+        assertThat(list.size()).isEqualTo(200);
+        assertThat(list.get(49)).isEqualTo(49);
+        assertThat(list.get(50)).isEqualTo(-99);
+        assertThat(list.get(149)).isEqualTo(0);
+        assertThat(list.get(150)).isEqualTo(50);
+        assertThat(list.getLast()).isEqualTo(99);
+    }
+
+    @Test
+    void addByIndexOutOfBounds() {
+        list.add(1);
+
+        assertThatExceptionOfType(IndexOutOfBoundsException.class)
+                .isThrownBy(() -> list.add(2, 5));
+        assertThatExceptionOfType(IndexOutOfBoundsException.class)
+                .isThrownBy(() -> list.add(-1, 5));
+    }
+
+    @Test
+    void set() {
+        list = UnrolledLinkedList.of(1, 2, 3);
+
+        list.set(1, 20);
+
+        assertThat(list.get(1)).isEqualTo(20);
+        assertThatExceptionOfType(IndexOutOfBoundsException.class)
+                .isThrownBy(() -> list.set(3, 5));
+    }
+
+    @Test
+    void removeMergesNodes() {
+        for (int i = 0; i < 1000; i++) {
+            list.add(i);
+        }
+
+        for (int i = 0; i < 500; i++) {
+            assertThat(list.remove(250)).isEqualTo(250 + i);
+        }
+
+        assertThat(list.size()).isEqualTo(500);
+        assertThat(list.get(249)).isEqualTo(249);
+        assertThat(list.get(250)).isEqualTo(750);
+    }
+
+    @Test
+    void removeAllElements() {
+        list = UnrolledLinkedList.of(1, 2, 3);
+
+        list.remove(0);
+        list.remove(0);
+        list.remove(0);
+
+        assertThat(list.isEmpty()).isTrue();
+        assertThatExceptionOfType(NoSuchElementException.class)
+                .isThrownBy(() -> list.getLast());
+    }
+
+    @Test
+    void contains() {
+        list = UnrolledLinkedList.of(1, null, 3);
+
+        assertThat(list.contains(3)).isTrue();
+        assertThat(list.contains(null)).isTrue();
+        assertThat(list.contains(4)).isFalse();
+    }
+
+    @Test
+    void clear() {
+        list = UnrolledLinkedList.of(1, 2, 3);
+
+        list.clear();
+
+        assertThat(list.size()).isEqualTo(0);
+        assertThatExceptionOfType(IndexOutOfBoundsException.class)
+                .isThrownBy(() -> list.get(0));
+    }
+
+    @Test
+    void iterator() {
+        for (int i = 0; i < 100; i++) {
+            list.add(i);
+        }
+
+        Iterator<Integer> iterator = list.iterator();
+        for (int i = 0; i < 100; i++) {
+            assertThat(iterator.next()).isEqualTo(i);
+        }
+        assertThat(iterator.hasNext()).isFalse();
+    }
+
+    @Test
+    void createListWithWrongNodeCapacity() {
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> new UnrolledLinkedList<>(8));
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> new UnrolledLinkedList<>(256));
+    }
+
+    @Test
+    void randomOperationsMatchJavaUtilList() {
+        java.util.List<Integer> expected = new java.util.ArrayList<>();
+        Random random = new Random(42);
+
+        for (int i = 0; i < 20_000; i++) {
+            int operation = random.nextInt(3);
+            if (operation < 2 || expected.isEmpty()) {
+                int index = random.nextInt(expected.size() + 1);
+                expected.add(index, i);
+                list.add(index, i);
+            } else {
+                int index = random.nextInt(expected.size());
+                assertThat(list.remove(index)).isEqualTo(expected.remove(index));
+            }
+        }
+
+        assertThat(list.size()).isEqualTo(expected.size());
+        assertThat(list).containsExactlyElementsOf(expected);
+    }
+
+    @Test
+    void removeIfMergesNodes() {
+        for (int i = 0; i < 1000; i++) {
+            list.add(i);
+        }
+
+        boolean removed = list.removeIf(e -> e % 3 != 0);
+
+        assertThat(removed).isTrue();
+        assertThat(list.size()).isEqualTo(334);
+        for (int i = 0; i < 334; i++) {
+            assertThat(list.get(i)).isEqualTo(i * 3);
+        }
+    }
+
+    @Test
+    void iteratorRemove() {
+        for (int i = 0; i < 100; i++) {
+            list.add(i);
+        }
+
+        Iterator<Integer> iterator = list.iterator();
+        while (iterator.hasNext()) {
+            if (iterator.next() % 2 == 0) {
+                iterator.remove();
+            }
+        }
+
+        assertThat(list.size()).isEqualTo(50);
+        assertThat(list.getFirst()).isEqualTo(1);
+        assertThat(list.getLast()).isEqualTo(99);
+    }
+}
@@ -1,12 +1,29 @@
 package com.bobocode.cs;
 
-import com.bobocode.util.ExerciseNotCompletedException;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
 
 /**
  * {@link ArrayList} is an implementation of {@link List} interface. This resizable data structure
  * based on an array and is simplified version of {@link java.util.ArrayList}.
+ * <p>
+ * Its iterators are fail-fast: if the list is structurally modified after an iterator is created, in any way except
+ * through the iterator's own remove method, the iterator throws {@link ConcurrentModificationException}.
  */
-public class ArrayList<T> implements List<T> {
+public class ArrayList<T> implements List<T>, ModificationTracking {
+    private static final int DEFAULT_CAPACITY = 5;
+
+    private final GrowthPolicy growthPolicy;
+    private Object[] elements;
+    private int size;
+    private int modCount;
 
     /**
      * This constructor creates an instance of {@link ArrayList} with a specific capacity of an array inside.
@@ -15,7 +32,23 @@ public class ArrayList<T> implements List<T> {
      * @throws IllegalArgumentException – if the specified initial capacity is negative or 0.
      */
     public ArrayList(int initCapacity) {
-        throw new ExerciseNotCompletedException(); // todo: implement this method
+        this(initCapacity, GrowthPolicy.oneAndHalf());
+    }
+
+    /**
+     * This constructor creates an instance of {@link ArrayList} with a specific capacity of an array inside and a
+     * policy that defines how that array grows when it is full.
+     *
+     * @param initCapacity - the initial capacity of the list
+     * @param growthPolicy - the policy that calculates a new capacity of the list
+     * @throws IllegalArgumentException – if the specified initial capacity is negative or 0.
+     */
+    public ArrayList(int initCapacity, GrowthPolicy growthPolicy) {
+        if (initCapacity <= 0) {
+            throw new IllegalArgumentException("Initial capacity should be positive, but was " + initCapacity);
+        }
+        this.growthPolicy = Objects.requireNonNull(growthPolicy);
+        this.elements = new Object[initCapacity];
     }
 
     /**
@@ -23,7 +56,7 @@ public class ArrayList<T> implements List<T> {
      * A default size of inner array is 5;
      */
     public ArrayList() {
-        throw new ExerciseNotCompletedException(); // todo: implement this method
+        this(DEFAULT_CAPACITY);
     }
 
     /**
@@ -33,7 +66,10 @@ public class ArrayList<T> implements List<T> {
      * @return new instance
      */
     public static <T> List<T> of(T... elements) {
-        throw new ExerciseNotCompletedException(); // todo: implement this method
+        ArrayList<T> list = new ArrayList<>(Math.max(elements.length, DEFAULT_CAPACITY));
+        System.arraycopy(elements, 0, list.elements, 0, elements.length);
+        list.size = elements.length;
+        return list;
     }
 
     /**
@@ -43,7 +79,9 @@ public class ArrayList<T> implements List<T> {
      */
     @Override
     public void add(T element) {
-        throw new ExerciseNotCompletedException(); // todo: implement this method
+        ensureCapacity(size + 1);
+        elements[size++] = element;
+        modCount++;
     }
 
     /**
@@ -54,7 +92,12 @@ public class ArrayList<T> implements List<T> {
      */
     @Override
     public void add(int index, T element) {
-        throw new ExerciseNotCompletedException(); // todo: implement this method
+        Objects.checkIndex(index, size + 1);
+        ensureCapacity(size + 1);
+        System.arraycopy(elements, index, elements, index + 1, size - index);
+        elements[index] = element;
+        size++;
+        modCount++;
     }
 
     /**
@@ -66,7 +109,8 @@ public class ArrayList<T> implements List<T> {
      */
     @Override
     public T get(int index) {
-        throw new ExerciseNotCompletedException(); // todo: implement this method
+        Objects.checkIndex(index, size);
+        return elementAt(index);
     }
 
     /**
@@ -77,7 +121,8 @@ public class ArrayList<T> implements List<T> {
      */
     @Override
     public T getFirst() {
-        throw new ExerciseNotCompletedException(); // todo: implement this method
+        checkNotEmpty();
+        return elementAt(0);
     }
 
     /**
@@ -88,7 +133,8 @@ public class ArrayList<T> implements List<T> {
      */
     @Override
     public T getLast() {
-        throw new ExerciseNotCompletedException(); // todo: implement this method
+        checkNotEmpty();
+        return elementAt(size - 1);
     }
 
     /**
@@ -100,7 +146,8 @@ public class ArrayList<T> implements List<T> {
      */
     @Override
     public void set(int index, T element) {
-        throw new ExerciseNotCompletedException(); // todo: implement this method
+        Objects.checkIndex(index, size);
+        elements[index] = element;
     }
 
     /**
@@ -112,7 +159,12 @@ public class ArrayList<T> implements List<T> {
      */
     @Override
     public T remove(int index) {
-        throw new ExerciseNotCompletedException(); // todo: implement this method
+        Objects.checkIndex(index, size);
+        T removed = elementAt(index);
+        System.arraycopy(elements, index + 1, elements, index, size - index - 1);
+        elements[--size] = null;
+        modCount++;
+        return removed;
     }
 
     /**
@@ -123,7 +175,12 @@ public class ArrayList<T> implements List<T> {
      */
     @Override
     public boolean contains(T element) {
-        throw new ExerciseNotCompletedException(); // todo: implement this method
+        for (int i = 0; i < size; i++) {
+            if (Objects.equals(elements[i], element)) {
+                return true;
+            }
+        }
+        return false;
     }
 
     /**
@@ -133,7 +190,7 @@ public class ArrayList<T> implements List<T> {
      */
     @Override
     public boolean isEmpty() {
-        throw new ExerciseNotCompletedException(); // todo: implement this method
+        return size == 0;
     }
 
     /**
@@ -141,7 +198,7 @@ public class ArrayList<T> implements List<T> {
      */
     @Override
     public int size() {
-        throw new ExerciseNotCompletedException(); // todo: implement this method
+        return size;
     }
 
     /**
@@ -149,6 +206,260 @@ public class ArrayList<T> implements List<T> {
      */
     @Override
     public void clear() {
-        throw new ExerciseNotCompletedException(); // todo: implement this method
+        Arrays.fill(elements, null);
+        size = 0;
+        modCount++;
+    }
+
+    /**
+     * Adds all elements of provided collection to the end of the list. The inner array is resized at most once and
+     * the elements are copied in one go.
+     *
+     * @param elements elements to add
+     */
+    @Override
+    public void addAll(Collection<? extends T> elements) {
+        Object[] newElements = elements.toArray();
+        ensureCapacity(size + newElements.length);
+        System.arraycopy(newElements, 0, this.elements, size, newElements.length);
+        size += newElements.length;
+        modCount++;
+    }
+
+    /**
+     * Removes all elements that satisfy provided predicate in a single pass. Remaining elements are shifted to the left
+     * right away, so each element is moved at most once, and the operation takes O(n) time instead of O(n^2) for
+     * removing elements one by one. If the predicate throws an exception, the elements that were already matched are
+     * removed, and the rest of the list is left as is.
+     *
+     * @param filter a predicate which returns {@code true} for elements to be removed
+     * @return {@code true} if any elements were removed
+     */
+    @Override
+    public boolean removeIf(Predicate<? super T> filter) {
+        Objects.requireNonNull(filter);
+        int expectedModCount = modCount;
+        int oldSize = size;
+        int kept = 0;
+        int i = 0;
+        int newSize;
+        try {
+            for (; i < oldSize; i++) {
+                T element = elementAt(i);
+                if (!filter.test(element)) {
+                    elements[kept++] = element;
+                }
+            }
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        } finally {
+            System.arraycopy(elements, i, elements, kept, oldSize - i);
+            newSize = kept + oldSize - i;
+            Arrays.fill(elements, newSize, oldSize, null);
+            if (newSize != oldSize) {
+                size = newSize;
+                modCount++;
+            }
+        }
+        return newSize != oldSize;
+    }
+
+    /**
+     * Performs the given action for each element of the list, reading the inner array directly.
+     *
+     * @param action the action to be performed for each element
+     */
+    @Override
+    public void forEach(Consumer<? super T> action) {
+        Objects.requireNonNull(action);
+        int expectedModCount = modCount;
+        for (int i = 0; i < size && modCount == expectedModCount; i++) {
+            action.accept(elementAt(i));
+        }
+        if (modCount != expectedModCount) {
+            throw new ConcurrentModificationException();
+        }
+    }
+
+    /**
+     * Returns a number that changes on every structural modification of the list, so sub-list views can detect
+     * modifications that keep the size of the list.
+     *
+     * @return the modification count
+     */
+    @Override
+    public int modCount() {
+        return modCount;
+    }
+
+    /**
+     * Returns a fail-fast iterator over the list elements that supports {@link Iterator#remove()}.
+     *
+     * @return an iterator over the list elements
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return new Itr();
+    }
+
+    /**
+     * Returns a late-binding and fail-fast spliterator that splits the inner array range exactly in halves, so both
+     * parts know their exact size.
+     *
+     * @return a spliterator over the list elements
+     */
+    @Override
+    public Spliterator<T> spliterator() {
+        return new ArrayListSpliterator(0, -1, 0);
+    }
+
+    /**
+     * Increases the capacity of the inner array, if necessary, so it can hold at least the provided number of elements.
+     * A new capacity is calculated by the {@link GrowthPolicy} of the list. Use it before adding a large number of
+     * elements to avoid multiple resizes.
+     *
+     * @param minCapacity the desired minimum capacity
+     */
+    public void ensureCapacity(int minCapacity) {
+        if (minCapacity > elements.length) {
+            elements = Arrays.copyOf(elements, growthPolicy.newCapacity(elements.length, minCapacity));
+        }
+    }
+
+    /**
+     * Trims the capacity of the inner array to the current size of the list. Use it to release the unused memory once
+     * the list is not going to grow anymore.
+     */
+    public void trimToSize() {
+        if (size < elements.length) {
+            elements = Arrays.copyOf(elements, size);
+        }
+    }
+
+    /**
+     * A spliterator over the range of the inner array from index (inclusive) to fence (exclusive). The fence is bound
+     * to the list size on the first use, so the changes made before that are visible.
+     */
+    private class ArrayListSpliterator implements Spliterator<T> {
+        private int index;
+        private int fence;
+        private int expectedModCount;
+
+        ArrayListSpliterator(int index, int fence, int expectedModCount) {
+            this.index = index;
+            this.fence = fence;
+            this.expectedModCount = expectedModCount;
+        }
+
+        private int getFence() {
+            if (fence < 0) {
+                expectedModCount = modCount;
+                fence = size;
+            }
+            return fence;
+        }
+
+        @Override
+        public Spliterator<T> trySplit() {
+            int hi = getFence();
+            int lo = index;
+            int mid = (lo + hi) >>> 1;
+            if (lo >= mid) {
+                return null;
+            }
+            index = mid;
+            return new ArrayListSpliterator(lo, mid, expectedModCount);
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super T> action) {
+            Objects.requireNonNull(action);
+            int hi = getFence();
+            if (index >= hi) {
+                return false;
+            }
+            action.accept(elementAt(index++));
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super T> action) {
+            Objects.requireNonNull(action);
+            int hi = getFence();
+            Object[] array = elements;
+            for (int i = index; i < hi; i++) {
+                @SuppressWarnings("unchecked")
+                T element = (T) array[i];
+                action.accept(element);
+            }
+            index = hi;
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+
+        @Override
+        public long estimateSize() {
+            return getFence() - index;
+        }
+
+        @Override
+        public int characteristics() {
+            return ORDERED | SIZED | SUBSIZED;
+        }
+    }
+
+    private class Itr implements Iterator<T> {
+        private int cursor;
+        private int lastReturned = -1;
+        private int expectedModCount = modCount;
+
+        @Override
+        public boolean hasNext() {
+            return cursor < size;
+        }
+
+        @Override
+        public T next() {
+            checkForComodification();
+            if (cursor >= size) {
+                throw new NoSuchElementException();
+            }
+            lastReturned = cursor++;
+            return elementAt(lastReturned);
+        }
+
+        @Override
+        public void remove() {
+            if (lastReturned < 0) {
+                throw new IllegalStateException();
+            }
+            checkForComodification();
+            ArrayList.this.remove(lastReturned);
+            cursor = lastReturned;
+            lastReturned = -1;
+            expectedModCount = modCount;
+        }
+
+        private void checkForComodification() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private T elementAt(int index) {
+        return (T) elements[index];
+    }
+
+    private void checkNotEmpty() {
+        if (size == 0) {
+            throw new NoSuchElementException("List is empty");
+        }
     }
 }
@@ -0,0 +1,236 @@
+package com.bobocode.cs;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.PrimitiveIterator;
+
+/**
+ * {@link DoubleArrayList} is an implementation of {@link DoubleList} interface. It is a primitive variant of
+ * {@link ArrayList} that keeps {@code double} values in an {@code double[]} array, so elements are never boxed.
+ */
+public class DoubleArrayList implements DoubleList {
+    private static final int DEFAULT_CAPACITY = 5;
+
+    private double[] elements;
+    private int size;
+
+    /**
+     * This constructor creates an instance of {@link DoubleArrayList} with a specific capacity of an array inside.
+     *
+     * @param initCapacity - the initial capacity of the list
+     * @throws IllegalArgumentException – if the specified initial capacity is negative or 0.
+     */
+    public DoubleArrayList(int initCapacity) {
+        if (initCapacity <= 0) {
+            throw new IllegalArgumentException("Initial capacity should be positive, but was " + initCapacity);
+        }
+        elements = new double[initCapacity];
+    }
+
+    /**
+     * This constructor creates an instance of {@link DoubleArrayList} with a default capacity of an array inside.
+     * A default size of inner array is 5;
+     */
+    public DoubleArrayList() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates and returns an instance of {@link DoubleArrayList} with provided elements
+     *
+     * @param elements to add
+     * @return new instance
+     */
+    public static DoubleArrayList of(double... elements) {
+        DoubleArrayList list = new DoubleArrayList(Math.max(elements.length, DEFAULT_CAPACITY));
+        list.addAll(elements);
+        return list;
+    }
+
+    /**
+     * Adds an element to the array.
+     *
+     * @param element element to add
+     */
+    @Override
+    public void add(double element) {
+        ensureCapacity(size + 1);
+        elements[size++] = element;
+    }
+
+    /**
+     * Adds an element to the specific position in the array where
+     *
+     * @param index   index of position
+     * @param element element to add
+     */
+    @Override
+    public void add(int index, double element) {
+        Objects.checkIndex(index, size + 1);
+        ensureCapacity(size + 1);
+        System.arraycopy(elements, index, elements, index + 1, size - index);
+        elements[index] = element;
+        size++;
+    }
+
+    /**
+     * Adds all provided elements to the end of the list. The inner array is resized at most once and the elements
+     * are copied in one go.
+     *
+     * @param elements elements to add
+     */
+    @Override
+    public void addAll(double... elements) {
+        ensureCapacity(size + elements.length);
+        System.arraycopy(elements, 0, this.elements, size, elements.length);
+        size += elements.length;
+    }
+
+    /**
+     * Changes the value of array at specific position. In case provided index in out of the list bounds it
+     * throws {@link IndexOutOfBoundsException}
+     *
+     * @param index   position of value
+     * @param element a new value
+     */
+    @Override
+    public void set(int index, double element) {
+        Objects.checkIndex(index, size);
+        elements[index] = element;
+    }
+
+    /**
+     * Retrieves an element by its position index. In case provided index in out of the list bounds it
+     * throws {@link IndexOutOfBoundsException}
+     *
+     * @param index index of element
+     * @return en element
+     */
+    @Override
+    public double get(int index) {
+        Objects.checkIndex(index, size);
+        return elements[index];
+    }
+
+    /**
+     * Returns the first element of the list. Operation is performed in constant time O(1)
+     *
+     * @return the first element of the list
+     * @throws NoSuchElementException if list is empty
+     */
+    @Override
+    public double getFirst() {
+        checkNotEmpty();
+        return elements[0];
+    }
+
+    /**
+     * Returns the last element of the list. Operation is performed in constant time O(1)
+     *
+     * @return the last element of the list
+     * @throws NoSuchElementException if list is empty
+     */
+    @Override
+    public double getLast() {
+        checkNotEmpty();
+        return elements[size - 1];
+    }
+
+    /**
+     * Removes an elements by its position index. In case provided index in out of the list bounds it
+     * throws {@link IndexOutOfBoundsException}
+     *
+     * @param index element index
+     * @return deleted element
+     */
+    @Override
+    public double remove(int index) {
+        Objects.checkIndex(index, size);
+        double removed = elements[index];
+        System.arraycopy(elements, index + 1, elements, index, size - index - 1);
+        size--;
+        return removed;
+    }
+
+    /**
+     * Checks for existing of a specific element in the list. Values are compared the same way as
+     * {@link Double#equals(Object)} does, so {@code NaN} can be found while {@code 0.0} and {@code -0.0} are different.
+     *
+     * @param element is element
+     * @return If element exists method returns true, otherwise it returns false
+     */
+    @Override
+    public boolean contains(double element) {
+        for (int i = 0; i < size; i++) {
+            if (Double.compare(elements[i], element) == 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Checks if a list is empty
+     *
+     * @return {@code true} if list is empty, {@code false} otherwise
+     */
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * @return amount of saved elements
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Removes all list elements. Since primitives hold no references, the inner array is left as is.
+     */
+    @Override
+    public void clear() {
+        size = 0;
+    }
+
+    @Override
+    public double[] toArray() {
+        return Arrays.copyOf(elements, size);
+    }
+
+    @Override
+    public PrimitiveIterator.OfDouble iterator() {
+        return new PrimitiveIterator.OfDouble() {
+            private int cursor;
+
+            @Override
+            public boolean hasNext() {
+                return cursor < size;
+            }
+
+            @Override
+            public double nextDouble() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return elements[cursor++];
+            }
+        };
+    }
+
+    private void ensureCapacity(int minCapacity) {
+        if (minCapacity > elements.length) {
+            int newCapacity = Math.max(minCapacity, elements.length + (elements.length >> 1) + 1);
+            elements = Arrays.copyOf(elements, newCapacity);
+        }
+    }
+
+    private void checkNotEmpty() {
+        if (size == 0) {
+            throw new NoSuchElementException("List is empty");
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.bobocode.cs;
+
+/**
+ * {@link GrowthPolicy} decides how much the inner array of {@link ArrayList} grows when it runs out of space. Every
+ * resize copies the whole array, so the policy is a trade-off between the number of copies and the amount of unused
+ * memory that is kept in reserve.
+ */
+@FunctionalInterface
+public interface GrowthPolicy {
+    /**
+     * The maximum size of array to allocate. Some VMs reserve header words in an array, so bigger arrays may fail.
+     */
+    int MAX_ARRAY_SIZE = Integer.MAX_VALUE - 8;
+
+    /**
+     * Calculates a new capacity of the inner array.
+     *
+     * @param currentCapacity current length of the inner array
+     * @param minCapacity     the minimum required capacity, it is always greater than current capacity
+     * @return a new capacity that is not less than minCapacity
+     */
+    int newCapacity(int currentCapacity, int minCapacity);
+
+    /**
+     * Grows the array by 50%. It is the same policy that {@link java.util.ArrayList} uses, and the default one.
+     *
+     * @return 1.5x growth policy
+     */
+    static GrowthPolicy oneAndHalf() {
+        return (currentCapacity, minCapacity) -> capacityOf(minCapacity, currentCapacity + (currentCapacity >> 1));
+    }
+
+    /**
+     * Doubles the array. It performs fewer copies than {@link #oneAndHalf()}, but can keep up to a half of the array
+     * unused.
+     *
+     * @return 2x growth policy
+     */
+    static GrowthPolicy doubling() {
+        return (currentCapacity, minCapacity) -> capacityOf(minCapacity, 2L * currentCapacity);
+    }
+
+    /**
+     * Grows the array by a fixed number of elements. It keeps the unused memory bounded, but the number of copies
+     * grows linearly with the list size, so it fits lists which size is known roughly in advance.
+     *
+     * @param increment number of elements to add to the capacity
+     * @return fixed-increment growth policy
+     * @throws IllegalArgumentException if increment is negative or 0
+     */
+    static GrowthPolicy fixedIncrement(int increment) {
+        if (increment <= 0) {
+            throw new IllegalArgumentException("Increment should be positive, but was " + increment);
+        }
+        return (currentCapacity, minCapacity) -> capacityOf(minCapacity, (long) currentCapacity + increment);
+    }
+
+    /**
+     * Doubles the array until the growth reaches the provided maximum increment, and grows by that increment after
+     * that. Small lists get the low number of copies of geometric growth, while huge arrays do not reserve hundreds of
+     * megabytes that may never be used.
+     *
+     * @param maxIncrement the maximum number of elements to add to the capacity at once
+     * @return capped geometric growth policy
+     * @throws IllegalArgumentException if maxIncrement is negative or 0
+     */
+    static GrowthPolicy cappedGeometric(int maxIncrement) {
+        if (maxIncrement <= 0) {
+            throw new IllegalArgumentException("Max increment should be positive, but was " + maxIncrement);
+        }
+        return (currentCapacity, minCapacity) ->
+                capacityOf(minCapacity, (long) currentCapacity + Math.min(currentCapacity, maxIncrement));
+    }
+
+    private static int capacityOf(int minCapacity, long preferredCapacity) {
+        return (int) Math.max(minCapacity, Math.min(preferredCapacity, MAX_ARRAY_SIZE));
+    }
+}
@@ -7,7 +7,11 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestMethodOrder;
 
 import java.lang.reflect.Field;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
 import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
 
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThatExceptionOfType;
@@ -353,6 +357,208 @@ class ArrayListTest {
                 .isThrownBy(() -> arrayList.get(0));
     }
 
+    @Test
+    @Order(37)
+    void ensureCapacityResizesArrayOnce() {
+        arrayList = new ArrayList<>(4, GrowthPolicy.doubling());
+        fillTestArray(1, 2, 3, 4);
+
+        ((ArrayList<Integer>) arrayList).ensureCapacity(100);
+
+        assertThat(getTestArray().length).isEqualTo(100);
+        assertThat(arrayList.get(3)).isEqualTo(4);
+    }
+
+    @Test
+    @Order(38)
+    void ensureCapacityDoesNotShrinkArray() {
+        arrayList = new ArrayList<>(10);
+
+        ((ArrayList<Integer>) arrayList).ensureCapacity(5);
+
+        assertThat(getTestArray().length).isEqualTo(10);
+    }
+
+    @Test
+    @Order(39)
+    void trimToSize() {
+        arrayList = new ArrayList<>(100);
+        arrayList.add(1);
+        arrayList.add(2);
+
+        ((ArrayList<Integer>) arrayList).trimToSize();
+        arrayList.add(3);
+
+        assertThat(getTestArray().length).isGreaterThanOrEqualTo(3);
+        assertThat(getTestArray().length).isLessThan(100);
+        assertThat(arrayList.getLast()).isEqualTo(3);
+        assertThat(getTestSize()).isEqualTo(3);
+    }
+
+    @Test
+    @Order(40)
+    void addUsesGrowthPolicy() {
+        arrayList = new ArrayList<>(4, GrowthPolicy.fixedIncrement(3));
+        fillTestArray(1, 2, 3, 4);
+
+        arrayList.add(5);
+
+        assertThat(getTestArray().length).isEqualTo(7);
+    }
+
+    @Test
+    @Order(41)
+    void addAll() {
+        fillTestArray(1, 2);
+
+        arrayList.addAll(java.util.List.of(3, 4, 5, 6, 7));
+
+        assertThat(getTestSize()).isEqualTo(7);
+        assertThat(getTestArray()[2]).isEqualTo(3);
+        assertThat(getTestArray()[6]).isEqualTo(7);
+    }
+
+    @Test
+    @Order(42)
+    void removeIfCompactsArray() {
+        fillTestArray(1, 2, 3, 4, 5, 6);
+
+        boolean removed = arrayList.removeIf(e -> e % 2 == 0);
+
+        Object[] internalArray = getTestArray();
+        assertThat(removed).isTrue();
+        assertThat(getTestSize()).isEqualTo(3);
+        assertThat(internalArray[0]).isEqualTo(1);
+        assertThat(internalArray[1]).isEqualTo(3);
+        assertThat(internalArray[2]).isEqualTo(5);
+        assertThat(internalArray[3]).isNull();
+    }
+
+    @Test
+    @Order(43)
+    void removeIfKeepsListConsistentWhenFilterThrowsException() {
+        fillTestArray(1, 2, 3, 4);
+
+        assertThatExceptionOfType(IllegalStateException.class)
+                .isThrownBy(() -> arrayList.removeIf(e -> {
+                    if (e == 3) {
+                        throw new IllegalStateException();
+                    }
+                    return e == 2;
+                }));
+
+        assertThat(getTestSize()).isEqualTo(3);
+        assertThat(arrayList.stream().collect(Collectors.toList())).isEqualTo(java.util.List.of(1, 3, 4));
+    }
+
+    @Test
+    @Order(44)
+    void iteratorRemove() {
+        fillTestArray(1, 2, 3);
+
+        Iterator<Integer> iterator = arrayList.iterator();
+        iterator.next();
+        iterator.next();
+        iterator.remove();
+
+        assertThat(iterator.next()).isEqualTo(3);
+        assertThat(getTestSize()).isEqualTo(2);
+    }
+
+    @Test
+    @Order(45)
+    void iteratorIsFailFast() {
+        arrayList.add(1);
+        arrayList.add(2);
+
+        Iterator<Integer> iterator = arrayList.iterator();
+        iterator.next();
+        arrayList.remove(0);
+
+        assertThatExceptionOfType(ConcurrentModificationException.class)
+                .isThrownBy(iterator::next);
+    }
+
+    @Test
+    @Order(46)
+    void subListIsBackedByTheList() {
+        arrayList = ArrayList.of(1, 2, 3, 4, 5);
+
+        List<Integer> subList = arrayList.subList(1, 4);
+        subList.set(0, 20);
+        subList.clear();
+
+        assertThat(arrayList.stream().collect(Collectors.toList())).isEqualTo(java.util.List.of(1, 5));
+    }
+
+    @Test
+    @Order(47)
+    void subListIsFailFast() {
+        arrayList = ArrayList.of(1, 2, 3, 4, 5);
+
+        List<Integer> subList = arrayList.subList(1, 4);
+        arrayList.add(6);
+
+        assertThatExceptionOfType(ConcurrentModificationException.class)
+                .isThrownBy(() -> subList.get(0));
+    }
+
+    @Test
+    @Order(48)
+    void forEach() {
+        arrayList = ArrayList.of(1, 2, 3);
+        java.util.List<Integer> visited = new java.util.ArrayList<>();
+
+        arrayList.forEach(visited::add);
+
+        assertThat(visited).isEqualTo(java.util.List.of(1, 2, 3));
+    }
+
+    @Test
+    @Order(49)
+    void spliteratorSplitsExactlyInHalves() {
+        arrayList = ArrayList.of(1, 2, 3, 4, 5, 6, 7, 8, 9, 10);
+        Spliterator<Integer> suffix = arrayList.spliterator();
+
+        Spliterator<Integer> prefix = suffix.trySplit();
+
+        assertThat(prefix.getExactSizeIfKnown()).isEqualTo(5);
+        assertThat(suffix.getExactSizeIfKnown()).isEqualTo(5);
+        assertThat(suffix.hasCharacteristics(Spliterator.SUBSIZED)).isTrue();
+        prefix.tryAdvance(e -> assertThat(e).isEqualTo(1));
+        suffix.tryAdvance(e -> assertThat(e).isEqualTo(6));
+    }
+
+    @Test
+    @Order(50)
+    void parallelStream() {
+        arrayList = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            arrayList.add(i);
+        }
+
+        java.util.List<Integer> elements = arrayList.stream().parallel().collect(Collectors.toList());
+
+        assertThat(elements.size()).isEqualTo(10_000);
+        assertThat(elements.get(9_999)).isEqualTo(9_999);
+    }
+
+    @Test
+    @Order(51)
+    void subListDetectsModificationThatKeepsSize() {
+        arrayList = ArrayList.of(1, 2, 3, 4, 5);
+
+        List<Integer> subList = arrayList.subList(1, 4);
+        List<Integer> nestedSubList = subList.subList(0, 2);
+        arrayList.add(0, 6);
+        arrayList.remove(0);
+
+        assertThatExceptionOfType(ConcurrentModificationException.class)
+                .isThrownBy(() -> subList.get(0));
+        assertThatExceptionOfType(ConcurrentModificationException.class)
+                .isThrownBy(() -> nestedSubList.get(0));
+    }
+
     @SneakyThrows
     private void setTestSize(int size) {
         Field sizeField = arrayList.getClass().getDeclaredField("size");
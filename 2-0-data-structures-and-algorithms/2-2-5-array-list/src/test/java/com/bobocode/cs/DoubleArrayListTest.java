@@ -0,0 +1,44 @@
+package com.bobocode.cs;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.PrimitiveIterator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DoubleArrayListTest {
+
+    private DoubleList list = new DoubleArrayList();
+
+    @Test
+    void addAndRemove() {
+        list.addAll(1.5, 2.5, 3.5);
+        list.add(0, 0.5);
+
+        double removed = list.remove(3);
+
+        assertThat(removed).isEqualTo(3.5);
+        assertThat(list.toArray()).containsExactly(0.5, 1.5, 2.5);
+    }
+
+    @Test
+    void containsComparesLikeEquals() {
+        list = DoubleArrayList.of(Double.NaN, 0.0);
+
+        assertThat(list.contains(Double.NaN)).isTrue();
+        assertThat(list.contains(-0.0)).isFalse();
+    }
+
+    @Test
+    void iterator() {
+        list = DoubleArrayList.of(1.0, 2.0, 3.0);
+        PrimitiveIterator.OfDouble iterator = list.iterator();
+
+        double sum = 0;
+        while (iterator.hasNext()) {
+            sum += iterator.nextDouble();
+        }
+
+        assertThat(sum).isEqualTo(6.0);
+    }
+}
@@ -0,0 +1,53 @@
+package com.bobocode.cs;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+class GrowthPolicyTest {
+
+    @Test
+    void oneAndHalf() {
+        assertThat(GrowthPolicy.oneAndHalf().newCapacity(10, 11)).isEqualTo(15);
+    }
+
+    @Test
+    void doubling() {
+        assertThat(GrowthPolicy.doubling().newCapacity(10, 11)).isEqualTo(20);
+    }
+
+    @Test
+    void fixedIncrement() {
+        assertThat(GrowthPolicy.fixedIncrement(100).newCapacity(10, 11)).isEqualTo(110);
+    }
+
+    @Test
+    void fixedIncrementShouldBePositive() {
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> GrowthPolicy.fixedIncrement(0));
+    }
+
+    @Test
+    void cappedGeometricDoublesSmallArrays() {
+        assertThat(GrowthPolicy.cappedGeometric(1000).newCapacity(10, 11)).isEqualTo(20);
+    }
+
+    @Test
+    void cappedGeometricLimitsIncrementOfLargeArrays() {
+        assertThat(GrowthPolicy.cappedGeometric(1000).newCapacity(1_000_000, 1_000_001)).isEqualTo(1_001_000);
+    }
+
+    @Test
+    void newCapacityIsNotLessThanMinCapacity() {
+        assertThat(GrowthPolicy.oneAndHalf().newCapacity(0, 1)).isEqualTo(1);
+        assertThat(GrowthPolicy.doubling().newCapacity(10, 500)).isEqualTo(500);
+    }
+
+    @Test
+    void newCapacityDoesNotOverflow() {
+        int capacity = GrowthPolicy.doubling().newCapacity(Integer.MAX_VALUE / 2 + 1, Integer.MAX_VALUE / 2 + 2);
+
+        assertThat(capacity).isEqualTo(GrowthPolicy.MAX_ARRAY_SIZE);
+    }
+}
@@ -0,0 +1,115 @@
+package com.bobocode.cs;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+class IntArrayListTest {
+
+    private IntList list = new IntArrayList();
+
+    @Test
+    void addGrowsInnerArray() {
+        for (int i = 0; i < 100; i++) {
+            list.add(i);
+        }
+
+        assertThat(list.size()).isEqualTo(100);
+        assertThat(list.getFirst()).isEqualTo(0);
+        assertThat(list.getLast()).isEqualTo(99);
+    }
+
+    @Test
+    void addByIndexShiftsElements() {
+        list = IntArrayList.of(1, 2, 4);
+
+        list.add(2, 3);
+        list.add(0, 0);
+        list.add(5, 5);
+
+        assertThat(list.toArray()).containsExactly(0, 1, 2, 3, 4, 5);
+    }
+
+    @Test
+    void addByIndexOutOfBounds() {
+        list = IntArrayList.of(1, 2);
+
+        assertThatExceptionOfType(IndexOutOfBoundsException.class)
+                .isThrownBy(() -> list.add(3, 10));
+    }
+
+    @Test
+    void addAll() {
+        list.add(1);
+        list.addAll(2, 3, 4, 5, 6, 7, 8, 9);
+
+        assertThat(list.size()).isEqualTo(9);
+        assertThat(list.toArray()).containsExactly(1, 2, 3, 4, 5, 6, 7, 8, 9);
+    }
+
+    @Test
+    void setAndGet() {
+        list = IntArrayList.of(10, 20, 30);
+
+        list.set(1, 25);
+
+        assertThat(list.get(1)).isEqualTo(25);
+        assertThatExceptionOfType(IndexOutOfBoundsException.class)
+                .isThrownBy(() -> list.get(3));
+    }
+
+    @Test
+    void remove() {
+        list = IntArrayList.of(10, 20, 30);
+
+        int removed = list.remove(1);
+
+        assertThat(removed).isEqualTo(20);
+        assertThat(list.toArray()).containsExactly(10, 30);
+    }
+
+    @Test
+    void contains() {
+        list = IntArrayList.of(10, 20, 30);
+
+        assertThat(list.contains(20)).isTrue();
+        assertThat(list.contains(40)).isFalse();
+    }
+
+    @Test
+    void clear() {
+        list = IntArrayList.of(10, 20, 30);
+
+        list.clear();
+
+        assertThat(list.isEmpty()).isTrue();
+        assertThat(list.contains(10)).isFalse();
+        assertThatExceptionOfType(NoSuchElementException.class)
+                .isThrownBy(() -> list.getFirst());
+    }
+
+    @Test
+    void createListWithWrongCapacity() {
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> new IntArrayList(0));
+    }
+
+    @Test
+    void iterator() {
+        list = IntArrayList.of(1, 2, 3);
+        PrimitiveIterator.OfInt iterator = list.iterator();
+
+        int sum = 0;
+        while (iterator.hasNext()) {
+            sum += iterator.nextInt();
+        }
+
+        assertThat(sum).isEqualTo(6);
+        assertThatExceptionOfType(NoSuchElementException.class)
+                .isThrownBy(iterator::nextInt);
+    }
+}
@@ -0,0 +1,37 @@
+package com.bobocode.cs;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.PrimitiveIterator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LongArrayListTest {
+
+    private LongList list = new LongArrayList();
+
+    @Test
+    void addAndRemove() {
+        list.addAll(1L, Long.MAX_VALUE, 3L);
+        list.add(1, 2L);
+
+        long removed = list.remove(2);
+
+        assertThat(removed).isEqualTo(Long.MAX_VALUE);
+        assertThat(list.toArray()).containsExactly(1L, 2L, 3L);
+        assertThat(list.contains(Long.MAX_VALUE)).isFalse();
+    }
+
+    @Test
+    void iterator() {
+        list = LongArrayList.of(1L, 2L, 3L);
+        PrimitiveIterator.OfLong iterator = list.iterator();
+
+        long sum = 0;
+        while (iterator.hasNext()) {
+            sum += iterator.nextLong();
+        }
+
+        assertThat(sum).isEqualTo(6L);
+    }
+}
@@ -0,0 +1,357 @@
+package com.bobocode.cs;
+
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * {@link AbstractBinarySearchTree} is a base class of iterative binary search trees with parent references. It
+ * implements all the operations that do not change the shape of a tree, and leaves balancing to subclasses.
+ * <p>
+ * Every node keeps the number of nodes in its subtree. Insertions and rotations keep it up to date, which makes
+ * {@link #rank(Comparable)} and {@link #select(int)} take a single path from the root down to a leaf.
+ *
+ * @param <T> a type of elements that should be {@link Comparable}
+ * @param <N> a type of tree nodes
+ */
+abstract class AbstractBinarySearchTree<T extends Comparable<T>, N extends AbstractBinarySearchTree.Node<T, N>>
+        implements BinarySearchTree<T> {
+    private N root;
+    private int size;
+
+    abstract static class Node<T, N extends Node<T, N>> {
+        T element;
+        N parent;
+        N left;
+        N right;
+        int subtreeSize = 1;
+
+        Node(T element, N parent) {
+            this.element = element;
+            this.parent = parent;
+        }
+    }
+
+    /**
+     * Creates a new leaf node.
+     */
+    abstract N newNode(T element, N parent);
+
+    /**
+     * Restores the balance of the tree after a new leaf node was attached to it.
+     */
+    abstract void afterInsertion(N node);
+
+    N root() {
+        return root;
+    }
+
+    @Override
+    public boolean insert(T element) {
+        Objects.requireNonNull(element);
+        if (root == null) {
+            root = newNode(element, null);
+            size++;
+            afterInsertion(root);
+            return true;
+        }
+        N parent = root;
+        while (true) {
+            int cmp = element.compareTo(parent.element);
+            if (cmp == 0) {
+                return false;
+            }
+            N next = cmp < 0 ? parent.left : parent.right;
+            if (next == null) {
+                N node = newNode(element, parent);
+                if (cmp < 0) {
+                    parent.left = node;
+                } else {
+                    parent.right = node;
+                }
+                size++;
+                for (N ancestor = parent; ancestor != null; ancestor = ancestor.parent) {
+                    ancestor.subtreeSize++;
+                }
+                afterInsertion(node);
+                return true;
+            }
+            parent = next;
+        }
+    }
+
+    @Override
+    public boolean contains(T element) {
+        Objects.requireNonNull(element);
+        N node = root;
+        while (node != null) {
+            int cmp = element.compareTo(node.element);
+            if (cmp == 0) {
+                return true;
+            }
+            node = cmp < 0 ? node.left : node.right;
+        }
+        return false;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Walks the whole tree in order using parent references, tracking the depth of the current node. It takes
+     * constant memory, but linear time. Subclasses that keep subtree heights are expected to override it.
+     */
+    @Override
+    public int depth() {
+        if (root == null) {
+            return 0;
+        }
+        int maxDepth = 0;
+        int depth = 0;
+        N node = root;
+        while (node.left != null) {
+            node = node.left;
+            depth++;
+        }
+        while (node != null) {
+            maxDepth = Math.max(maxDepth, depth);
+            if (node.right != null) {
+                node = node.right;
+                depth++;
+                while (node.left != null) {
+                    node = node.left;
+                    depth++;
+                }
+            } else {
+                while (node.parent != null && node.parent.right == node) {
+                    node = node.parent;
+                    depth--;
+                }
+                node = node.parent;
+                depth--;
+            }
+        }
+        return maxDepth;
+    }
+
+    @Override
+    public void inOrderTraversal(Consumer<T> consumer) {
+        N node = root == null ? null : leftmost(root);
+        while (node != null) {
+            consumer.accept(node.element);
+            node = successor(node);
+        }
+    }
+
+    /**
+     * Returns a {@link TreeSpliterator} that splits the tree by subtrees. Since the tree is balanced, the sizes of
+     * the parts differ at most by a constant factor.
+     *
+     * @return a spliterator over the tree elements in their natural order
+     */
+    @Override
+    public Spliterator<T> spliterator() {
+        return new TreeSpliterator<>(root, size, node -> node.left, node -> node.right, node -> node.element);
+    }
+
+    @Override
+    public T floor(T element) {
+        Objects.requireNonNull(element);
+        T floor = null;
+        N node = root;
+        while (node != null) {
+            int cmp = element.compareTo(node.element);
+            if (cmp == 0) {
+                return node.element;
+            } else if (cmp < 0) {
+                node = node.left;
+            } else {
+                floor = node.element;
+                node = node.right;
+            }
+        }
+        return floor;
+    }
+
+    @Override
+    public T ceiling(T element) {
+        Objects.requireNonNull(element);
+        T ceiling = null;
+        N node = root;
+        while (node != null) {
+            int cmp = element.compareTo(node.element);
+            if (cmp == 0) {
+                return node.element;
+            } else if (cmp > 0) {
+                node = node.right;
+            } else {
+                ceiling = node.element;
+                node = node.left;
+            }
+        }
+        return ceiling;
+    }
+
+    @Override
+    public T min() {
+        checkNotEmpty();
+        return leftmost(root).element;
+    }
+
+    @Override
+    public T max() {
+        checkNotEmpty();
+        N node = root;
+        while (node.right != null) {
+            node = node.right;
+        }
+        return node.element;
+    }
+
+    /**
+     * Finds the first node in the range with a single descent, then follows successors until the end of the range.
+     */
+    @Override
+    public void rangeTraversal(T from, T to, Consumer<T> consumer) {
+        checkRange(from, to);
+        N first = null;
+        N node = root;
+        while (node != null) {
+            if (from.compareTo(node.element) <= 0) {
+                first = node;
+                node = node.left;
+            } else {
+                node = node.right;
+            }
+        }
+        for (node = first; node != null && node.element.compareTo(to) < 0; node = successor(node)) {
+            consumer.accept(node.element);
+        }
+    }
+
+    @Override
+    public int rank(T element) {
+        Objects.requireNonNull(element);
+        int rank = 0;
+        N node = root;
+        while (node != null) {
+            int cmp = element.compareTo(node.element);
+            if (cmp <= 0) {
+                if (cmp == 0) {
+                    return rank + subtreeSize(node.left);
+                }
+                node = node.left;
+            } else {
+                rank += subtreeSize(node.left) + 1;
+                node = node.right;
+            }
+        }
+        return rank;
+    }
+
+    @Override
+    public T select(int index) {
+        Objects.checkIndex(index, size);
+        N node = root;
+        while (true) {
+            int leftSize = subtreeSize(node.left);
+            if (index < leftSize) {
+                node = node.left;
+            } else if (index > leftSize) {
+                index -= leftSize + 1;
+                node = node.right;
+            } else {
+                return node.element;
+            }
+        }
+    }
+
+    /**
+     * Recomputes the values a node keeps about its subtree after its children changed. Subclasses that keep more
+     * values than the subtree size are expected to extend it.
+     */
+    void update(N node) {
+        node.subtreeSize = 1 + subtreeSize(node.left) + subtreeSize(node.right);
+    }
+
+    N rotateLeft(N node) {
+        N pivot = node.right;
+        node.right = pivot.left;
+        if (pivot.left != null) {
+            pivot.left.parent = node;
+        }
+        replaceChild(node, pivot);
+        pivot.left = node;
+        node.parent = pivot;
+        update(node);
+        update(pivot);
+        return pivot;
+    }
+
+    N rotateRight(N node) {
+        N pivot = node.left;
+        node.left = pivot.right;
+        if (pivot.right != null) {
+            pivot.right.parent = node;
+        }
+        replaceChild(node, pivot);
+        pivot.right = node;
+        node.parent = pivot;
+        update(node);
+        update(pivot);
+        return pivot;
+    }
+
+    /**
+     * Puts the replacement node in place of the provided node in its parent, or makes it the root.
+     */
+    private void replaceChild(N node, N replacement) {
+        N parent = node.parent;
+        replacement.parent = parent;
+        if (parent == null) {
+            root = replacement;
+        } else if (parent.left == node) {
+            parent.left = replacement;
+        } else {
+            parent.right = replacement;
+        }
+    }
+
+    private void checkNotEmpty() {
+        if (root == null) {
+            throw new NoSuchElementException("Tree is empty");
+        }
+    }
+
+    private static <T extends Comparable<T>> void checkRange(T from, T to) {
+        Objects.requireNonNull(from);
+        Objects.requireNonNull(to);
+        if (from.compareTo(to) > 0) {
+            throw new IllegalArgumentException("Range start " + from + " is greater than range end " + to);
+        }
+    }
+
+    private static int subtreeSize(Node<?, ?> node) {
+        return node == null ? 0 : node.subtreeSize;
+    }
+
+    private static <T, N extends Node<T, N>> N leftmost(N node) {
+        while (node.left != null) {
+            node = node.left;
+        }
+        return node;
+    }
+
+    private static <T, N extends Node<T, N>> N successor(N node) {
+        if (node.right != null) {
+            return leftmost(node.right);
+        }
+        while (node.parent != null && node.parent.right == node) {
+            node = node.parent;
+        }
+        return node.parent;
+    }
+}
@@ -0,0 +1,93 @@
+package com.bobocode.cs;
+
+import java.util.function.Consumer;
+
+/**
+ * {@link AvlTree} is a self-balancing implementation of {@link BinarySearchTree}. The heights of the two child subtrees
+ * of any node differ by at most one, so the depth of the tree never exceeds {@code 1.44 * log2(n)} whatever the order
+ * of inserted elements is.
+ * <p>
+ * Every operation is iterative. Nodes keep a reference to their parent, so {@link #insert(Comparable)} walks back up
+ * to rebalance the tree, and {@link #inOrderTraversal(Consumer)} moves to the next node without a stack. It makes the
+ * tree safe for any number of elements.
+ * <p>
+ * Every node also keeps the size of its subtree, so order statistics like {@link #rank(Comparable)} take O(log n).
+ *
+ * @param <T> a type of elements that should be {@link Comparable}
+ */
+public class AvlTree<T extends Comparable<T>> extends AbstractBinarySearchTree<T, AvlTree.Node<T>> {
+
+    static class Node<T> extends AbstractBinarySearchTree.Node<T, Node<T>> {
+        int height;
+
+        Node(T element, Node<T> parent) {
+            super(element, parent);
+        }
+    }
+
+    @SafeVarargs
+    public static <T extends Comparable<T>> AvlTree<T> of(T... elements) {
+        AvlTree<T> tree = new AvlTree<>();
+        for (T element : elements) {
+            tree.insert(element);
+        }
+        return tree;
+    }
+
+    /**
+     * Every node keeps the height of its subtree, so the depth is the height of the root.
+     */
+    @Override
+    public int depth() {
+        Node<T> root = root();
+        return root == null ? 0 : root.height;
+    }
+
+    @Override
+    Node<T> newNode(T element, Node<T> parent) {
+        return new Node<>(element, parent);
+    }
+
+    /**
+     * Goes from the parent of a new node up to the root, updating heights and rotating every node that became
+     * unbalanced. Stops as soon as the height of a subtree did not change, since the nodes above are not affected.
+     */
+    @Override
+    void afterInsertion(Node<T> node) {
+        node = node.parent;
+        while (node != null) {
+            int oldHeight = node.height;
+            update(node);
+            int balance = balance(node);
+            if (balance > 1) {
+                if (balance(node.left) < 0) {
+                    rotateLeft(node.left);
+                }
+                node = rotateRight(node);
+            } else if (balance < -1) {
+                if (balance(node.right) > 0) {
+                    rotateRight(node.right);
+                }
+                node = rotateLeft(node);
+            }
+            if (node.height == oldHeight) {
+                return;
+            }
+            node = node.parent;
+        }
+    }
+
+    @Override
+    void update(Node<T> node) {
+        super.update(node);
+        node.height = 1 + Math.max(height(node.left), height(node.right));
+    }
+
+    private static int balance(Node<?> node) {
+        return height(node.left) - height(node.right);
+    }
+
+    private static int height(Node<?> node) {
+        return node == null ? -1 : node.height;
+    }
+}
@@ -1,6 +1,14 @@
 package com.bobocode.cs;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
 import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 public interface BinarySearchTree<T extends Comparable<T>> {
     /**
@@ -29,4 +37,126 @@ public interface BinarySearchTree<T extends Comparable<T>> {
      * @param consumer accepts ref. to node during traversing
      */
     void inOrderTraversal(Consumer<T> consumer);
+
+    /*
+     * The default implementations of the queries below traverse the whole tree, so they take O(n) time. They exist
+     * only to make every tree support the queries, implementations are expected to answer them in O(log n).
+     */
+
+    /**
+     * @return the greatest element less than or equal to the given one, or {@code null} if there is no such element
+     */
+    default T floor(T element) {
+        Objects.requireNonNull(element);
+        List<T> floor = new ArrayList<>(1);
+        inOrderTraversal(e -> {
+            if (e.compareTo(element) <= 0) {
+                floor.clear();
+                floor.add(e);
+            }
+        });
+        return floor.isEmpty() ? null : floor.get(0);
+    }
+
+    /**
+     * @return the least element greater than or equal to the given one, or {@code null} if there is no such element
+     */
+    default T ceiling(T element) {
+        Objects.requireNonNull(element);
+        List<T> ceiling = new ArrayList<>(1);
+        inOrderTraversal(e -> {
+            if (ceiling.isEmpty() && e.compareTo(element) >= 0) {
+                ceiling.add(e);
+            }
+        });
+        return ceiling.isEmpty() ? null : ceiling.get(0);
+    }
+
+    /**
+     * @return the smallest element of the tree
+     * @throws NoSuchElementException if the tree is empty
+     */
+    default T min() {
+        if (size() == 0) {
+            throw new NoSuchElementException("Tree is empty");
+        }
+        return select(0);
+    }
+
+    /**
+     * @return the greatest element of the tree
+     * @throws NoSuchElementException if the tree is empty
+     */
+    default T max() {
+        if (size() == 0) {
+            throw new NoSuchElementException("Tree is empty");
+        }
+        return select(size() - 1);
+    }
+
+    /**
+     * traverse the elements from a range in element's natural order
+     * @param from     low endpoint (inclusive) of the range
+     * @param to       high endpoint (exclusive) of the range
+     * @param consumer accepts elements of the range
+     * @throws IllegalArgumentException if from is greater than to
+     */
+    default void rangeTraversal(T from, T to, Consumer<T> consumer) {
+        Objects.requireNonNull(from);
+        Objects.requireNonNull(to);
+        if (from.compareTo(to) > 0) {
+            throw new IllegalArgumentException("Range start " + from + " is greater than range end " + to);
+        }
+        inOrderTraversal(e -> {
+            if (e.compareTo(from) >= 0 && e.compareTo(to) < 0) {
+                consumer.accept(e);
+            }
+        });
+    }
+
+    /**
+     * @return number of elements in the tree that are less than the given one; the element itself may be absent
+     */
+    default int rank(T element) {
+        Objects.requireNonNull(element);
+        int[] rank = new int[1];
+        inOrderTraversal(e -> {
+            if (e.compareTo(element) < 0) {
+                rank[0]++;
+            }
+        });
+        return rank[0];
+    }
+
+    /**
+     * @param index a zero-based position of an element in element's natural order
+     * @return the element that has exactly {@code index} smaller elements in the tree
+     * @throws IndexOutOfBoundsException if index is negative or not less than the size of the tree
+     */
+    default T select(int index) {
+        Objects.checkIndex(index, size());
+        List<T> elements = new ArrayList<>(size());
+        inOrderTraversal(elements::add);
+        return elements.get(index);
+    }
+
+    /**
+     * The default implementation copies the elements into a list first, implementations are expected to split
+     * the tree itself.
+     *
+     * @return a spliterator over the tree elements in their natural order
+     */
+    default Spliterator<T> spliterator() {
+        List<T> elements = new ArrayList<>(size());
+        inOrderTraversal(elements::add);
+        return Spliterators.spliterator(elements, Spliterator.ORDERED | Spliterator.SORTED | Spliterator.DISTINCT
+                | Spliterator.NONNULL);
+    }
+
+    /**
+     * @return a sequential stream of the tree elements in their natural order
+     */
+    default Stream<T> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
 }
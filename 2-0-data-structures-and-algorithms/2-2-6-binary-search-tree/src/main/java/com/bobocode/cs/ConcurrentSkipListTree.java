@@ -0,0 +1,308 @@
+package com.bobocode.cs;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * {@link ConcurrentSkipListTree} is a lock-free implementation of {@link BinarySearchTree} based on a skip list. All
+ * elements are kept in a sorted linked list, and every node is also linked into a random number of index levels above
+ * it, each level skipping about a half of the nodes of the level below. A search starts from the top level and goes
+ * down, so it takes O(log n) steps on average.
+ * <p>
+ * {@link #insert(Comparable)} and {@link #contains(Comparable)} are safe to call from many threads. A new node is
+ * published by a single compare-and-set of the next reference of its predecessor in the bottom list, then it is
+ * linked into the index levels one by one. Since elements are never removed, a node that is reachable once stays
+ * reachable, and readers never wait for writers.
+ * <p>
+ * {@link #inOrderTraversal(Consumer)} and {@link #spliterator()} are weakly consistent. They never throw
+ * {@link java.util.ConcurrentModificationException}, they see every element that was inserted before they started,
+ * and they may or may not see elements that are inserted concurrently.
+ * <p>
+ * {@link #floor(Comparable)}, {@link #ceiling(Comparable)}, {@link #max()} and {@link #rangeTraversal} search through
+ * the index levels in O(log n). Nodes do not keep the number of nodes they skip, since it would have to be updated
+ * atomically on every level of every insertion, so {@link #rank(Comparable)} and {@link #select(int)} walk the bottom
+ * list and take O(n).
+ *
+ * @param <T> a type of elements that should be {@link Comparable}
+ */
+public class ConcurrentSkipListTree<T extends Comparable<T>> implements BinarySearchTree<T> {
+    private static final int MAX_LEVEL = 32;
+    private static final VarHandle NEXT = MethodHandles.arrayElementVarHandle(Node[].class);
+
+    private final Node<T> head = new Node<>(null, MAX_LEVEL);
+    private final AtomicInteger levels = new AtomicInteger(1);
+    private final LongAdder size = new LongAdder();
+
+    /**
+     * A node keeps its next references of all levels in a plain array, which is read and updated atomically through
+     * {@link #NEXT}. It saves an indirection on every step of a search compared to an atomic array.
+     */
+    static class Node<T> {
+        final T element;
+        final Node<T>[] next;
+
+        @SuppressWarnings("unchecked")
+        Node(T element, int levels) {
+            this.element = element;
+            this.next = new Node[levels];
+        }
+    }
+
+    @SafeVarargs
+    public static <T extends Comparable<T>> ConcurrentSkipListTree<T> of(T... elements) {
+        ConcurrentSkipListTree<T> tree = new ConcurrentSkipListTree<>();
+        for (T element : elements) {
+            tree.insert(element);
+        }
+        return tree;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public boolean insert(T element) {
+        Objects.requireNonNull(element);
+        Node<T>[] predecessors = new Node[MAX_LEVEL];
+        Node<T>[] successors = new Node[MAX_LEVEL];
+        int nodeLevels = randomLevels();
+        Node<T> node = null;
+        while (true) {
+            if (find(element, predecessors, successors)) {
+                return false;
+            }
+            if (node == null) {
+                node = new Node<>(element, nodeLevels);
+            }
+            node.next[0] = successors[0];
+            if (casNext(predecessors[0], 0, successors[0], node)) {
+                break;
+            }
+        }
+        size.increment();
+        levels.accumulateAndGet(nodeLevels, Math::max);
+        for (int level = 1; level < nodeLevels; level++) {
+            while (true) {
+                node.next[level] = successors[level];
+                if (casNext(predecessors[level], level, successors[level], node)) {
+                    break;
+                }
+                find(element, predecessors, successors);
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public boolean contains(T element) {
+        Objects.requireNonNull(element);
+        Node<T> predecessor = head;
+        for (int level = levels.get() - 1; level >= 0; level--) {
+            Node<T> current = next(predecessor, level);
+            while (current != null) {
+                int cmp = current.element.compareTo(element);
+                if (cmp == 0) {
+                    return true;
+                } else if (cmp > 0) {
+                    break;
+                }
+                predecessor = current;
+                current = next(predecessor, level);
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the number of elements. Under concurrent insertions the result is a moment-in-time estimate.
+     */
+    @Override
+    public int size() {
+        return size.intValue();
+    }
+
+    /**
+     * A skip list has no root, so its depth is the number of index levels above the bottom list. Like the depth of
+     * a balanced tree, it is the number of steps down a search makes, and it grows as log2(n) on average.
+     */
+    @Override
+    public int depth() {
+        return levels.get() - 1;
+    }
+
+    @Override
+    public void inOrderTraversal(Consumer<T> consumer) {
+        for (Node<T> node = next(head, 0); node != null; node = next(node, 0)) {
+            consumer.accept(node.element);
+        }
+    }
+
+    /**
+     * Returns a weakly consistent spliterator that follows the bottom list.
+     *
+     * @return a spliterator over the tree elements in their natural order
+     */
+    @Override
+    public Spliterator<T> spliterator() {
+        return Spliterators.spliteratorUnknownSize(new Iterator<>() {
+            private Node<T> current = ConcurrentSkipListTree.next(head, 0);
+
+            @Override
+            public boolean hasNext() {
+                return current != null;
+            }
+
+            @Override
+            public T next() {
+                if (current == null) {
+                    throw new NoSuchElementException();
+                }
+                T element = current.element;
+                current = ConcurrentSkipListTree.next(current, 0);
+                return element;
+            }
+        }, Spliterator.ORDERED | Spliterator.SORTED | Spliterator.DISTINCT | Spliterator.NONNULL
+                | Spliterator.CONCURRENT);
+    }
+
+    @Override
+    public T floor(T element) {
+        Objects.requireNonNull(element);
+        Node<T> floor = lastBefore(element, true);
+        return floor == head ? null : floor.element;
+    }
+
+    @Override
+    public T ceiling(T element) {
+        Objects.requireNonNull(element);
+        Node<T> ceiling = next(lastBefore(element, false), 0);
+        return ceiling == null ? null : ceiling.element;
+    }
+
+    @Override
+    public T min() {
+        Node<T> first = next(head, 0);
+        if (first == null) {
+            throw new NoSuchElementException("Tree is empty");
+        }
+        return first.element;
+    }
+
+    /**
+     * Goes right on every level as far as possible, so it takes O(log n) steps like a search.
+     */
+    @Override
+    public T max() {
+        Node<T> node = head;
+        for (int level = levels.get() - 1; level >= 0; level--) {
+            for (Node<T> next = next(node, level); next != null; next = next(node, level)) {
+                node = next;
+            }
+        }
+        if (node == head) {
+            throw new NoSuchElementException("Tree is empty");
+        }
+        return node.element;
+    }
+
+    @Override
+    public void rangeTraversal(T from, T to, Consumer<T> consumer) {
+        Objects.requireNonNull(from);
+        Objects.requireNonNull(to);
+        if (from.compareTo(to) > 0) {
+            throw new IllegalArgumentException("Range start " + from + " is greater than range end " + to);
+        }
+        for (Node<T> node = next(lastBefore(from, false), 0);
+             node != null && node.element.compareTo(to) < 0; node = next(node, 0)) {
+            consumer.accept(node.element);
+        }
+    }
+
+    @Override
+    public int rank(T element) {
+        Objects.requireNonNull(element);
+        int rank = 0;
+        for (Node<T> node = next(head, 0); node != null && node.element.compareTo(element) < 0;
+             node = next(node, 0)) {
+            rank++;
+        }
+        return rank;
+    }
+
+    @Override
+    public T select(int index) {
+        Objects.checkIndex(index, size());
+        Node<T> node = next(head, 0);
+        for (int i = 0; i < index && node != null; i++) {
+            node = next(node, 0);
+        }
+        if (node == null) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for length " + size());
+        }
+        return node.element;
+    }
+
+    /**
+     * Finds the last node of the bottom list which element is less than the given one, or less than or equal to it
+     * if inclusive. Returns the head if there is no such node.
+     */
+    private Node<T> lastBefore(T element, boolean inclusive) {
+        Node<T> predecessor = head;
+        for (int level = levels.get() - 1; level >= 0; level--) {
+            Node<T> current = next(predecessor, level);
+            while (current != null) {
+                int cmp = current.element.compareTo(element);
+                if (cmp > 0 || cmp == 0 && !inclusive) {
+                    break;
+                }
+                predecessor = current;
+                current = next(predecessor, level);
+            }
+        }
+        return predecessor;
+    }
+
+    /**
+     * Fills the last node before the element and the first node after it on every level.
+     *
+     * @return true if the element is already in the bottom list
+     */
+    private boolean find(T element, Node<T>[] predecessors, Node<T>[] successors) {
+        Node<T> predecessor = head;
+        for (int level = MAX_LEVEL - 1; level >= 0; level--) {
+            Node<T> current = next(predecessor, level);
+            while (current != null && current.element.compareTo(element) < 0) {
+                predecessor = current;
+                current = next(predecessor, level);
+            }
+            predecessors[level] = predecessor;
+            successors[level] = current;
+        }
+        return successors[0] != null && successors[0].element.compareTo(element) == 0;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> Node<T> next(Node<T> node, int level) {
+        return (Node<T>) NEXT.getAcquire(node.next, level);
+    }
+
+    private static <T> boolean casNext(Node<T> node, int level, Node<T> expected, Node<T> next) {
+        return NEXT.compareAndSet(node.next, level, expected, next);
+    }
+
+    /**
+     * Chooses the number of levels of a new node, so that every next level has a half of the nodes of the previous
+     * one.
+     */
+    private static int randomLevels() {
+        int random = ThreadLocalRandom.current().nextInt() | (1 << (MAX_LEVEL - 1));
+        return 1 + Integer.numberOfTrailingZeros(random);
+    }
+}
@@ -1,37 +1,397 @@
 package com.bobocode.cs;
 
-import com.bobocode.util.ExerciseNotCompletedException;
-
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
 import java.util.function.Consumer;
+import java.util.stream.IntStream;
 
+/**
+ * {@link RecursiveBinarySearchTree} is an unbalanced implementation of {@link BinarySearchTree} where every operation
+ * is implemented recursively. Its depth depends on the order of inserted elements.
+ * <p>
+ * Every node keeps the number of nodes in its subtree, so order statistics like {@link #rank(Comparable)} take a single
+ * path from the root down, which is O(log n) for random input.
+ *
+ * @param <T> a type of elements that should be {@link Comparable}
+ */
 public class RecursiveBinarySearchTree<T extends Comparable<T>> implements BinarySearchTree<T> {
+    private static final int PARALLEL_THRESHOLD = 1 << 13;
+
+    private Node<T> root;
+    private int size;
+
+    static class Node<T> {
+        T element;
+        Node<T> left;
+        Node<T> right;
+        int subtreeSize = 1;
+
+        Node(T element) {
+            this.element = element;
+        }
+    }
 
+    /**
+     * Creates a tree of provided elements. If the elements are already sorted, builds a perfectly balanced tree in
+     * O(n) time, otherwise inserts them one by one in the provided order. Duplicates are ignored in both cases.
+     *
+     * @param elements elements of the tree
+     * @return a new tree
+     */
+    @SafeVarargs
     public static <T extends Comparable<T>> RecursiveBinarySearchTree<T> of(T... elements) {
-        throw new ExerciseNotCompletedException();
+        RecursiveBinarySearchTree<T> tree = new RecursiveBinarySearchTree<>();
+        T[] sorted = sortedDistinct(elements);
+        if (sorted != null) {
+            tree.root = balancedSubtree(sorted, 0, sorted.length);
+            tree.size = sorted.length;
+        } else {
+            for (T element : elements) {
+                tree.insert(element);
+            }
+        }
+        return tree;
+    }
+
+    /**
+     * Creates a perfectly balanced tree of provided elements using the common {@link ForkJoinPool}. Both halves of
+     * every large subtree are built in parallel. Unsorted elements are sorted with {@link Arrays#parallelSort}
+     * first, so the result is balanced whatever the order of the elements is. Duplicates are ignored.
+     *
+     * @param elements elements of the tree
+     * @return a new tree
+     */
+    @SafeVarargs
+    public static <T extends Comparable<T>> RecursiveBinarySearchTree<T> ofParallel(T... elements) {
+        T[] sorted = IntStream.range(0, elements.length).parallel()
+                .allMatch(i -> i == 0 ? elements[0] != null : elements[i - 1].compareTo(elements[i]) < 0)
+                ? elements
+                : sortedDistinctCopy(elements);
+        RecursiveBinarySearchTree<T> tree = new RecursiveBinarySearchTree<>();
+        tree.root = ForkJoinPool.commonPool().invoke(balancedSubtreeTask(sorted, 0, sorted.length));
+        tree.size = sorted.length;
+        return tree;
+    }
+
+    /**
+     * Checks whether the elements are sorted in a single pass, and removes duplicates if there are any.
+     *
+     * @return sorted elements without duplicates, or {@code null} if the elements are not sorted
+     */
+    private static <T extends Comparable<T>> T[] sortedDistinct(T[] elements) {
+        int distinct = 0;
+        for (int i = 0; i < elements.length; i++) {
+            Objects.requireNonNull(elements[i]);
+            int cmp = i == 0 ? -1 : elements[i - 1].compareTo(elements[i]);
+            if (cmp > 0) {
+                return null;
+            } else if (cmp < 0) {
+                distinct++;
+            }
+        }
+        return distinct == elements.length ? elements : distinctCopy(elements);
+    }
+
+    private static <T extends Comparable<T>> T[] sortedDistinctCopy(T[] elements) {
+        T[] sorted = elements.clone();
+        Arrays.parallelSort(sorted);
+        return distinctCopy(sorted);
+    }
+
+    /**
+     * Copies sorted elements skipping equal neighbours.
+     */
+    private static <T extends Comparable<T>> T[] distinctCopy(T[] sorted) {
+        T[] distinct = sorted.clone();
+        int size = 0;
+        for (int i = 0; i < sorted.length; i++) {
+            if (size == 0 || distinct[size - 1].compareTo(sorted[i]) != 0) {
+                distinct[size++] = sorted[i];
+            }
+        }
+        return Arrays.copyOf(distinct, size);
+    }
+
+    /**
+     * Builds a balanced subtree of sorted elements from a range, taking the middle element as its root. Since the
+     * depth of the result is log2(n), the recursion is safe for any number of elements.
+     */
+    private static <T> Node<T> balancedSubtree(T[] sorted, int from, int to) {
+        if (from == to) {
+            return null;
+        }
+        int middle = (from + to) >>> 1;
+        Node<T> node = new Node<>(sorted[middle]);
+        node.left = balancedSubtree(sorted, from, middle);
+        node.right = balancedSubtree(sorted, middle + 1, to);
+        node.subtreeSize = to - from;
+        return node;
+    }
+
+    /**
+     * Creates a task that builds a balanced subtree like {@link #balancedSubtree(Object[], int, int)}, forking the
+     * left half of every subtree that has more than {@link #PARALLEL_THRESHOLD} elements. The task is an anonymous
+     * class, so {@link Node} stays the only nested class of the tree.
+     */
+    private static <T> RecursiveTask<Node<T>> balancedSubtreeTask(T[] sorted, int from, int to) {
+        return new RecursiveTask<>() {
+            @Override
+            protected Node<T> compute() {
+                if (to - from <= PARALLEL_THRESHOLD) {
+                    return balancedSubtree(sorted, from, to);
+                }
+                int middle = (from + to) >>> 1;
+                RecursiveTask<Node<T>> left = balancedSubtreeTask(sorted, from, middle);
+                left.fork();
+                Node<T> node = new Node<>(sorted[middle]);
+                node.right = balancedSubtreeTask(sorted, middle + 1, to).invoke();
+                node.left = left.join();
+                node.subtreeSize = to - from;
+                return node;
+            }
+        };
     }
 
     @Override
     public boolean insert(T element) {
-        throw new ExerciseNotCompletedException();
+        Objects.requireNonNull(element);
+        if (root == null) {
+            root = new Node<>(element);
+            size++;
+            return true;
+        }
+        boolean inserted = insertIntoSubtree(root, element);
+        if (inserted) {
+            size++;
+        }
+        return inserted;
+    }
+
+    private boolean insertIntoSubtree(Node<T> node, T element) {
+        int cmp = element.compareTo(node.element);
+        if (cmp < 0) {
+            if (node.left == null) {
+                node.left = new Node<>(element);
+                node.subtreeSize++;
+                return true;
+            }
+            return grownIf(node, insertIntoSubtree(node.left, element));
+        } else if (cmp > 0) {
+            if (node.right == null) {
+                node.right = new Node<>(element);
+                node.subtreeSize++;
+                return true;
+            }
+            return grownIf(node, insertIntoSubtree(node.right, element));
+        }
+        return false;
+    }
+
+    private boolean grownIf(Node<T> node, boolean inserted) {
+        if (inserted) {
+            node.subtreeSize++;
+        }
+        return inserted;
     }
 
     @Override
     public boolean contains(T element) {
-        throw new ExerciseNotCompletedException();
+        Objects.requireNonNull(element);
+        return contains(root, element);
+    }
+
+    private boolean contains(Node<T> node, T element) {
+        if (node == null) {
+            return false;
+        }
+        int cmp = element.compareTo(node.element);
+        if (cmp < 0) {
+            return contains(node.left, element);
+        } else if (cmp > 0) {
+            return contains(node.right, element);
+        }
+        return true;
     }
 
     @Override
     public int size() {
-        throw new ExerciseNotCompletedException();
+        return size;
     }
 
     @Override
     public int depth() {
-        throw new ExerciseNotCompletedException();
+        return root == null ? 0 : depth(root) - 1;
+    }
+
+    private int depth(Node<T> node) {
+        if (node == null) {
+            return 0;
+        }
+        return 1 + Math.max(depth(node.left), depth(node.right));
     }
 
     @Override
     public void inOrderTraversal(Consumer<T> consumer) {
-        throw new ExerciseNotCompletedException();
+        inOrderTraversal(root, consumer);
+    }
+
+    private void inOrderTraversal(Node<T> node, Consumer<T> consumer) {
+        if (node != null) {
+            inOrderTraversal(node.left, consumer);
+            consumer.accept(node.element);
+            inOrderTraversal(node.right, consumer);
+        }
+    }
+
+    /**
+     * Returns a {@link TreeSpliterator} that splits the tree by subtrees, so the elements can be processed by
+     * a parallel stream.
+     *
+     * @return a spliterator over the tree elements in their natural order
+     */
+    @Override
+    public Spliterator<T> spliterator() {
+        return new TreeSpliterator<>(root, size, node -> node.left, node -> node.right, node -> node.element);
+    }
+
+    @Override
+    public T floor(T element) {
+        Objects.requireNonNull(element);
+        Node<T> floor = floor(root, element);
+        return floor == null ? null : floor.element;
+    }
+
+    private Node<T> floor(Node<T> node, T element) {
+        if (node == null) {
+            return null;
+        }
+        int cmp = element.compareTo(node.element);
+        if (cmp < 0) {
+            return floor(node.left, element);
+        } else if (cmp > 0) {
+            Node<T> floor = floor(node.right, element);
+            return floor == null ? node : floor;
+        }
+        return node;
+    }
+
+    @Override
+    public T ceiling(T element) {
+        Objects.requireNonNull(element);
+        Node<T> ceiling = ceiling(root, element);
+        return ceiling == null ? null : ceiling.element;
+    }
+
+    private Node<T> ceiling(Node<T> node, T element) {
+        if (node == null) {
+            return null;
+        }
+        int cmp = element.compareTo(node.element);
+        if (cmp > 0) {
+            return ceiling(node.right, element);
+        } else if (cmp < 0) {
+            Node<T> ceiling = ceiling(node.left, element);
+            return ceiling == null ? node : ceiling;
+        }
+        return node;
+    }
+
+    @Override
+    public T min() {
+        checkNotEmpty();
+        return min(root).element;
+    }
+
+    private Node<T> min(Node<T> node) {
+        return node.left == null ? node : min(node.left);
+    }
+
+    @Override
+    public T max() {
+        checkNotEmpty();
+        return max(root).element;
+    }
+
+    private Node<T> max(Node<T> node) {
+        return node.right == null ? node : max(node.right);
+    }
+
+    @Override
+    public void rangeTraversal(T from, T to, Consumer<T> consumer) {
+        Objects.requireNonNull(from);
+        Objects.requireNonNull(to);
+        if (from.compareTo(to) > 0) {
+            throw new IllegalArgumentException("Range start " + from + " is greater than range end " + to);
+        }
+        rangeTraversal(root, from, to, consumer);
+    }
+
+    /**
+     * Skips the left subtree if all its elements are less than the range start, and the right subtree if all its
+     * elements are greater than the range end.
+     */
+    private void rangeTraversal(Node<T> node, T from, T to, Consumer<T> consumer) {
+        if (node != null) {
+            boolean afterFrom = node.element.compareTo(from) >= 0;
+            boolean beforeTo = node.element.compareTo(to) < 0;
+            if (afterFrom) {
+                rangeTraversal(node.left, from, to, consumer);
+            }
+            if (afterFrom && beforeTo) {
+                consumer.accept(node.element);
+            }
+            if (beforeTo) {
+                rangeTraversal(node.right, from, to, consumer);
+            }
+        }
+    }
+
+    @Override
+    public int rank(T element) {
+        Objects.requireNonNull(element);
+        return rank(root, element);
+    }
+
+    private int rank(Node<T> node, T element) {
+        if (node == null) {
+            return 0;
+        }
+        int cmp = element.compareTo(node.element);
+        if (cmp < 0) {
+            return rank(node.left, element);
+        } else if (cmp > 0) {
+            return subtreeSize(node.left) + 1 + rank(node.right, element);
+        }
+        return subtreeSize(node.left);
+    }
+
+    @Override
+    public T select(int index) {
+        Objects.checkIndex(index, size);
+        return select(root, index).element;
+    }
+
+    private Node<T> select(Node<T> node, int index) {
+        int leftSize = subtreeSize(node.left);
+        if (index < leftSize) {
+            return select(node.left, index);
+        } else if (index > leftSize) {
+            return select(node.right, index - leftSize - 1);
+        }
+        return node;
+    }
+
+    private int subtreeSize(Node<T> node) {
+        return node == null ? 0 : node.subtreeSize;
+    }
+
+    private void checkNotEmpty() {
+        if (root == null) {
+            throw new NoSuchElementException("Tree is empty");
+        }
     }
 }
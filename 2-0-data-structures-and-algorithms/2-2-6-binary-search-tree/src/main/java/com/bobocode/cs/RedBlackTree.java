@@ -0,0 +1,92 @@
+package com.bobocode.cs;
+
+/**
+ * {@link RedBlackTree} is a self-balancing implementation of {@link BinarySearchTree}. Every node is either red or
+ * black, a red node never has a red child, and every path from a node down to its leaves has the same number of black
+ * nodes. It keeps the depth of the tree below {@code 2 * log2(n + 1)}.
+ * <p>
+ * Compared to {@link AvlTree}, the tree is balanced less strictly, so lookups may go a bit deeper, but an insertion
+ * does at most two rotations. Every operation is iterative and nodes keep a reference to their parent, so the tree is
+ * safe for any number of elements. Every node also keeps the size of its subtree, so order statistics like
+ * {@link #rank(Comparable)} take O(log n).
+ *
+ * @param <T> a type of elements that should be {@link Comparable}
+ */
+public class RedBlackTree<T extends Comparable<T>> extends AbstractBinarySearchTree<T, RedBlackTree.Node<T>> {
+    private static final boolean RED = true;
+    private static final boolean BLACK = false;
+
+    static class Node<T> extends AbstractBinarySearchTree.Node<T, Node<T>> {
+        boolean color = RED;
+
+        Node(T element, Node<T> parent) {
+            super(element, parent);
+        }
+    }
+
+    @SafeVarargs
+    public static <T extends Comparable<T>> RedBlackTree<T> of(T... elements) {
+        RedBlackTree<T> tree = new RedBlackTree<>();
+        for (T element : elements) {
+            tree.insert(element);
+        }
+        return tree;
+    }
+
+    @Override
+    Node<T> newNode(T element, Node<T> parent) {
+        return new Node<>(element, parent);
+    }
+
+    /**
+     * Restores the red-black properties after a red node was attached as a leaf. While the parent of the node is red,
+     * either recolors the parent and the uncle and moves two levels up, or rotates the subtree and stops.
+     */
+    @Override
+    void afterInsertion(Node<T> node) {
+        while (node.parent != null && node.parent.color == RED) {
+            Node<T> parent = node.parent;
+            Node<T> grandparent = parent.parent;
+            if (parent == grandparent.left) {
+                Node<T> uncle = grandparent.right;
+                if (colorOf(uncle) == RED) {
+                    parent.color = BLACK;
+                    uncle.color = BLACK;
+                    grandparent.color = RED;
+                    node = grandparent;
+                } else {
+                    if (node == parent.right) {
+                        node = parent;
+                        rotateLeft(node);
+                        parent = node.parent;
+                    }
+                    parent.color = BLACK;
+                    grandparent.color = RED;
+                    rotateRight(grandparent);
+                }
+            } else {
+                Node<T> uncle = grandparent.left;
+                if (colorOf(uncle) == RED) {
+                    parent.color = BLACK;
+                    uncle.color = BLACK;
+                    grandparent.color = RED;
+                    node = grandparent;
+                } else {
+                    if (node == parent.left) {
+                        node = parent;
+                        rotateRight(node);
+                        parent = node.parent;
+                    }
+                    parent.color = BLACK;
+                    grandparent.color = RED;
+                    rotateLeft(grandparent);
+                }
+            }
+        }
+        root().color = BLACK;
+    }
+
+    private static boolean colorOf(Node<?> node) {
+        return node == null ? BLACK : node.color;
+    }
+}
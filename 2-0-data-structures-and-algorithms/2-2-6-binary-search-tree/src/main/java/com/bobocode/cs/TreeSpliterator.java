@@ -0,0 +1,204 @@
+package com.bobocode.cs;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
+
+/**
+ * {@link TreeSpliterator} is a {@link Spliterator} that goes through the elements of a binary search tree in their
+ * natural order without recursion, and splits the tree by subtrees.
+ * <p>
+ * Its state is a stack of pending entries. An entry is either a whole subtree or a single node element. The entries on
+ * the top of the stack go first, so the right-most subtree always lies at the bottom. {@link #trySplit()} gives away
+ * the entries above the bottom-most subtree and keeps that subtree, which halves the work for a balanced tree.
+ * Subtrees are expanded lazily, so a spliterator never touches the nodes of the part it gave away.
+ *
+ * @param <N> a type of tree nodes
+ * @param <T> a type of elements
+ */
+class TreeSpliterator<N, T> implements Spliterator<T> {
+    private static final int INITIAL_STACK_CAPACITY = 16;
+
+    private final UnaryOperator<N> left;
+    private final UnaryOperator<N> right;
+    private final Function<N, T> element;
+
+    private Object[] nodes;
+    private boolean[] subtrees;
+    private int top;
+    private long estimatedSize;
+    private boolean exactSize;
+
+    /**
+     * Creates a spliterator over a whole tree.
+     *
+     * @param root    the root node of the tree, can be {@code null}
+     * @param size    number of elements in the tree
+     * @param left    a function that returns the left child of a node
+     * @param right   a function that returns the right child of a node
+     * @param element a function that returns the element of a node
+     */
+    TreeSpliterator(N root, int size, UnaryOperator<N> left, UnaryOperator<N> right, Function<N, T> element) {
+        this(new Object[INITIAL_STACK_CAPACITY], new boolean[INITIAL_STACK_CAPACITY], 0, size, true,
+                left, right, element);
+        if (root != null) {
+            push(root, true);
+        }
+    }
+
+    private TreeSpliterator(Object[] nodes, boolean[] subtrees, int top, long estimatedSize, boolean exactSize,
+                            UnaryOperator<N> left, UnaryOperator<N> right, Function<N, T> element) {
+        this.nodes = nodes;
+        this.subtrees = subtrees;
+        this.top = top;
+        this.estimatedSize = estimatedSize;
+        this.exactSize = exactSize;
+        this.left = left;
+        this.right = right;
+        this.element = element;
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super T> action) {
+        Objects.requireNonNull(action);
+        while (top > 0) {
+            N node = pop();
+            if (subtrees[top]) {
+                pushLeftSpine(node);
+            } else {
+                if (estimatedSize > 0) {
+                    estimatedSize--;
+                }
+                action.accept(element.apply(node));
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super T> action) {
+        Objects.requireNonNull(action);
+        while (top > 0) {
+            N node = pop();
+            if (subtrees[top]) {
+                pushLeftSpine(node);
+            } else {
+                action.accept(element.apply(node));
+            }
+        }
+        estimatedSize = 0;
+    }
+
+    @Override
+    public Spliterator<T> trySplit() {
+        int splitIndex = splitIndex();
+        while (splitIndex < 0 && top > 0 && subtrees[top - 1]) {
+            expandTop();
+            splitIndex = splitIndex();
+        }
+        if (splitIndex <= 0 || splitIndex >= top) {
+            return null;
+        }
+        int prefixLength = top - splitIndex;
+        Object[] prefixNodes = Arrays.copyOf(Arrays.copyOfRange(nodes, splitIndex, top),
+                Math.max(prefixLength, INITIAL_STACK_CAPACITY));
+        boolean[] prefixSubtrees = Arrays.copyOf(Arrays.copyOfRange(subtrees, splitIndex, top),
+                Math.max(prefixLength, INITIAL_STACK_CAPACITY));
+        Arrays.fill(nodes, splitIndex, top, null);
+        top = splitIndex;
+
+        long prefixSize = estimatedSize >>> 1;
+        estimatedSize -= prefixSize;
+        exactSize = false;
+        return new TreeSpliterator<>(prefixNodes, prefixSubtrees, prefixLength, prefixSize, false,
+                left, right, element);
+    }
+
+    @Override
+    public long estimateSize() {
+        return estimatedSize;
+    }
+
+    @Override
+    public int characteristics() {
+        return ORDERED | SORTED | DISTINCT | NONNULL | (exactSize ? SIZED : 0);
+    }
+
+    /**
+     * Elements are sorted in their natural order.
+     *
+     * @return {@code null}
+     */
+    @Override
+    public Comparator<? super T> getComparator() {
+        return null;
+    }
+
+    /**
+     * Finds how many bottom entries this spliterator keeps after a split. It keeps everything up to the bottom-most
+     * subtree, or a half of the stack if there are only single elements left. Returns -1 if the only subtree is on
+     * the top of the stack, so it should be expanded first.
+     */
+    private int splitIndex() {
+        for (int i = 0; i < top; i++) {
+            if (subtrees[i]) {
+                return i + 1 < top ? i + 1 : -1;
+            }
+        }
+        return top / 2;
+    }
+
+    /**
+     * Replaces the subtree on the top of the stack with its right subtree, its root element and its left subtree.
+     */
+    private void expandTop() {
+        N node = pop();
+        N rightChild = right.apply(node);
+        N leftChild = left.apply(node);
+        if (rightChild != null) {
+            push(rightChild, true);
+        }
+        push(node, false);
+        if (leftChild != null) {
+            push(leftChild, true);
+        }
+    }
+
+    /**
+     * Pushes the left-most path of a subtree, so the smallest element of the subtree ends up on the top.
+     */
+    private void pushLeftSpine(N node) {
+        while (node != null) {
+            N rightChild = right.apply(node);
+            if (rightChild != null) {
+                push(rightChild, true);
+            }
+            push(node, false);
+            node = left.apply(node);
+        }
+    }
+
+    private void push(N node, boolean subtree) {
+        if (top == nodes.length) {
+            nodes = Arrays.copyOf(nodes, top * 2);
+            subtrees = Arrays.copyOf(subtrees, top * 2);
+        }
+        nodes[top] = node;
+        subtrees[top++] = subtree;
+    }
+
+    /**
+     * Removes the top entry. Its subtree flag stays available at {@code subtrees[top]} until the next push.
+     */
+    @SuppressWarnings("unchecked")
+    private N pop() {
+        N node = (N) nodes[--top];
+        nodes[top] = null;
+        return node;
+    }
+}
@@ -15,6 +15,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.function.Predicate;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.*;
@@ -235,6 +236,58 @@ class BinarySearchTreeTest {
         assertThat(traversedElements).isEqualTo(List.of(sortedElements));
     }
 
+    @Test
+    @Order(20)
+    void ofSortedElementsBuildsBalancedTree() {
+        Integer[] sortedElements = IntStream.range(0, (1 << 16) - 1).boxed().toArray(Integer[]::new);
+
+        tree = RecursiveBinarySearchTree.of(sortedElements);
+
+        assertThat(tree.depth()).isEqualTo(15);
+        assertThat(getInnerSize()).isEqualTo(sortedElements.length);
+        List<Integer> traversedElements = new ArrayList<>(getInnerSize());
+        tree.inOrderTraversal(traversedElements::add);
+        assertThat(traversedElements).isEqualTo(List.of(sortedElements));
+        assertThat(tree.rank(1000)).isEqualTo(1000);
+        assertThat(tree.select(1000)).isEqualTo(1000);
+    }
+
+    @Test
+    @Order(21)
+    void ofSortedElementsIgnoresDuplicates() {
+        tree = RecursiveBinarySearchTree.of(1, 2, 2, 3, 3, 3);
+
+        assertThat(getInnerSize()).isEqualTo(3);
+        assertThat(tree.depth()).isEqualTo(1);
+        assertThat(tree.select(2)).isEqualTo(3);
+    }
+
+    @Test
+    @Order(22)
+    void ofParallelBuildsBalancedTree() {
+        Integer[] sortedElements = IntStream.range(0, 1_000_000).boxed().toArray(Integer[]::new);
+
+        tree = RecursiveBinarySearchTree.ofParallel(sortedElements);
+
+        assertThat(tree.depth()).isEqualTo(19);
+        assertThat(getInnerSize()).isEqualTo(sortedElements.length);
+        assertThat(tree.stream().parallel().mapToLong(Integer::longValue).sum()).isEqualTo(999_999L * 1_000_000 / 2);
+        assertThat(tree.rank(123_456)).isEqualTo(123_456);
+        assertThat(tree.select(654_321)).isEqualTo(654_321);
+    }
+
+    @Test
+    @Order(23)
+    void ofParallelSortsUnsortedElements() {
+        tree = RecursiveBinarySearchTree.ofParallel(5, 3, 1, 4, 2, 5, 1);
+
+        assertThat(getInnerSize()).isEqualTo(5);
+        assertThat(tree.depth()).isEqualTo(2);
+        List<Integer> traversedElements = new ArrayList<>(getInnerSize());
+        tree.inOrderTraversal(traversedElements::add);
+        assertThat(traversedElements).containsExactly(1, 2, 3, 4, 5);
+    }
+
     public static Stream<Arguments> depthArguments() {
         return Stream.of(
                 //empty tree
@@ -0,0 +1,136 @@
+package com.bobocode.cs;
+
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+
+class ConcurrentSkipListTreeTest {
+    private static final int THREADS = 8;
+
+    private final ConcurrentSkipListTree<Integer> tree = new ConcurrentSkipListTree<>();
+
+    @Test
+    void insert() {
+        assertThat(tree.insert(10)).isTrue();
+        assertThat(tree.insert(5)).isTrue();
+        assertThat(tree.insert(15)).isTrue();
+
+        assertThat(tree.contains(10)).isTrue();
+        assertThat(tree.contains(5)).isTrue();
+        assertThat(tree.contains(15)).isTrue();
+        assertThat(tree.contains(20)).isFalse();
+        assertThat(tree.size()).isEqualTo(3);
+    }
+
+    @Test
+    void insertDoesNotAddDuplicateElements() {
+        ConcurrentSkipListTree<Integer> tree = ConcurrentSkipListTree.of(1, 2, 3);
+
+        assertThat(tree.insert(2)).isFalse();
+        assertThat(tree.size()).isEqualTo(3);
+    }
+
+    @Test
+    void insertThrowsExceptionWhenArgumentIsNull() {
+        assertThatNullPointerException().isThrownBy(() -> tree.insert(null));
+    }
+
+    @Test
+    void containsThrowsExceptionWhenArgumentIsNull() {
+        assertThatNullPointerException().isThrownBy(() -> tree.contains(null));
+    }
+
+    @Test
+    void depthIsLogarithmic() {
+        assertThat(tree.depth()).isEqualTo(0);
+        IntStream.range(0, 1 << 16).forEach(tree::insert);
+
+        assertThat(tree.depth()).isBetween(8, 31);
+    }
+
+    @Test
+    void inOrderTraversal() {
+        List<Integer> elements = IntStream.range(0, 1000).boxed().collect(Collectors.toList());
+        Collections.shuffle(elements, new Random(7));
+        elements.forEach(tree::insert);
+
+        List<Integer> traversedElements = new ArrayList<>();
+        tree.inOrderTraversal(traversedElements::add);
+
+        assertThat(traversedElements).isEqualTo(IntStream.range(0, 1000).boxed().collect(Collectors.toList()));
+        assertThat(tree.stream().collect(Collectors.toList())).isEqualTo(traversedElements);
+    }
+
+    @Test
+    @SneakyThrows
+    void concurrentInsertsOfOverlappingElements() {
+        int elementsPerThread = 20_000;
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Integer>> insertedCounts = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            int offset = t * elementsPerThread / 2;
+            insertedCounts.add(executor.submit(() -> {
+                start.await();
+                int inserted = 0;
+                for (int i = offset; i < offset + elementsPerThread; i++) {
+                    if (tree.insert(i)) {
+                        inserted++;
+                    }
+                }
+                return inserted;
+            }));
+        }
+        start.countDown();
+        int inserted = 0;
+        for (Future<Integer> count : insertedCounts) {
+            inserted += count.get();
+        }
+        executor.shutdown();
+
+        int expectedSize = (THREADS + 1) * elementsPerThread / 2;
+        assertThat(inserted).isEqualTo(expectedSize);
+        assertThat(tree.size()).isEqualTo(expectedSize);
+        List<Integer> traversedElements = new ArrayList<>();
+        tree.inOrderTraversal(traversedElements::add);
+        assertThat(traversedElements).isEqualTo(IntStream.range(0, expectedSize).boxed().collect(Collectors.toList()));
+    }
+
+    @Test
+    @SneakyThrows
+    void traversalDoesNotBlockWriters() {
+        IntStream.range(0, 1000).map(i -> i * 2).forEach(tree::insert);
+        AtomicBoolean writing = new AtomicBoolean(true);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        Future<?> writer = executor.submit(() -> {
+            new Random(42).ints(100_000, 0, 1_000_000).forEach(tree::insert);
+            writing.set(false);
+        });
+
+        while (writing.get()) {
+            List<Integer> traversedElements = new ArrayList<>();
+            tree.inOrderTraversal(traversedElements::add);
+            assertThat(traversedElements).isSorted();
+            assertThat(traversedElements).containsAll(IntStream.range(0, 1000).map(i -> i * 2).boxed()
+                    .collect(Collectors.toList()));
+        }
+        writer.get();
+        executor.shutdown();
+        assertThat(executor.awaitTermination(1, TimeUnit.SECONDS)).isTrue();
+    }
+}
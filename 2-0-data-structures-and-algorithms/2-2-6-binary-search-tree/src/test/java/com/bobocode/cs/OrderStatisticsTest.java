@@ -0,0 +1,138 @@
+package com.bobocode.cs;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.TreeSet;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+import static org.junit.jupiter.params.provider.Arguments.arguments;
+
+/**
+ * Checks floor, ceiling, min, max, range and order statistic queries of every {@link BinarySearchTree} implementation
+ * against {@link TreeSet}.
+ */
+class OrderStatisticsTest {
+
+    static Stream<Arguments> trees() {
+        return Stream.of(
+                arguments("recursive", (Supplier<BinarySearchTree<Integer>>) RecursiveBinarySearchTree::new),
+                arguments("avl", (Supplier<BinarySearchTree<Integer>>) AvlTree::new),
+                arguments("red-black", (Supplier<BinarySearchTree<Integer>>) RedBlackTree::new),
+                arguments("skip list", (Supplier<BinarySearchTree<Integer>>) ConcurrentSkipListTree::new));
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("trees")
+    void floorAndCeiling(String name, Supplier<BinarySearchTree<Integer>> factory) {
+        BinarySearchTree<Integer> tree = filled(factory.get(), 10, 20, 30);
+
+        assertThat(tree.floor(5)).isNull();
+        assertThat(tree.floor(10)).isEqualTo(10);
+        assertThat(tree.floor(25)).isEqualTo(20);
+        assertThat(tree.floor(35)).isEqualTo(30);
+        assertThat(tree.ceiling(5)).isEqualTo(10);
+        assertThat(tree.ceiling(20)).isEqualTo(20);
+        assertThat(tree.ceiling(25)).isEqualTo(30);
+        assertThat(tree.ceiling(35)).isNull();
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("trees")
+    void minAndMax(String name, Supplier<BinarySearchTree<Integer>> factory) {
+        BinarySearchTree<Integer> tree = filled(factory.get(), 20, 10, 30, 25);
+
+        assertThat(tree.min()).isEqualTo(10);
+        assertThat(tree.max()).isEqualTo(30);
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("trees")
+    void minAndMaxThrowExceptionWhenTreeIsEmpty(String name, Supplier<BinarySearchTree<Integer>> factory) {
+        BinarySearchTree<Integer> tree = factory.get();
+
+        assertThatExceptionOfType(NoSuchElementException.class).isThrownBy(tree::min);
+        assertThatExceptionOfType(NoSuchElementException.class).isThrownBy(tree::max);
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("trees")
+    void rangeTraversal(String name, Supplier<BinarySearchTree<Integer>> factory) {
+        BinarySearchTree<Integer> tree = filled(factory.get(), 50, 10, 40, 20, 30);
+
+        List<Integer> elements = new ArrayList<>();
+        tree.rangeTraversal(15, 40, elements::add);
+
+        assertThat(elements).containsExactly(20, 30);
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("trees")
+    void rangeTraversalThrowsExceptionWhenRangeIsReversed(String name, Supplier<BinarySearchTree<Integer>> factory) {
+        BinarySearchTree<Integer> tree = filled(factory.get(), 1, 2, 3);
+
+        assertThatIllegalArgumentException().isThrownBy(() -> tree.rangeTraversal(3, 1, e -> {
+        }));
+        assertThatNullPointerException().isThrownBy(() -> tree.rangeTraversal(null, 1, e -> {
+        }));
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("trees")
+    void rankAndSelect(String name, Supplier<BinarySearchTree<Integer>> factory) {
+        BinarySearchTree<Integer> tree = filled(factory.get(), 40, 10, 30, 20);
+
+        assertThat(tree.rank(5)).isEqualTo(0);
+        assertThat(tree.rank(10)).isEqualTo(0);
+        assertThat(tree.rank(25)).isEqualTo(2);
+        assertThat(tree.rank(40)).isEqualTo(3);
+        assertThat(tree.rank(45)).isEqualTo(4);
+        assertThat(tree.select(0)).isEqualTo(10);
+        assertThat(tree.select(3)).isEqualTo(40);
+        assertThatExceptionOfType(IndexOutOfBoundsException.class).isThrownBy(() -> tree.select(4));
+        assertThatExceptionOfType(IndexOutOfBoundsException.class).isThrownBy(() -> tree.select(-1));
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("trees")
+    void queriesMatchTreeSetOnRandomInput(String name, Supplier<BinarySearchTree<Integer>> factory) {
+        BinarySearchTree<Integer> tree = factory.get();
+        TreeSet<Integer> expected = new TreeSet<>();
+        Random random = new Random(42);
+        random.ints(5_000, 0, 20_000).forEach(e -> {
+            tree.insert(e);
+            expected.add(e);
+        });
+        List<Integer> sorted = new ArrayList<>(expected);
+
+        for (int i = 0; i < 1_000; i++) {
+            int element = random.nextInt(21_000) - 500;
+            assertThat(tree.floor(element)).isEqualTo(expected.floor(element));
+            assertThat(tree.ceiling(element)).isEqualTo(expected.ceiling(element));
+            assertThat(tree.rank(element)).isEqualTo(expected.headSet(element).size());
+        }
+        for (int i = 0; i < sorted.size(); i += 97) {
+            assertThat(tree.select(i)).isEqualTo(sorted.get(i));
+        }
+        List<Integer> range = new ArrayList<>();
+        tree.rangeTraversal(1_000, 2_000, range::add);
+        assertThat(range).containsExactlyElementsOf(expected.subSet(1_000, 2_000));
+    }
+
+    private static BinarySearchTree<Integer> filled(BinarySearchTree<Integer> tree, Integer... elements) {
+        for (Integer element : elements) {
+            tree.insert(element);
+        }
+        return tree;
+    }
+}
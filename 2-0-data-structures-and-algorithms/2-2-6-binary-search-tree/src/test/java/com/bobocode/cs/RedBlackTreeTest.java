@@ -0,0 +1,129 @@
+package com.bobocode.cs;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+
+class RedBlackTreeTest {
+
+    private final RedBlackTree<Integer> tree = new RedBlackTree<>();
+
+    @Test
+    void insert() {
+        assertThat(tree.insert(10)).isTrue();
+        assertThat(tree.insert(5)).isTrue();
+        assertThat(tree.insert(15)).isTrue();
+
+        assertThat(tree.contains(10)).isTrue();
+        assertThat(tree.contains(5)).isTrue();
+        assertThat(tree.contains(15)).isTrue();
+        assertThat(tree.contains(20)).isFalse();
+        assertThat(tree.size()).isEqualTo(3);
+    }
+
+    @Test
+    void insertDoesNotAddDuplicateElements() {
+        RedBlackTree<Integer> tree = RedBlackTree.of(1, 2, 3);
+
+        assertThat(tree.insert(2)).isFalse();
+        assertThat(tree.size()).isEqualTo(3);
+    }
+
+    @Test
+    void insertThrowsExceptionWhenArgumentIsNull() {
+        assertThatNullPointerException().isThrownBy(() -> tree.insert(null));
+    }
+
+    @Test
+    void containsThrowsExceptionWhenArgumentIsNull() {
+        assertThatNullPointerException().isThrownBy(() -> tree.contains(null));
+    }
+
+    @Test
+    void depth() {
+        assertThat(tree.depth()).isEqualTo(0);
+        tree.insert(1);
+        assertThat(tree.depth()).isEqualTo(0);
+        tree.insert(2);
+        tree.insert(3);
+        assertThat(tree.depth()).isEqualTo(1);
+    }
+
+    @Test
+    void sortedInputKeepsTreeBalanced() {
+        int size = 1_000_000;
+        for (int i = 0; i < size; i++) {
+            tree.insert(i);
+        }
+
+        assertThat(tree.size()).isEqualTo(size);
+        assertThat(tree.depth()).isLessThanOrEqualTo((int) (2 * log2(size + 1)));
+        assertThat(tree.contains(0)).isTrue();
+        assertThat(tree.contains(size - 1)).isTrue();
+        assertThat(tree.contains(size)).isFalse();
+    }
+
+    @Test
+    void randomInputKeepsRedBlackProperties() {
+        new Random(42).ints(10_000, 0, 100_000).forEach(tree::insert);
+
+        RedBlackTree.Node<Integer> root = tree.root();
+        assertThat(root.color).isFalse();
+        checkedBlackHeight(root);
+    }
+
+    @Test
+    void inOrderTraversal() {
+        List<Integer> elements = IntStream.range(0, 1000).boxed().collect(Collectors.toList());
+        Collections.shuffle(elements, new Random(7));
+        elements.forEach(tree::insert);
+
+        List<Integer> traversedElements = new ArrayList<>();
+        tree.inOrderTraversal(traversedElements::add);
+
+        assertThat(traversedElements).isEqualTo(IntStream.range(0, 1000).boxed().collect(Collectors.toList()));
+    }
+
+    @Test
+    void parallelStream() {
+        IntStream.range(0, 10_000).forEach(tree::insert);
+
+        assertThat(tree.stream().parallel().mapToLong(Integer::longValue).sum()).isEqualTo(9_999L * 10_000 / 2);
+    }
+
+    /**
+     * Checks that a red node has no red children, and both subtrees of every node have the same number of black nodes
+     * on their paths.
+     */
+    private static int checkedBlackHeight(RedBlackTree.Node<Integer> node) {
+        if (node == null) {
+            return 1;
+        }
+        if (node.color) {
+            assertThat(node.left == null || !node.left.color).isTrue();
+            assertThat(node.right == null || !node.right.color).isTrue();
+        }
+        int leftBlackHeight = checkedBlackHeight(node.left);
+        int rightBlackHeight = checkedBlackHeight(node.right);
+        assertThat(leftBlackHeight).isEqualTo(rightBlackHeight);
+        if (node.left != null) {
+            assertThat(node.left.parent).isSameAs(node);
+        }
+        if (node.right != null) {
+            assertThat(node.right.parent).isSameAs(node);
+        }
+        return leftBlackHeight + (node.color ? 0 : 1);
+    }
+
+    private static double log2(int n) {
+        return Math.log(n) / Math.log(2);
+    }
+}
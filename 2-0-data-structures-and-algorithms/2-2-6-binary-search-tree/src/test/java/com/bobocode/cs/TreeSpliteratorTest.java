@@ -0,0 +1,84 @@
+package com.bobocode.cs;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TreeSpliteratorTest {
+
+    private static RecursiveBinarySearchTree<Integer> shuffledTree(int size) {
+        List<Integer> elements = IntStream.range(0, size).boxed().collect(Collectors.toList());
+        Collections.shuffle(elements, new java.util.Random(7));
+        return RecursiveBinarySearchTree.of(elements.toArray(Integer[]::new));
+    }
+
+    @Test
+    void traversesElementsInNaturalOrder() {
+        RecursiveBinarySearchTree<Integer> tree = shuffledTree(1000);
+
+        List<Integer> elements = new ArrayList<>();
+        tree.spliterator().forEachRemaining(elements::add);
+
+        assertThat(elements).isEqualTo(IntStream.range(0, 1000).boxed().collect(Collectors.toList()));
+    }
+
+    @Test
+    void splitGivesAwayPrefix() {
+        RecursiveBinarySearchTree<Integer> tree = RecursiveBinarySearchTree.of(4, 2, 6, 1, 3, 5, 7);
+        Spliterator<Integer> suffix = tree.spliterator();
+
+        Spliterator<Integer> prefix = suffix.trySplit();
+
+        List<Integer> prefixElements = new ArrayList<>();
+        prefix.forEachRemaining(prefixElements::add);
+        List<Integer> suffixElements = new ArrayList<>();
+        suffix.forEachRemaining(suffixElements::add);
+        assertThat(prefixElements).containsExactly(1, 2, 3, 4);
+        assertThat(suffixElements).containsExactly(5, 6, 7);
+    }
+
+    @Test
+    void recursiveSplitsCoverAllElementsOnce() {
+        RecursiveBinarySearchTree<Integer> tree = shuffledTree(5000);
+
+        List<Integer> elements = new ArrayList<>();
+        splitAndCollect(tree.spliterator(), elements);
+
+        assertThat(elements).isEqualTo(IntStream.range(0, 5000).boxed().collect(Collectors.toList()));
+    }
+
+    @Test
+    void parallelStream() {
+        RecursiveBinarySearchTree<Integer> tree = shuffledTree(10_000);
+
+        List<Integer> elements = tree.stream().parallel().collect(Collectors.toList());
+
+        assertThat(elements).isEqualTo(IntStream.range(0, 10_000).boxed().collect(Collectors.toList()));
+    }
+
+    @Test
+    void characteristics() {
+        Spliterator<Integer> spliterator = RecursiveBinarySearchTree.of(2, 1, 3).spliterator();
+
+        assertThat(spliterator.hasCharacteristics(Spliterator.SORTED)).isTrue();
+        assertThat(spliterator.getExactSizeIfKnown()).isEqualTo(3);
+        assertThat(spliterator.getComparator()).isNull();
+    }
+
+    private void splitAndCollect(Spliterator<Integer> spliterator, List<Integer> elements) {
+        Spliterator<Integer> prefix = spliterator.trySplit();
+        if (prefix != null) {
+            splitAndCollect(prefix, elements);
+            splitAndCollect(spliterator, elements);
+        } else {
+            spliterator.forEachRemaining(elements::add);
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.bobocode.cs;
+
+import java.util.PrimitiveIterator;
+
+/**
+ * {@link DoubleList} is a primitive counterpart of {@link List} that stores {@code double} values without boxing them.
+ */
+public interface DoubleList {
+    void add(double element);
+
+    void add(int index, double element);
+
+    void addAll(double... elements);
+
+    void set(int index, double element);
+
+    double get(int index);
+
+    double getFirst();
+
+    double getLast();
+
+    double remove(int index);
+
+    boolean contains(double element);
+
+    boolean isEmpty();
+
+    int size();
+
+    void clear();
+
+    /**
+     * @return a new array that contains all list elements in the same order
+     */
+    double[] toArray();
+
+    /**
+     * @return an iterator that returns list elements as primitives
+     */
+    PrimitiveIterator.OfDouble iterator();
+}
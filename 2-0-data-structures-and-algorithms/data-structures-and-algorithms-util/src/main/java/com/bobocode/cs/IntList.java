@@ -0,0 +1,42 @@
+package com.bobocode.cs;
+
+import java.util.PrimitiveIterator;
+
+/**
+ * {@link IntList} is a primitive counterpart of {@link List} that stores {@code int} values without boxing them.
+ */
+public interface IntList {
+    void add(int element);
+
+    void add(int index, int element);
+
+    void addAll(int... elements);
+
+    void set(int index, int element);
+
+    int get(int index);
+
+    int getFirst();
+
+    int getLast();
+
+    int remove(int index);
+
+    boolean contains(int element);
+
+    boolean isEmpty();
+
+    int size();
+
+    void clear();
+
+    /**
+     * @return a new array that contains all list elements in the same order
+     */
+    int[] toArray();
+
+    /**
+     * @return an iterator that returns list elements as primitives
+     */
+    PrimitiveIterator.OfInt iterator();
+}
@@ -1,7 +1,16 @@
 package com.bobocode.cs;
 
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
-public interface List<T> {
+
+public interface List<T> extends Iterable<T> {
     void add(T element);
 
     void add(int index, T element);
@@ -23,4 +32,70 @@ public interface List<T> {
     int size();
 
     void clear();
+
+    /**
+     * Adds all elements of provided collection to the end of the list, in the order they are returned by the
+     * collection iterator.
+     *
+     * @param elements elements to add
+     */
+    default void addAll(Collection<? extends T> elements) {
+        for (T element : elements) {
+            add(element);
+        }
+    }
+
+    /**
+     * Removes all elements of the list that satisfy provided predicate. The default implementation removes elements
+     * one by one through {@link Iterator#remove()}, implementations are expected to do it in a single pass.
+     *
+     * @param filter a predicate which returns {@code true} for elements to be removed
+     * @return {@code true} if any elements were removed
+     */
+    default boolean removeIf(Predicate<? super T> filter) {
+        Objects.requireNonNull(filter);
+        boolean removed = false;
+        Iterator<T> iterator = iterator();
+        while (iterator.hasNext()) {
+            if (filter.test(iterator.next())) {
+                iterator.remove();
+                removed = true;
+            }
+        }
+        return removed;
+    }
+
+    /**
+     * Returns a view of the portion of this list between the specified fromIndex, inclusive, and toIndex, exclusive.
+     * The returned list is backed by this list, so changes in the returned list are reflected in this list. If this
+     * list is structurally modified other than through the returned list, the view throws
+     * {@link java.util.ConcurrentModificationException}.
+     *
+     * @param fromIndex low endpoint (inclusive) of the view
+     * @param toIndex   high endpoint (exclusive) of the view
+     * @return a view of the specified range within this list
+     * @throws IndexOutOfBoundsException if fromIndex or toIndex are out of the list bounds or fromIndex > toIndex
+     */
+    default List<T> subList(int fromIndex, int toIndex) {
+        Objects.checkFromToIndex(fromIndex, toIndex, size());
+        return new SubList<>(this, fromIndex, toIndex);
+    }
+
+    /**
+     * Creates a {@link Spliterator} over the elements of the list that knows its exact size, so the list can be
+     * processed by streams, including parallel ones.
+     *
+     * @return a spliterator over the list elements
+     */
+    @Override
+    default Spliterator<T> spliterator() {
+        return Spliterators.spliterator(iterator(), size(), Spliterator.ORDERED);
+    }
+
+    /**
+     * @return a sequential stream of the list elements
+     */
+    default Stream<T> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
 }
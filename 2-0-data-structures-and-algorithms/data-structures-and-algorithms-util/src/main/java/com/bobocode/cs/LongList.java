@@ -0,0 +1,42 @@
+package com.bobocode.cs;
+
+import java.util.PrimitiveIterator;
+
+/**
+ * {@link LongList} is a primitive counterpart of {@link List} that stores {@code long} values without boxing them.
+ */
+public interface LongList {
+    void add(long element);
+
+    void add(int index, long element);
+
+    void addAll(long... elements);
+
+    void set(int index, long element);
+
+    long get(int index);
+
+    long getFirst();
+
+    long getLast();
+
+    long remove(int index);
+
+    boolean contains(long element);
+
+    boolean isEmpty();
+
+    int size();
+
+    void clear();
+
+    /**
+     * @return a new array that contains all list elements in the same order
+     */
+    long[] toArray();
+
+    /**
+     * @return an iterator that returns list elements as primitives
+     */
+    PrimitiveIterator.OfLong iterator();
+}
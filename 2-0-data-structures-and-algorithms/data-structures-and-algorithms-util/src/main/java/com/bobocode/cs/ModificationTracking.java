@@ -0,0 +1,16 @@
+package com.bobocode.cs;
+
+/**
+ * {@link ModificationTracking} is implemented by lists that count their structural modifications, i.e. the ones that
+ * change the size of a list. {@link SubList} compares the count with the one it expects, so it detects a modification
+ * of the parent list even if the parent list has the same size afterwards.
+ */
+interface ModificationTracking {
+
+    /**
+     * Returns a number that changes on every structural modification of the list
+     *
+     * @return the modification count
+     */
+    int modCount();
+}
@@ -0,0 +1,183 @@
+package com.bobocode.cs;
+
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * {@link SubList} is a view of a range of another {@link List}. It does not copy elements, every operation is
+ * translated into an operation on the parent list shifted by the offset of the range.
+ * <p>
+ * The view remembers the size of the parent list and, if the parent list implements {@link ModificationTracking}, its
+ * modification count. It throws {@link ConcurrentModificationException} once the parent list was structurally modified
+ * not through this view.
+ *
+ * @param <T> generic type parameter
+ */
+class SubList<T> implements List<T>, ModificationTracking {
+    private final List<T> parent;
+    private final int offset;
+    private int size;
+    private int expectedParentSize;
+    private int expectedModCount;
+
+    SubList(List<T> parent, int fromIndex, int toIndex) {
+        this.parent = parent;
+        this.offset = fromIndex;
+        this.size = toIndex - fromIndex;
+        this.expectedParentSize = parent.size();
+        this.expectedModCount = modCount(parent);
+    }
+
+    @Override
+    public void add(T element) {
+        add(size, element);
+    }
+
+    @Override
+    public void add(int index, T element) {
+        checkForComodification();
+        Objects.checkIndex(index, size + 1);
+        parent.add(offset + index, element);
+        resized(1);
+    }
+
+    @Override
+    public void set(int index, T element) {
+        checkForComodification();
+        Objects.checkIndex(index, size);
+        parent.set(offset + index, element);
+    }
+
+    @Override
+    public T get(int index) {
+        checkForComodification();
+        Objects.checkIndex(index, size);
+        return parent.get(offset + index);
+    }
+
+    @Override
+    public T getFirst() {
+        checkNotEmpty();
+        return get(0);
+    }
+
+    @Override
+    public T getLast() {
+        checkNotEmpty();
+        return get(size - 1);
+    }
+
+    @Override
+    public T remove(int index) {
+        checkForComodification();
+        Objects.checkIndex(index, size);
+        T removed = parent.remove(offset + index);
+        resized(-1);
+        return removed;
+    }
+
+    @Override
+    public boolean contains(T element) {
+        for (T e : this) {
+            if (Objects.equals(e, element)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    @Override
+    public int size() {
+        checkForComodification();
+        return size;
+    }
+
+    @Override
+    public void clear() {
+        Iterator<T> iterator = iterator();
+        while (iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+        }
+    }
+
+    /**
+     * Returns an iterator that skips the elements before the range using the parent iterator, so the range is
+     * traversed in a single pass over the parent list whatever its implementation is.
+     */
+    @Override
+    public Iterator<T> iterator() {
+        checkForComodification();
+        Iterator<T> parentIterator = parent.iterator();
+        for (int i = 0; i < offset; i++) {
+            parentIterator.next();
+        }
+        return new Iterator<>() {
+            private int cursor;
+
+            @Override
+            public boolean hasNext() {
+                return cursor < size;
+            }
+
+            @Override
+            public T next() {
+                checkForComodification();
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                cursor++;
+                return parentIterator.next();
+            }
+
+            @Override
+            public void remove() {
+                checkForComodification();
+                parentIterator.remove();
+                cursor--;
+                resized(-1);
+            }
+        };
+    }
+
+    /**
+     * Returns the modification count of the parent list, which changes on modifications through this view as well, so
+     * views of this view stay fail-fast.
+     */
+    @Override
+    public int modCount() {
+        return modCount(parent);
+    }
+
+    private void resized(int delta) {
+        size += delta;
+        expectedParentSize += delta;
+        expectedModCount = modCount(parent);
+    }
+
+    private void checkForComodification() {
+        if (parent.size() != expectedParentSize || modCount(parent) != expectedModCount) {
+            throw new ConcurrentModificationException();
+        }
+    }
+
+    /**
+     * @return the modification count of a list, or -1 if the list does not track it
+     */
+    private static int modCount(List<?> list) {
+        return list instanceof ModificationTracking ? ((ModificationTracking) list).modCount() : -1;
+    }
+
+    private void checkNotEmpty() {
+        if (size() == 0) {
+            throw new NoSuchElementException("List is empty");
+        }
+    }
+}
@@ -1,11 +1,37 @@
 package com.bobocode.se;
 
-import com.bobocode.util.ExerciseNotCompletedException;
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinTask;
+import java.util.stream.Stream;
+
+import static java.util.stream.Collectors.joining;
 
 /**
  * {@link FileReaders} provides an API that allow to read whole file into a {@link String} by file name.
+ * <p>
+ * For large files it also provides methods that do not hold the whole file content on the heap: a lazy stream of
+ * lines, a {@link CharSequence} over a memory-mapped file, and decoding into a provided {@link CharBuffer}, as well as
+ * a method that decodes parts of a file concurrently. All of them expect the file to be encoded in UTF-8.
  */
 public class FileReaders {
+    private static final int CHUNK_SIZE = 64 * 1024;
+    private static final int MAX_STRING_LENGTH = Integer.MAX_VALUE - 8;
 
     /**
      * Returns a {@link String} that contains whole text from the file specified by name.
@@ -14,6 +40,221 @@ public class FileReaders {
      * @return string that holds whole file content
      */
     public static String readWholeFile(String fileName) {
-        throw new ExerciseNotCompletedException(); //todo
+        Path filePath = createPathFromFileName(fileName);
+        try (Stream<String> fileLines = lines(filePath)) {
+            return fileLines.collect(joining("\n"));
+        }
+    }
+
+    /**
+     * Opens a lazy stream of file lines. Lines are read from the file while the stream is consumed, so only the
+     * current line is held in memory. The stream should be closed to release the file, e.g. with
+     * try-with-resources.
+     *
+     * @param path a path to a text file
+     * @return a stream of file lines
+     */
+    public static Stream<String> lines(Path path) {
+        try {
+            return Files.lines(path);
+        } catch (IOException e) {
+            throw new FileReaderException("Cannot open a stream of file lines: " + path, e);
+        }
+    }
+
+    /**
+     * Maps a file into memory and returns a {@link CharSequence} over its content. Chars are decoded on access, so the
+     * file is not copied to the heap, and the operating system pages it in as needed. The sequence can be passed to
+     * APIs that accept a {@link CharSequence}, e.g. {@link java.util.regex.Pattern#matcher(CharSequence)}.
+     * <p>
+     * Creating the sequence goes through the file once to index the positions of chars. Access to subsequent chars is
+     * O(1), access to an arbitrary char decodes at most a few kilobytes.
+     *
+     * @param path a path to a text file that is not larger than {@link Integer#MAX_VALUE} bytes
+     * @return a char sequence backed by the mapped file
+     */
+    public static CharSequence mapped(Path path) {
+        try (FileChannel channel = FileChannel.open(path)) {
+            long size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                throw new FileReaderException("File is too large to be mapped: " + path);
+            }
+            return new MappedCharSequence(channel.map(FileChannel.MapMode.READ_ONLY, 0, size));
+        } catch (IOException e) {
+            throw new FileReaderException("Cannot map file: " + path, e);
+        }
+    }
+
+    /**
+     * Decodes a file into provided buffer, starting at its current position. The file is read in chunks of a fixed
+     * size through a single reusable byte buffer, so no memory is allocated in proportion to the file size. A buffer
+     * can be reused for many files, and it can be allocated off the heap, e.g. with
+     * {@code ByteBuffer.allocateDirect(capacity).asCharBuffer()}. A buffer with {@link Files#size(Path)} remaining
+     * chars always fits a file, since UTF-8 never decodes to more chars than bytes.
+     *
+     * @param path   a path to a text file
+     * @param buffer a buffer to decode the file into
+     * @return number of chars read
+     * @throws FileReaderException if the file does not fit into the remaining space of the buffer
+     */
+    public static int readInto(Path path, CharBuffer buffer) {
+        Objects.requireNonNull(buffer);
+        CharsetDecoder decoder = newDecoder();
+        ByteBuffer chunk = ByteBuffer.allocate(CHUNK_SIZE);
+        int start = buffer.position();
+        try (FileChannel channel = FileChannel.open(path)) {
+            boolean endOfInput = false;
+            while (!endOfInput) {
+                endOfInput = channel.read(chunk) < 0;
+                chunk.flip();
+                checkNotOverflow(decoder.decode(chunk, buffer, endOfInput), path);
+                chunk.compact();
+            }
+            checkNotOverflow(decoder.flush(buffer), path);
+        } catch (IOException e) {
+            throw new FileReaderException("Cannot read file: " + path, e);
+        }
+        return buffer.position() - start;
+    }
+
+    /**
+     * Reads a whole file into a {@link String}, decoding its parts concurrently. The file is split into the provided
+     * number of byte ranges of about the same size, each of them ending at a line boundary, so no UTF-8 character is
+     * split between ranges. The ranges are read with positional {@link FileChannel#read(ByteBuffer, long)} calls
+     * over a single channel and decoded on the {@link java.util.concurrent.ForkJoinPool#commonPool()} right into
+     * a shared array, each range at its byte offset, then the ranges are moved together in the file order. Unlike
+     * {@link #readWholeFile(String)}, line separators are kept as they are.
+     * <p>
+     * A range never starts in the middle of a line, so a file with fewer lines than chunks is split into fewer ranges.
+     *
+     * @param path   a path to a text file
+     * @param chunks a number of ranges to decode concurrently
+     * @return string that holds whole file content
+     */
+    public static String readParallel(Path path, int chunks) {
+        if (chunks <= 0) {
+            throw new IllegalArgumentException("Number of chunks should be positive, but was " + chunks);
+        }
+        try (FileChannel channel = FileChannel.open(path)) {
+            long size = channel.size();
+            if (size > MAX_STRING_LENGTH) {
+                throw new FileReaderException("File is too large to be read into a String: " + path);
+            }
+            long[] bounds = lineAlignedBounds(channel, size, chunks);
+            char[] chars = new char[(int) size];
+            List<ForkJoinTask<Integer>> ranges = new ArrayList<>(bounds.length - 1);
+            for (int i = 1; i < bounds.length; i++) {
+                long from = bounds[i - 1];
+                long to = bounds[i];
+                ranges.add(ForkJoinTask.adapt(() -> decodeRange(channel, from, to, chars, path)));
+            }
+            ForkJoinTask.invokeAll(ranges);
+            int length = 0;
+            for (int i = 0; i < ranges.size(); i++) {
+                int decoded = ranges.get(i).join();
+                System.arraycopy(chars, (int) bounds[i], chars, length, decoded);
+                length += decoded;
+            }
+            return new String(chars, 0, length);
+        } catch (IOException e) {
+            throw new FileReaderException("Cannot read file: " + path, e);
+        }
+    }
+
+    /**
+     * Splits a file into ranges, moving each split point forward to the start of the next line. Returns the bounds of
+     * the ranges, which start with 0 and end with the file size.
+     */
+    private static long[] lineAlignedBounds(FileChannel channel, long size, int chunks) throws IOException {
+        long[] bounds = new long[chunks + 1];
+        int count = 1;
+        for (int i = 1; i < chunks; i++) {
+            long approximateBound = size * i / chunks;
+            if (approximateBound > bounds[count - 1]) {
+                long bound = nextLineStart(channel, approximateBound - 1, size);
+                if (bound < size) {
+                    bounds[count++] = bound;
+                }
+            }
+        }
+        bounds[count++] = size;
+        return Arrays.copyOf(bounds, count);
+    }
+
+    /**
+     * Returns the offset that follows the first line feed at or after provided offset, or the file size if there are
+     * no line feeds left. A line feed byte never occurs inside a multibyte UTF-8 character.
+     */
+    private static long nextLineStart(FileChannel channel, long offset, long size) throws IOException {
+        ByteBuffer block = ByteBuffer.allocate(8 * 1024);
+        while (offset < size) {
+            block.clear();
+            int read = channel.read(block, offset);
+            if (read < 0) {
+                break;
+            }
+            for (int i = 0; i < read; i++) {
+                if (block.get(i) == '\n') {
+                    return offset + i + 1;
+                }
+            }
+            offset += read;
+        }
+        return size;
+    }
+
+    /**
+     * Decodes a range of a file into the same range of provided array, which always has enough space since UTF-8
+     * never decodes to more chars than bytes. Returns the number of decoded chars.
+     */
+    private static int decodeRange(FileChannel channel, long from, long to, char[] target, Path path) {
+        CharsetDecoder decoder = newDecoder();
+        ByteBuffer chunk = ByteBuffer.allocate((int) Math.min(CHUNK_SIZE, to - from));
+        CharBuffer chars = CharBuffer.wrap(target, (int) from, (int) (to - from));
+        try {
+            long position = from;
+            while (position < to) {
+                chunk.limit((int) Math.min(chunk.capacity(), chunk.position() + (to - position)));
+                int read = channel.read(chunk, position);
+                if (read < 0) {
+                    break;
+                }
+                position += read;
+                chunk.flip();
+                decoder.decode(chunk, chars, false);
+                chunk.compact();
+            }
+        } catch (IOException e) {
+            throw new FileReaderException("Cannot read file: " + path, e);
+        }
+        chunk.flip();
+        decoder.decode(chunk, chars, true);
+        decoder.flush(chars);
+        return chars.position() - (int) from;
+    }
+
+    private static CharsetDecoder newDecoder() {
+        return StandardCharsets.UTF_8.newDecoder()
+                .onMalformedInput(CodingErrorAction.REPLACE)
+                .onUnmappableCharacter(CodingErrorAction.REPLACE);
+    }
+
+    private static void checkNotOverflow(CoderResult result, Path path) {
+        if (result.isOverflow()) {
+            throw new FileReaderException("File does not fit into the buffer: " + path);
+        }
+    }
+
+    private static Path createPathFromFileName(String fileName) {
+        Objects.requireNonNull(fileName);
+        URL fileUrl = FileReaders.class.getClassLoader().getResource(fileName);
+        if (fileUrl == null) {
+            throw new FileReaderException("File not found in the classpath: " + fileName);
+        }
+        try {
+            return Paths.get(fileUrl.toURI());
+        } catch (URISyntaxException e) {
+            throw new FileReaderException("Invalid file URL: " + fileUrl, e);
+        }
     }
 }
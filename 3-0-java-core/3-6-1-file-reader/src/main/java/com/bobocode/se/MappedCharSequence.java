@@ -0,0 +1,188 @@
+package com.bobocode.se;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+
+/**
+ * {@link MappedCharSequence} is a {@link CharSequence} over UTF-8 bytes of a memory-mapped file. It does not decode
+ * the file into the heap, chars are decoded from the buffer on each access.
+ * <p>
+ * Since UTF-8 characters take from one to four bytes, a char index cannot be turned into a byte offset directly.
+ * The constructor goes through the bytes once and remembers the byte offset of every {@link #CHECKPOINT_INTERVAL}-th
+ * char, so {@link #charAt(int)} decodes at most one interval. The position of the last access is cached as well, so
+ * sequential access, which is what regular expressions and parsers do, decodes every char only once. A file that
+ * consists of ASCII characters only needs no checkpoints at all, its byte offsets are char indexes.
+ * <p>
+ * Characters outside the Basic Multilingual Plane are represented by surrogate pairs, as in {@link String}. Malformed
+ * bytes are replaced with {@code U+FFFD} one by one.
+ */
+class MappedCharSequence implements CharSequence {
+    private static final int CHECKPOINT_INTERVAL = 1024;
+    private static final char REPLACEMENT_CHARACTER = '\uFFFD';
+
+    private final ByteBuffer bytes;
+    private final int length;
+    private final boolean ascii;
+    private final int[] checkpointOffsets;
+    private final int[] checkpointIndexes;
+    private final int checkpoints;
+    /**
+     * The byte offset in the high half and the char index in the low half of the code point accessed last. It is
+     * a single volatile field, so its writes are atomic and concurrent readers always see a consistent pair.
+     */
+    private volatile long cursor;
+
+    MappedCharSequence(ByteBuffer bytes) {
+        this.bytes = bytes;
+        int limit = bytes.limit();
+        int[] offsets = new int[limit / CHECKPOINT_INTERVAL + 1];
+        int[] indexes = new int[limit / CHECKPOINT_INTERVAL + 1];
+        int count = 0;
+        int chars = 0;
+        boolean onlyAscii = true;
+        for (int offset = 0; offset < limit; ) {
+            if (chars >= count * CHECKPOINT_INTERVAL) {
+                offsets[count] = offset;
+                indexes[count++] = chars;
+            }
+            int byteLength = codePointLength(offset);
+            onlyAscii &= bytes.get(offset) >= 0;
+            chars += byteLength == 4 ? 2 : 1;
+            offset += byteLength;
+        }
+        this.length = chars;
+        this.ascii = onlyAscii;
+        this.checkpointOffsets = onlyAscii ? null : offsets;
+        this.checkpointIndexes = onlyAscii ? null : indexes;
+        this.checkpoints = count;
+    }
+
+    @Override
+    public int length() {
+        return length;
+    }
+
+    @Override
+    public char charAt(int index) {
+        Objects.checkIndex(index, length);
+        if (ascii) {
+            return (char) bytes.get(index);
+        }
+        long position = cursor;
+        int offset = (int) (position >>> 32);
+        int chars = (int) position;
+        if (index < chars || index - chars >= CHECKPOINT_INTERVAL) {
+            int checkpoint = Math.min(index / CHECKPOINT_INTERVAL, checkpoints - 1);
+            if (checkpointIndexes[checkpoint] > index) {
+                checkpoint--;
+            }
+            offset = checkpointOffsets[checkpoint];
+            chars = checkpointIndexes[checkpoint];
+        }
+        while (true) {
+            int byteLength = codePointLength(offset);
+            int charCount = byteLength == 4 ? 2 : 1;
+            if (index < chars + charCount) {
+                cursor = ((long) offset << 32) | chars;
+                int codePoint = codePointAt(offset, byteLength);
+                if (charCount == 1) {
+                    return (char) codePoint;
+                }
+                return index == chars ? Character.highSurrogate(codePoint) : Character.lowSurrogate(codePoint);
+            }
+            chars += charCount;
+            offset += byteLength;
+        }
+    }
+
+    /**
+     * Returns a copy of the chars in the range, not a view, as the range is usually much smaller than the file.
+     */
+    @Override
+    public CharSequence subSequence(int start, int end) {
+        Objects.checkFromToIndex(start, end, length);
+        if (ascii) {
+            byte[] range = new byte[end - start];
+            bytes.duplicate().position(start).get(range);
+            return new String(range, StandardCharsets.US_ASCII);
+        }
+        StringBuilder builder = new StringBuilder(end - start);
+        for (int i = start; i < end; i++) {
+            builder.append(charAt(i));
+        }
+        return builder.toString();
+    }
+
+    @Override
+    public String toString() {
+        return subSequence(0, length).toString();
+    }
+
+    /**
+     * Returns the number of bytes of a UTF-8 sequence that starts at provided offset, or 1 if the sequence is
+     * malformed.
+     */
+    private int codePointLength(int offset) {
+        int lead = bytes.get(offset) & 0xFF;
+        if (lead < 0x80) {
+            return 1;
+        }
+        int byteLength;
+        int min = 0x80;
+        int max = 0xBF;
+        if (lead < 0xC2) {
+            return 1;
+        } else if (lead < 0xE0) {
+            byteLength = 2;
+        } else if (lead < 0xF0) {
+            byteLength = 3;
+            if (lead == 0xE0) {
+                min = 0xA0; // overlong encoding
+            } else if (lead == 0xED) {
+                max = 0x9F; // surrogate code points
+            }
+        } else if (lead < 0xF5) {
+            byteLength = 4;
+            if (lead == 0xF0) {
+                min = 0x90; // overlong encoding
+            } else if (lead == 0xF4) {
+                max = 0x8F; // code points above U+10FFFF
+            }
+        } else {
+            return 1;
+        }
+        if (offset + byteLength > bytes.limit()) {
+            return 1;
+        }
+        int second = bytes.get(offset + 1) & 0xFF;
+        if (second < min || second > max) {
+            return 1;
+        }
+        for (int i = 2; i < byteLength; i++) {
+            if ((bytes.get(offset + i) & 0xC0) != 0x80) {
+                return 1;
+            }
+        }
+        return byteLength;
+    }
+
+    private int codePointAt(int offset, int byteLength) {
+        int lead = bytes.get(offset) & 0xFF;
+        switch (byteLength) {
+            case 2:
+                return (lead & 0x1F) << 6 | continuation(offset + 1);
+            case 3:
+                return (lead & 0x0F) << 12 | continuation(offset + 1) << 6 | continuation(offset + 2);
+            case 4:
+                return (lead & 0x07) << 18 | continuation(offset + 1) << 12 | continuation(offset + 2) << 6
+                        | continuation(offset + 3);
+            default:
+                return lead < 0x80 ? lead : REPLACEMENT_CHARACTER;
+        }
+    }
+
+    private int continuation(int offset) {
+        return bytes.get(offset) & 0x3F;
+    }
+}
@@ -1,11 +1,26 @@
 package com.bobocode.se;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.CharBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 public class FileReadersTest {
 
+    @TempDir
+    Path tempDir;
+
     @Test
     void testReadWholeFileOnEmptyFile() {
         String fileContent = FileReaders.readWholeFile("empty.txt");
@@ -31,4 +46,176 @@ public class FileReadersTest {
 
         assertEquals("Hello!\n" + "It's a test file.", fileContent);
     }
+
+    @Test
+    void testReadWholeFileOnNonExistingFile() {
+        assertThrows(FileReaderException.class, () -> FileReaders.readWholeFile("blahblah.txt"));
+    }
+
+    @Test
+    void testLines() throws IOException {
+        Path file = write("Hey!\n\nWhat's up?\n\nHi!");
+
+        List<String> lines;
+        try (Stream<String> fileLines = FileReaders.lines(file)) {
+            lines = fileLines.collect(Collectors.toList());
+        }
+
+        assertEquals(List.of("Hey!", "", "What's up?", "", "Hi!"), lines);
+    }
+
+    @Test
+    void testLinesOnNonExistingFile() {
+        assertThrows(FileReaderException.class, () -> FileReaders.lines(tempDir.resolve("blahblah.txt")));
+    }
+
+    @Test
+    void testMappedOnEmptyFile() throws IOException {
+        CharSequence content = FileReaders.mapped(write(""));
+
+        assertEquals(0, content.length());
+        assertEquals("", content.toString());
+    }
+
+    @Test
+    void testMappedOnAsciiFile() throws IOException {
+        String text = "Hello!\nIt's a test file.";
+
+        CharSequence content = FileReaders.mapped(write(text));
+
+        assertEquals(text.length(), content.length());
+        assertEquals('H', content.charAt(0));
+        assertEquals('.', content.charAt(text.length() - 1));
+        assertEquals("test", content.subSequence(14, 18).toString());
+        assertEquals(text, content.toString());
+    }
+
+    @Test
+    void testMappedOnMultiByteCharacters() throws IOException {
+        String text = randomText(10_000);
+
+        CharSequence content = FileReaders.mapped(write(text));
+
+        assertEquals(text.length(), content.length());
+        assertEquals(text, content.toString());
+        Random random = new Random(42);
+        for (int i = 0; i < 1_000; i++) {
+            int index = random.nextInt(text.length());
+            assertEquals(text.charAt(index), content.charAt(index));
+        }
+        for (int i = text.length() - 1; i >= 0; i--) {
+            assertEquals(text.charAt(i), content.charAt(i));
+        }
+        assertEquals(text.substring(3_000, 7_000), content.subSequence(3_000, 7_000).toString());
+    }
+
+    @Test
+    void testMappedReplacesMalformedBytes() throws IOException {
+        Path file = tempDir.resolve("malformed.txt");
+        Files.write(file, new byte[]{'a', (byte) 0xC3, 'b', (byte) 0xFF, (byte) 0xE2, (byte) 0x82, (byte) 0xAC});
+
+        CharSequence content = FileReaders.mapped(file);
+
+        assertEquals("a�b�€", content.toString());
+        assertEquals('€', content.charAt(4));
+    }
+
+    @Test
+    void testMappedThrowsExceptionWhenIndexIsOutOfBounds() throws IOException {
+        CharSequence content = FileReaders.mapped(write("Привіт"));
+
+        assertThrows(IndexOutOfBoundsException.class, () -> content.charAt(6));
+        assertThrows(IndexOutOfBoundsException.class, () -> content.subSequence(2, 7));
+    }
+
+    @Test
+    void testReadInto() throws IOException {
+        String text = randomText(200_000);
+        Path file = write(text);
+        CharBuffer buffer = CharBuffer.allocate((int) Files.size(file));
+
+        int charsRead = FileReaders.readInto(file, buffer);
+
+        assertEquals(text.length(), charsRead);
+        assertEquals(text, buffer.flip().toString());
+    }
+
+    @Test
+    void testReadIntoAppendsToBuffer() throws IOException {
+        CharBuffer buffer = CharBuffer.allocate(32);
+        buffer.put("Hey! ");
+
+        FileReaders.readInto(write("What's up?"), buffer);
+
+        assertEquals("Hey! What's up?", buffer.flip().toString());
+    }
+
+    @Test
+    void testReadIntoThrowsExceptionWhenBufferIsTooSmall() throws IOException {
+        Path file = write("Hello!\nIt's a test file.");
+
+        assertThrows(FileReaderException.class, () -> FileReaders.readInto(file, CharBuffer.allocate(10)));
+    }
+
+    @Test
+    void testReadParallel() throws IOException {
+        String text = randomText(200_000);
+        Path file = write(text);
+
+        for (int chunks : new int[]{1, 2, 3, 7, 64}) {
+            assertEquals(text, FileReaders.readParallel(file, chunks));
+        }
+    }
+
+    @Test
+    void testReadParallelKeepsLineSeparators() throws IOException {
+        String text = "Hey!\r\n\r\nWhat's up?\n\nHi!\n";
+
+        String fileContent = FileReaders.readParallel(write(text), 4);
+
+        assertEquals(text, fileContent);
+    }
+
+    @Test
+    void testReadParallelOnFileWithFewerLinesThanChunks() throws IOException {
+        String text = "Привіт!\n" + "€".repeat(10_000);
+
+        String fileContent = FileReaders.readParallel(write(text), 16);
+
+        assertEquals(text, fileContent);
+    }
+
+    @Test
+    void testReadParallelOnEmptyFile() throws IOException {
+        assertEquals("", FileReaders.readParallel(write(""), 4));
+    }
+
+    @Test
+    void testReadParallelThrowsExceptionWhenChunksAreNotPositive() throws IOException {
+        Path file = write("Hello!");
+
+        assertThrows(IllegalArgumentException.class, () -> FileReaders.readParallel(file, 0));
+    }
+
+    @Test
+    void testReadParallelOnNonExistingFile() {
+        assertThrows(FileReaderException.class, () -> FileReaders.readParallel(tempDir.resolve("blahblah.txt"), 4));
+    }
+
+    private Path write(String text) throws IOException {
+        return Files.writeString(tempDir.resolve("test.txt"), text, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Generates a text that mixes one, two, three and four byte UTF-8 characters.
+     */
+    private String randomText(int codePoints) {
+        int[] alphabet = {'a', 'z', ' ', '\n', 'ї', 'ß', '€', '中', 0x1F600, 0x1D11E};
+        Random random = new Random(codePoints);
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < codePoints; i++) {
+            builder.appendCodePoint(alphabet[random.nextInt(alphabet.length)]);
+        }
+        return builder.toString();
+    }
 }
@@ -0,0 +1,101 @@
+package com.bobocode.se;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+/**
+ * {@link CharHistogram} is an immutable snapshot of char counts with a counter per {@code char}. Whitespace characters
+ * are dropped when a histogram is created, and the most popular character is found once, so all the queries are O(1).
+ * <p>
+ * Code points of the Basic Multilingual Plane are counted by their chars. Code points outside of it, such as emoji,
+ * take two chars each, so they are counted separately.
+ */
+final class CharHistogram {
+    static final int CHAR_COUNT = Character.MAX_VALUE + 1;
+    private static final char[] WHITESPACE_CHARACTERS = whitespaceCharacters();
+
+    private final long[] charCounts;
+    private final Map<Integer, Long> supplementaryCounts;
+    private final char mostPopularCharacter;
+
+    /**
+     * Creates a histogram that takes ownership of provided counts, so they should not be modified afterwards.
+     *
+     * @param charCounts          counts indexed by char, including whitespace characters
+     * @param supplementaryCounts counts of code points outside the Basic Multilingual Plane
+     */
+    CharHistogram(long[] charCounts, Map<Integer, Long> supplementaryCounts) {
+        for (char whitespace : WHITESPACE_CHARACTERS) {
+            charCounts[whitespace] = 0;
+        }
+        this.charCounts = charCounts;
+        this.supplementaryCounts = supplementaryCounts;
+        this.mostPopularCharacter = mostPopularCharacter(charCounts);
+    }
+
+    long count(char character) {
+        return charCounts[character];
+    }
+
+    /**
+     * @return a number of occurrences of a code point, which is 0 for surrogate code points since surrogates only
+     * occur in pairs that make up supplementary code points
+     * @throws IllegalArgumentException if the code point is not valid
+     */
+    long codePointCount(int codePoint) {
+        if (!Character.isValidCodePoint(codePoint)) {
+            throw new IllegalArgumentException("Invalid code point: " + codePoint);
+        }
+        if (Character.isBmpCodePoint(codePoint)) {
+            return Character.isSurrogate((char) codePoint) ? 0 : charCounts[codePoint];
+        }
+        return supplementaryCounts.getOrDefault(codePoint, 0L);
+    }
+
+    /**
+     * @return the most popular character, or the smallest one of them if there are several
+     * @throws NoSuchElementException if there are no characters in the histogram
+     */
+    char mostPopularCharacter() {
+        if (charCounts[mostPopularCharacter] == 0) {
+            throw new NoSuchElementException("File has no characters");
+        }
+        return mostPopularCharacter;
+    }
+
+    /**
+     * @return a copy of the counts that can be updated and turned into a new histogram
+     */
+    long[] copyOfCounts() {
+        return Arrays.copyOf(charCounts, CHAR_COUNT);
+    }
+
+    /**
+     * @return a copy of the supplementary code point counts that can be updated and turned into a new histogram
+     */
+    Map<Integer, Long> copyOfSupplementaryCounts() {
+        return new HashMap<>(supplementaryCounts);
+    }
+
+    private static char mostPopularCharacter(long[] charCounts) {
+        int mostPopular = 0;
+        for (int i = 1; i < CHAR_COUNT; i++) {
+            if (charCounts[i] > charCounts[mostPopular]) {
+                mostPopular = i;
+            }
+        }
+        return (char) mostPopular;
+    }
+
+    private static char[] whitespaceCharacters() {
+        StringBuilder whitespace = new StringBuilder();
+        for (int i = 0; i < CHAR_COUNT; i++) {
+            if (Character.isWhitespace(i)) {
+                whitespace.append((char) i);
+            }
+        }
+        return whitespace.toString().toCharArray();
+    }
+}
@@ -0,0 +1,90 @@
+package com.bobocode.se;
+
+/**
+ * {@link CountMinSketch} estimates the counts of terms in a fixed amount of memory. It keeps {@link #DEPTH} rows of
+ * counters, and a term is mapped to one counter in each row by a hash function of its own. Counters are never
+ * decremented, so the smallest of the term counters is an estimate that is never less than the real count, and it is
+ * larger only by the counts of the terms that collide with it in every row.
+ * <p>
+ * Updates are conservative: only the counters that are below the new estimate are raised, which keeps the counters of
+ * colliding terms, and so the error, lower. Sketches of the same width can be merged by summing their counters.
+ */
+final class CountMinSketch {
+    static final int DEPTH = 4;
+
+    private final long[] counters;
+    private final int width;
+
+    /**
+     * @param width number of counters in a row, a power of two
+     */
+    CountMinSketch(int width) {
+        if (Integer.bitCount(width) != 1) {
+            throw new IllegalArgumentException("Width should be a power of two, but was " + width);
+        }
+        this.width = width;
+        this.counters = new long[DEPTH * width];
+    }
+
+    /**
+     * Adds occurrences of a term.
+     *
+     * @return a new estimate of the term count
+     */
+    long add(String term, long count) {
+        long hash = hash(term);
+        long estimate = estimate(hash) + count;
+        for (int row = 0; row < DEPTH; row++) {
+            int index = index(hash, row);
+            counters[index] = Math.max(counters[index], estimate);
+        }
+        return estimate;
+    }
+
+    long estimate(String term) {
+        return estimate(hash(term));
+    }
+
+    /**
+     * Adds the counters of another sketch of the same width.
+     */
+    void merge(CountMinSketch other) {
+        if (other.width != width) {
+            throw new IllegalArgumentException("Cannot merge sketches of width " + width + " and " + other.width);
+        }
+        for (int i = 0; i < counters.length; i++) {
+            counters[i] += other.counters[i];
+        }
+    }
+
+    private long estimate(long hash) {
+        long estimate = Long.MAX_VALUE;
+        for (int row = 0; row < DEPTH; row++) {
+            estimate = Math.min(estimate, counters[index(hash, row)]);
+        }
+        return estimate;
+    }
+
+    /**
+     * Derives the hash function of a row from two halves of a single 64-bit hash, which is as good as independent
+     * hash functions for a sketch.
+     */
+    private int index(long hash, int row) {
+        int first = (int) hash;
+        int second = (int) (hash >>> 32) | 1;
+        return row * width + ((first + row * second) & (width - 1));
+    }
+
+    /**
+     * Spreads the bits of {@link String#hashCode()} with the finalizer of MurmurHash3, so terms that differ only in
+     * the last characters land far apart.
+     */
+    private static long hash(String term) {
+        long hash = term.hashCode() * 0x9E3779B97F4A7C15L;
+        hash ^= hash >>> 33;
+        hash *= 0xFF51AFD7ED558CCDL;
+        hash ^= hash >>> 33;
+        hash *= 0xC4CEB9FE1A85EC53L;
+        return hash ^ (hash >>> 33);
+    }
+}
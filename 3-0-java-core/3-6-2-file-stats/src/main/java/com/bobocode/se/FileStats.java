@@ -1,12 +1,69 @@
 package com.bobocode.se;
 
-import com.bobocode.util.ExerciseNotCompletedException;
+import java.io.File;
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.PathMatcher;
+import java.nio.file.Paths;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.Future;
 
 /**
  * {@link FileStats} provides an API that allow to get character statistic based on text file. All whitespace characters
  * are ignored.
+ * <p>
+ * Statistics are collected in a single pass over the file into a primitive histogram with a counter per {@code char},
+ * so counting does no boxing and no hashing. Whitespace characters are counted as any others and dropped from the
+ * histogram at the end, which keeps the counting loop free of branches. Large files are split into ranges that are
+ * counted concurrently on the {@link ForkJoinPool#commonPool()}, and the histograms of the ranges are summed up.
+ * Files are expected to be encoded in UTF-8.
+ * <p>
+ * Besides chars, it counts code points, so characters outside the Basic Multilingual Plane, e.g. emoji, that take two
+ * chars each are counted once. Stats created with a term memory budget count words, bigrams and trigrams too, see
+ * {@link #from(Path, long)}.
  */
 public class FileStats {
+    private static final int CHUNK_SIZE = 64 * 1024;
+    private static final long PARALLEL_THRESHOLD = 8 * 1024 * 1024;
+    private static final long MIN_RANGE_SIZE = 1024 * 1024;
+
+    private final CharHistogram histogram;
+    private final TermCounter[] ngrams;
+    private final List<Path> skippedFiles;
+
+    FileStats(CharHistogram histogram, TermCounter[] ngrams) {
+        this(histogram, ngrams, List.of());
+    }
+
+    private FileStats(CharHistogram histogram, TermCounter[] ngrams, List<Path> skippedFiles) {
+        this.histogram = histogram;
+        this.ngrams = ngrams;
+        this.skippedFiles = List.copyOf(skippedFiles);
+    }
+
     /**
      * Creates a new immutable {@link FileStats} objects using data from text file received as a parameter.
      *
@@ -14,7 +71,179 @@ public class FileStats {
      * @return new FileStats object created from text file
      */
     public static FileStats from(String fileName) {
-        throw new ExerciseNotCompletedException(); //todo
+        return from(createPathFromFileName(fileName));
+    }
+
+    /**
+     * Creates a new immutable {@link FileStats} objects using data from text file located by provided path.
+     *
+     * @param path a path to a text file
+     * @return new FileStats object created from text file
+     */
+    public static FileStats from(Path path) {
+        return from(path, new TextCounter());
+    }
+
+    /**
+     * Creates a new immutable {@link FileStats} objects that counts words, bigrams and trigrams of the text besides
+     * characters. A word is a sequence of letters and digits, and words are counted in lower case.
+     * <p>
+     * Each of word, bigram and trigram counts takes up to a third of provided memory budget. Terms are counted exactly
+     * while their counts fit into the budget. Beyond that, counts are estimated with a Count-Min sketch, which never
+     * underestimates, and top-K queries are answered from the terms with the largest estimates, see
+     * {@link #hasExactTermCounts()}.
+     *
+     * @param path             a path to a text file
+     * @param termMemoryBudget approximate number of bytes that term counts can take
+     * @return new FileStats object created from text file
+     */
+    public static FileStats from(Path path, long termMemoryBudget) {
+        if (termMemoryBudget <= 0) {
+            throw new IllegalArgumentException("Memory budget should be positive, but was " + termMemoryBudget);
+        }
+        return from(path, new TextCounter(termMemoryBudget));
+    }
+
+    private static FileStats from(Path path, TextCounter counter) {
+        try (FileChannel channel = FileChannel.open(path)) {
+            count(channel, 0, channel.size(), true, counter);
+            return new FileStats(counter.toHistogram(), counter.ngrams());
+        } catch (IOException e) {
+            throw new FileStatsException("Cannot read file: " + path, e);
+        }
+    }
+
+    /**
+     * Creates a new immutable {@link FileStats} objects using data from all the text files of a directory tree that
+     * match provided glob, e.g. {@code "**.txt"}. The glob is matched against file paths relative to the directory.
+     * <p>
+     * Files are counted concurrently on a pool with a thread per processor, and their statistics are summed up.
+     * Statistics of each file are cached in a {@code .filestats} sidecar file in the directory, so the next call only
+     * counts the files that are new or whose size or last modified time have changed since then. Cached statistics of
+     * the files that do not match the glob are kept as long as the files are not changed, so calls with different
+     * globs share the cache.
+     * <p>
+     * Files and directories that cannot be read do not stop the walk. They are skipped, and reported by
+     * {@link #getSkippedFiles()}.
+     *
+     * @param directory a path to a directory
+     * @param glob      a glob pattern of the files to count
+     * @return new FileStats object created from the matching files
+     */
+    public static FileStats fromDirectory(Path directory, String glob) {
+        Objects.requireNonNull(glob);
+        if (!Files.isDirectory(directory)) {
+            throw new FileStatsException("Directory not found: " + directory);
+        }
+        PathMatcher matcher = directory.getFileSystem().getPathMatcher("glob:" + glob);
+        FileStatsCache cache = FileStatsCache.load(directory);
+        Map<String, FileStatsCache.Entry> entries = new HashMap<>();
+        Map<String, FileStatsCache.Entry> otherEntries = new HashMap<>();
+        Map<String, Callable<FileStatsCache.Entry>> tasks = new HashMap<>();
+        List<Path> skippedFiles = new ArrayList<>();
+        try {
+            Files.walkFileTree(directory, new SimpleFileVisitor<>() {
+                @Override
+                public FileVisitResult visitFile(Path file, BasicFileAttributes attributes) {
+                    Path relativePath = directory.relativize(file);
+                    if (!attributes.isRegularFile()
+                            || file.getFileName().toString().startsWith(FileStatsCache.FILE_NAME)) {
+                        return FileVisitResult.CONTINUE;
+                    }
+                    String key = relativePath.toString().replace(File.separatorChar, '/');
+                    long size = attributes.size();
+                    long lastModified = attributes.lastModifiedTime().toMillis();
+                    FileStatsCache.Entry entry = cache.get(key, size, lastModified);
+                    if (!matcher.matches(relativePath)) {
+                        if (entry != null) {
+                            otherEntries.put(key, entry);
+                        }
+                    } else if (entry != null) {
+                        entries.put(key, entry);
+                    } else {
+                        tasks.put(key, () -> FileStatsCache.Entry.of(size, lastModified, from(file).histogram()));
+                    }
+                    return FileVisitResult.CONTINUE;
+                }
+
+                @Override
+                public FileVisitResult visitFileFailed(Path file, IOException e) {
+                    skippedFiles.add(file);
+                    return FileVisitResult.CONTINUE;
+                }
+
+                @Override
+                public FileVisitResult postVisitDirectory(Path dir, IOException e) {
+                    if (e != null) {
+                        skippedFiles.add(dir);
+                    }
+                    return FileVisitResult.CONTINUE;
+                }
+            });
+        } catch (IOException e) {
+            throw new FileStatsException("Cannot read directory: " + directory, e);
+        }
+        entries.putAll(countConcurrently(directory, tasks, skippedFiles));
+        Map<String, FileStatsCache.Entry> cachedEntries = new HashMap<>(otherEntries);
+        cachedEntries.putAll(entries);
+        cache.save(cachedEntries);
+        long[] charCounts = new long[CharHistogram.CHAR_COUNT];
+        Map<Integer, Long> supplementaryCounts = new HashMap<>();
+        entries.values().forEach(entry -> entry.addTo(charCounts, supplementaryCounts));
+        skippedFiles.sort(null);
+        return new FileStats(new CharHistogram(charCounts, supplementaryCounts), null, skippedFiles);
+    }
+
+    /**
+     * Runs the tasks that count files on a bounded pool. A file that cannot be read is added to the skipped files.
+     *
+     * @return statistics of the counted files by their keys
+     */
+    private static Map<String, FileStatsCache.Entry> countConcurrently(
+            Path directory, Map<String, Callable<FileStatsCache.Entry>> tasks, List<Path> skippedFiles) {
+        if (tasks.isEmpty()) {
+            return Map.of();
+        }
+        List<String> keys = new ArrayList<>(tasks.keySet());
+        List<Callable<FileStatsCache.Entry>> callables = new ArrayList<>(keys.size());
+        keys.forEach(key -> callables.add(tasks.get(key)));
+        ExecutorService pool = Executors.newFixedThreadPool(
+                Math.min(keys.size(), Runtime.getRuntime().availableProcessors()));
+        try {
+            List<Future<FileStatsCache.Entry>> futures = pool.invokeAll(callables);
+            Map<String, FileStatsCache.Entry> entries = new HashMap<>();
+            for (int i = 0; i < keys.size(); i++) {
+                try {
+                    entries.put(keys.get(i), futures.get(i).get());
+                } catch (ExecutionException e) {
+                    if (!(e.getCause() instanceof FileStatsException)) {
+                        throw new FileStatsException("Cannot count file: " + keys.get(i), e.getCause());
+                    }
+                    skippedFiles.add(directory.resolve(keys.get(i)));
+                }
+            }
+            return entries;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new FileStatsException("Counting was interrupted", e);
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    /**
+     * Creates a live {@link FileStats} that follows a growing file, e.g. a log. It counts the file once, and then
+     * counts only the bytes appended to it, each time a {@link java.nio.file.WatchService} reports a modification.
+     * Reads see a consistent snapshot of the statistics without locking. A file that is truncated or replaced is
+     * counted from scratch.
+     * <p>
+     * The returned stats should be closed to stop watching the file.
+     *
+     * @param path a path to a text file
+     * @return live FileStats object that is updated when the file changes
+     */
+    public static LiveFileStats watch(Path path) {
+        return new LiveFileStats(path);
     }
 
     /**
@@ -22,18 +251,21 @@ public class FileStats {
      *
      * @param character a specific character
      * @return a number that shows how many times this character appeared in a text file
+     * @throws ArithmeticException if the number does not fit into an int
      */
     public int getCharCount(char character) {
-        throw new ExerciseNotCompletedException(); //todo
+        return Math.toIntExact(histogram().count(character));
     }
 
     /**
-     * Returns a character that appeared most often in the text.
+     * Returns a character that appeared most often in the text. If there are several such characters, the smallest one
+     * is returned.
      *
      * @return the most frequently appeared character
+     * @throws NoSuchElementException if there are no characters in the text
      */
     public char getMostPopularCharacter() {
-        throw new ExerciseNotCompletedException(); //todo
+        return histogram().mostPopularCharacter();
     }
 
     /**
@@ -43,6 +275,228 @@ public class FileStats {
      * @return {@code true} if this character has appeared in the text, and {@code false} otherwise
      */
     public boolean containsCharacter(char character) {
-        throw new ExerciseNotCompletedException(); //todo
+        return histogram().count(character) > 0;
+    }
+
+    /**
+     * Returns a number of occurrences of the particular code point. Unlike {@link #getCharCount(char)}, it counts
+     * characters outside the Basic Multilingual Plane, e.g. emoji, once.
+     *
+     * @param codePoint a specific code point
+     * @return a number that shows how many times this code point appeared in a text file
+     */
+    public long getCodePointCount(int codePoint) {
+        return histogram().codePointCount(codePoint);
+    }
+
+    /**
+     * Returns a number of occurrences of the word, case-insensitively.
+     *
+     * @param word a specific word
+     * @return a number that shows how many times this word appeared in a text file
+     * @throws IllegalStateException if the stats were created without a term memory budget
+     */
+    public long getWordCount(String word) {
+        return getNgramCount(word);
+    }
+
+    /**
+     * Returns a number of occurrences of a sequence of adjacent words, case-insensitively. One word is a unigram, two
+     * words are a bigram, three words are a trigram.
+     *
+     * @param words from one to three words
+     * @return a number that shows how many times these words appeared one after another in a text file
+     * @throws IllegalStateException if the stats were created without a term memory budget
+     */
+    public long getNgramCount(String... words) {
+        StringBuilder ngram = new StringBuilder();
+        for (String word : words) {
+            ngram.append(ngram.length() > 0 ? " " : "").append(TextCounter.normalize(word));
+        }
+        return ngramCounter(words.length).count(ngram.toString());
+    }
+
+    /**
+     * Returns the most frequent words with their counts.
+     *
+     * @param k a number of words to return
+     * @return up to k words in lower case in the descending order of their counts
+     * @throws IllegalStateException if the stats were created without a term memory budget
+     */
+    public List<Map.Entry<String, Long>> getTopWords(int k) {
+        return getTopNgrams(1, k);
+    }
+
+    /**
+     * Returns the most frequent n-grams with their counts. Words of an n-gram are joined with a single space. N-grams
+     * with equal counts are ordered alphabetically.
+     *
+     * @param n a number of words in an n-gram, from one to three
+     * @param k a number of n-grams to return
+     * @return up to k n-grams in the descending order of their counts
+     * @throws IllegalStateException if the stats were created without a term memory budget
+     */
+    public List<Map.Entry<String, Long>> getTopNgrams(int n, int k) {
+        if (k < 0) {
+            throw new IllegalArgumentException("Number of n-grams should not be negative, but was " + k);
+        }
+        return ngramCounter(n).top(k);
+    }
+
+    /**
+     * Returns {@code true} if all word and n-gram counts fit into the memory budget and are exact. Otherwise, some of
+     * the counts are estimates that can be larger than the real counts, and top-K queries can miss terms whose counts
+     * are close to the k-th one.
+     *
+     * @return {@code true} if term counts are exact
+     * @throws IllegalStateException if the stats were created without a term memory budget
+     */
+    public boolean hasExactTermCounts() {
+        for (int n = 1; n <= TextCounter.MAX_NGRAM_SIZE; n++) {
+            if (!ngramCounter(n).isExact()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the files and directories that could not be read by {@link #fromDirectory(Path, String)}, so their
+     * characters are not counted.
+     *
+     * @return skipped paths in sorted order, empty for the stats of a single file
+     */
+    public List<Path> getSkippedFiles() {
+        return skippedFiles;
+    }
+
+    private TermCounter ngramCounter(int n) {
+        if (ngrams == null) {
+            throw new IllegalStateException("Words are not counted, FileStats should be created with a memory budget");
+        }
+        if (n < 1 || n > TextCounter.MAX_NGRAM_SIZE) {
+            throw new IllegalArgumentException("N-gram should have from 1 to 3 words, but had " + n);
+        }
+        return ngrams[n - 1];
+    }
+
+    /**
+     * @return the histogram all the queries are answered from
+     */
+    CharHistogram histogram() {
+        return histogram;
+    }
+
+    /**
+     * Counts the text of a file range and adds it to provided counter. A large range is split into smaller ones,
+     * a few per thread of the pool, that are counted concurrently and merged in order.
+     *
+     * @param endOfInput {@code false} if the range can end in the middle of a character that is not written yet
+     * @return the offset that follows the last counted character
+     */
+    static long count(FileChannel channel, long from, long to, boolean endOfInput, TextCounter counter)
+            throws IOException {
+        if (to - from < PARALLEL_THRESHOLD) {
+            return countRange(channel, from, to, endOfInput, counter);
+        }
+        int ranges = (int) Math.min(ForkJoinPool.getCommonPoolParallelism() * 4L, (to - from) / MIN_RANGE_SIZE);
+        List<ForkJoinTask<TextCounter>> tasks = new ArrayList<>(ranges - 1);
+        long rangeFrom = from;
+        for (int i = 1; i < ranges; i++) {
+            long rangeTo = wordBoundary(channel, Math.max(from + (to - from) * i / ranges, rangeFrom), to);
+            if (rangeTo >= to) {
+                break;
+            }
+            long start = rangeFrom;
+            tasks.add(ForkJoinTask.adapt(() -> countRange(channel, start, rangeTo, counter.newCounter())));
+            rangeFrom = rangeTo;
+        }
+        ForkJoinTask.invokeAll(tasks);
+        TextCounter lastRange = counter.newCounter();
+        long end = countRange(channel, rangeFrom, to, endOfInput, lastRange);
+        for (ForkJoinTask<TextCounter> task : tasks) {
+            counter.merge(task.join());
+        }
+        counter.merge(lastRange);
+        return end;
+    }
+
+    /**
+     * Moves provided offset forward past the next ASCII whitespace byte, so a split at that offset cuts neither
+     * a word nor a multibyte UTF-8 character, whose bytes are never ASCII.
+     */
+    private static long wordBoundary(FileChannel channel, long offset, long limit) throws IOException {
+        ByteBuffer bytes = ByteBuffer.allocate(8 * 1024);
+        while (offset < limit) {
+            bytes.clear();
+            int read = channel.read(bytes, offset);
+            if (read < 0) {
+                break;
+            }
+            for (int i = 0; i < read; i++) {
+                byte b = bytes.get(i);
+                if (b == ' ' || b == '\n' || b == '\r' || b == '\t') {
+                    return offset + i + 1;
+                }
+            }
+            offset += read;
+        }
+        return limit;
+    }
+
+    private static TextCounter countRange(FileChannel channel, long from, long to, TextCounter counter) {
+        try {
+            countRange(channel, from, to, true, counter);
+        } catch (IOException e) {
+            throw new FileStatsException("Cannot read file", e);
+        }
+        return counter;
+    }
+
+    /**
+     * Decodes a range of a file chunk by chunk with positional reads, and passes the chars to the counter.
+     */
+    private static long countRange(FileChannel channel, long from, long to, boolean endOfInput, TextCounter counter)
+            throws IOException {
+        CharsetDecoder decoder = StandardCharsets.UTF_8.newDecoder()
+                .onMalformedInput(CodingErrorAction.REPLACE)
+                .onUnmappableCharacter(CodingErrorAction.REPLACE);
+        ByteBuffer bytes = ByteBuffer.allocate(CHUNK_SIZE);
+        CharBuffer chars = CharBuffer.allocate(CHUNK_SIZE);
+        long position = from;
+        while (position < to) {
+            bytes.limit((int) Math.min(bytes.capacity(), bytes.position() + (to - position)));
+            int read = channel.read(bytes, position);
+            if (read < 0) {
+                break;
+            }
+            position += read;
+            bytes.flip();
+            decoder.decode(bytes, chars, false);
+            counter.accept(chars);
+            bytes.compact();
+        }
+        if (!endOfInput) {
+            return position - bytes.position();
+        }
+        bytes.flip();
+        decoder.decode(bytes, chars, true);
+        decoder.flush(chars);
+        counter.accept(chars);
+        counter.finish();
+        return position;
+    }
+
+    private static Path createPathFromFileName(String fileName) {
+        Objects.requireNonNull(fileName);
+        URL fileUrl = FileStats.class.getClassLoader().getResource(fileName);
+        if (fileUrl == null) {
+            throw new FileStatsException("File not found in the classpath: " + fileName);
+        }
+        try {
+            return Paths.get(fileUrl.toURI());
+        } catch (URISyntaxException e) {
+            throw new FileStatsException("Invalid file URL: " + fileUrl, e);
+        }
     }
 }
@@ -0,0 +1,269 @@
+package com.bobocode.se;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * {@link FileStatsCache} keeps character statistics of files in a binary sidecar file, so the files that have not
+ * changed since the last run are not read again. An entry is keyed by a file path, and it is valid as long as the size
+ * and the last modified time of the file stay the same.
+ * <p>
+ * Statistics are stored sparsely, as the chars and code points that occur in a file with their counts. Chars and
+ * code points are sorted and stored as deltas from the previous one, and all the numbers are written as variable
+ * length integers, so a typical text file takes a few hundred bytes. The cache is written to a temporary file that
+ * replaces the sidecar at once. A sidecar that cannot be read is ignored, and the files are counted again.
+ */
+final class FileStatsCache {
+    static final String FILE_NAME = ".filestats";
+    private static final int MAGIC = 0x46534331; // FSC1
+    /**
+     * The smallest number of bytes an entry takes: a path length, a size, a last modified time and two counts.
+     */
+    private static final int MIN_ENTRY_SIZE = Short.BYTES + 1 + Long.BYTES + 1 + 1;
+    private static final int SUPPLEMENTARY_CODE_POINTS = Character.MAX_CODE_POINT + 1
+            - Character.MIN_SUPPLEMENTARY_CODE_POINT;
+    private static final int MAX_VAR_LONG_SIZE = 10;
+
+    private final Path file;
+    private final Map<String, Entry> entries;
+
+    private FileStatsCache(Path file, Map<String, Entry> entries) {
+        this.file = file;
+        this.entries = entries;
+    }
+
+    /**
+     * Loads the cache from a sidecar file in provided directory. The cache is empty if there is no sidecar yet, or it
+     * cannot be read. Counts of a sidecar are checked before anything is allocated for them, so a corrupted sidecar
+     * is treated as one that cannot be read.
+     */
+    static FileStatsCache load(Path directory) {
+        Path file = directory.resolve(FILE_NAME);
+        if (!Files.isRegularFile(file)) {
+            return new FileStatsCache(file, Map.of());
+        }
+        try (DataInputStream input = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            if (input.readInt() != MAGIC) {
+                return new FileStatsCache(file, Map.of());
+            }
+            int size = input.readInt();
+            checkCount(size, (Files.size(file) - 2 * Integer.BYTES) / MIN_ENTRY_SIZE);
+            Map<String, Entry> entries = new HashMap<>(size * 2);
+            for (int i = 0; i < size; i++) {
+                String path = input.readUTF();
+                entries.put(path, Entry.read(input));
+            }
+            return new FileStatsCache(file, entries);
+        } catch (IOException e) {
+            return new FileStatsCache(file, Map.of());
+        }
+    }
+
+    /**
+     * @return a cache entry of a file if it has the same size and last modified time, or {@code null} otherwise
+     */
+    Entry get(String path, long size, long lastModified) {
+        Entry entry = entries.get(path);
+        return entry != null && entry.size == size && entry.lastModified == lastModified ? entry : null;
+    }
+
+    /**
+     * Replaces the sidecar with provided entries, so entries of the files that are gone are dropped. The cache is
+     * an optimization, so a sidecar that cannot be written is skipped.
+     */
+    void save(Map<String, Entry> newEntries) {
+        if (newEntries.equals(entries)) {
+            return;
+        }
+        try {
+            Path temporaryFile = Files.createTempFile(file.getParent(), FILE_NAME, ".tmp");
+            try (DataOutputStream output = new DataOutputStream(
+                    new BufferedOutputStream(Files.newOutputStream(temporaryFile)))) {
+                output.writeInt(MAGIC);
+                output.writeInt(newEntries.size());
+                for (Map.Entry<String, Entry> entry : newEntries.entrySet()) {
+                    output.writeUTF(entry.getKey());
+                    entry.getValue().write(output);
+                }
+            } catch (IOException e) {
+                Files.deleteIfExists(temporaryFile);
+                throw e;
+            }
+            Files.move(temporaryFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            // statistics are counted anyway, the next run will try to write the cache again
+        }
+    }
+
+    /**
+     * Statistics of a single file together with the file attributes they are valid for.
+     */
+    static final class Entry {
+        private final long size;
+        private final long lastModified;
+        private final char[] chars;
+        private final long[] charCounts;
+        private final int[] codePoints;
+        private final long[] codePointCounts;
+
+        private Entry(long size, long lastModified, char[] chars, long[] charCounts, int[] codePoints,
+                      long[] codePointCounts) {
+            this.size = size;
+            this.lastModified = lastModified;
+            this.chars = chars;
+            this.charCounts = charCounts;
+            this.codePoints = codePoints;
+            this.codePointCounts = codePointCounts;
+        }
+
+        static Entry of(long size, long lastModified, CharHistogram histogram) {
+            int present = 0;
+            for (int c = 0; c < CharHistogram.CHAR_COUNT; c++) {
+                if (histogram.count((char) c) > 0) {
+                    present++;
+                }
+            }
+            char[] chars = new char[present];
+            long[] charCounts = new long[present];
+            for (int c = 0, i = 0; c < CharHistogram.CHAR_COUNT; c++) {
+                long count = histogram.count((char) c);
+                if (count > 0) {
+                    chars[i] = (char) c;
+                    charCounts[i++] = count;
+                }
+            }
+            Map<Integer, Long> supplementaryCounts = histogram.copyOfSupplementaryCounts();
+            int[] codePoints = supplementaryCounts.keySet().stream().mapToInt(Integer::intValue).sorted().toArray();
+            long[] codePointCounts = Arrays.stream(codePoints).mapToLong(supplementaryCounts::get).toArray();
+            return new Entry(size, lastModified, chars, charCounts, codePoints, codePointCounts);
+        }
+
+        /**
+         * Adds the counts of this entry to the counts of a histogram that is being built.
+         */
+        void addTo(long[] charCounts, Map<Integer, Long> supplementaryCounts) {
+            for (int i = 0; i < chars.length; i++) {
+                charCounts[chars[i]] += this.charCounts[i];
+            }
+            for (int i = 0; i < codePoints.length; i++) {
+                supplementaryCounts.merge(codePoints[i], codePointCounts[i], Long::sum);
+            }
+        }
+
+        private static Entry read(DataInput input) throws IOException {
+            long size = readVarLong(input);
+            long lastModified = input.readLong();
+            int charCount = readCount(input, CharHistogram.CHAR_COUNT);
+            char[] chars = new char[charCount];
+            long[] charCounts = new long[charCount];
+            for (int i = 0, c = 0; i < charCount; i++) {
+                c += readCount(input, CharHistogram.CHAR_COUNT - 1 - c);
+                chars[i] = (char) c;
+                charCounts[i] = readCount(input, Long.MAX_VALUE);
+            }
+            int codePointCount = readCount(input, SUPPLEMENTARY_CODE_POINTS);
+            int[] codePoints = new int[codePointCount];
+            long[] codePointCounts = new long[codePointCount];
+            for (int i = 0, codePoint = 0; i < codePointCount; i++) {
+                codePoint += readCount(input, Character.MAX_CODE_POINT - codePoint);
+                if (!Character.isSupplementaryCodePoint(codePoint)) {
+                    throw new IOException("Invalid supplementary code point: " + codePoint);
+                }
+                codePoints[i] = codePoint;
+                codePointCounts[i] = readCount(input, Long.MAX_VALUE);
+            }
+            return new Entry(size, lastModified, chars, charCounts, codePoints, codePointCounts);
+        }
+
+        private void write(DataOutput output) throws IOException {
+            writeVarLong(output, size);
+            output.writeLong(lastModified);
+            writeVarLong(output, chars.length);
+            for (int i = 0, previous = 0; i < chars.length; i++) {
+                writeVarLong(output, chars[i] - previous);
+                writeVarLong(output, charCounts[i]);
+                previous = chars[i];
+            }
+            writeVarLong(output, codePoints.length);
+            for (int i = 0, previous = 0; i < codePoints.length; i++) {
+                writeVarLong(output, codePoints[i] - previous);
+                writeVarLong(output, codePointCounts[i]);
+                previous = codePoints[i];
+            }
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Entry)) {
+                return false;
+            }
+            Entry entry = (Entry) o;
+            return size == entry.size && lastModified == entry.lastModified && Arrays.equals(chars, entry.chars)
+                    && Arrays.equals(charCounts, entry.charCounts) && Arrays.equals(codePoints, entry.codePoints)
+                    && Arrays.equals(codePointCounts, entry.codePointCounts);
+        }
+
+        @Override
+        public int hashCode() {
+            return Long.hashCode(size) * 31 + Long.hashCode(lastModified);
+        }
+    }
+
+    /**
+     * Writes a non-negative number in 7-bit groups, lowest first, with the high bit set on all the groups but the last.
+     */
+    private static void writeVarLong(DataOutput output, long value) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            output.writeByte((int) (value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        output.writeByte((int) value);
+    }
+
+    /**
+     * Reads a count or a delta that should be from 0 to max, so it can be used as an array size or an index.
+     */
+    private static int readCount(DataInput input, int max) throws IOException {
+        return (int) readCount(input, (long) max);
+    }
+
+    private static long readCount(DataInput input, long max) throws IOException {
+        long count = readVarLong(input);
+        checkCount(count, max);
+        return count;
+    }
+
+    private static void checkCount(long count, long max) throws IOException {
+        if (count < 0 || count > max) {
+            throw new IOException("Count should be from 0 to " + max + ", but was " + count);
+        }
+    }
+
+    private static long readVarLong(DataInput input) throws IOException {
+        long value = 0;
+        for (int shift = 0; ; shift += 7) {
+            if (shift >= MAX_VAR_LONG_SIZE * 7) {
+                throw new IOException("Variable length number is too long");
+            }
+            byte b = input.readByte();
+            value |= (long) (b & 0x7F) << shift;
+            if (b >= 0) {
+                return value;
+            }
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package com.bobocode.se;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Objects;
+
+import static java.nio.file.StandardWatchEventKinds.ENTRY_CREATE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_MODIFY;
+import static java.nio.file.StandardWatchEventKinds.OVERFLOW;
+
+/**
+ * {@link LiveFileStats} is a {@link FileStats} that follows a growing file. It remembers the offset it has read the
+ * file up to, and on each change reported by a {@link WatchService} it counts only the bytes after that offset. An
+ * incomplete UTF-8 character at the end of the file is left for the next update.
+ * <p>
+ * Updates copy the current histogram, add the new chars to the copy and publish it through a volatile field, so
+ * queries are O(1) and always see a consistent snapshot without locking. Updates themselves are serialized. If the
+ * file gets shorter than the offset, or the path points to another file after a rotation, the file is counted from
+ * scratch.
+ * <p>
+ * Live stats count characters and code points only, so word and n-gram queries throw {@link IllegalStateException}.
+ */
+public class LiveFileStats extends FileStats implements Closeable {
+    private final Path path;
+    private final WatchService watchService;
+    private final Thread watcher;
+
+    private volatile CharHistogram histogram;
+    private long offset;
+    private Object fileKey;
+
+    LiveFileStats(Path path) {
+        this(path, new TextCounter().toHistogram());
+    }
+
+    private LiveFileStats(Path path, CharHistogram emptyHistogram) {
+        super(emptyHistogram, null);
+        this.path = path.toAbsolutePath();
+        this.histogram = emptyHistogram;
+        try {
+            watchService = this.path.getFileSystem().newWatchService();
+            this.path.getParent().register(watchService, ENTRY_CREATE, ENTRY_MODIFY);
+        } catch (IOException e) {
+            throw new FileStatsException("Cannot watch file: " + path, e);
+        }
+        try {
+            refresh();
+        } catch (RuntimeException e) {
+            closeWatchService();
+            throw e;
+        }
+        watcher = new Thread(this::watch, "file-stats-watcher-" + this.path.getFileName());
+        watcher.setDaemon(true);
+        watcher.start();
+    }
+
+    /**
+     * Counts the bytes appended to the file since the last update, without waiting for the watch service to report
+     * the change.
+     */
+    public synchronized void refresh() {
+        try (FileChannel channel = FileChannel.open(path)) {
+            Object currentFileKey = Files.readAttributes(path, BasicFileAttributes.class).fileKey();
+            long size = channel.size();
+            TextCounter counter;
+            if (size < offset || !Objects.equals(fileKey, currentFileKey)) {
+                counter = new TextCounter();
+                offset = 0;
+                fileKey = currentFileKey;
+            } else if (size > offset) {
+                counter = new TextCounter(histogram);
+            } else {
+                return;
+            }
+            offset = count(channel, offset, size, false, counter);
+            histogram = counter.toHistogram();
+        } catch (IOException e) {
+            throw new FileStatsException("Cannot read file: " + path, e);
+        }
+    }
+
+    /**
+     * Stops watching the file. The statistics stay available as they were at the last update.
+     */
+    @Override
+    public void close() {
+        closeWatchService();
+        watcher.interrupt();
+    }
+
+    @Override
+    CharHistogram histogram() {
+        return histogram;
+    }
+
+    private void watch() {
+        try {
+            while (true) {
+                WatchKey key = watchService.take();
+                boolean changed = false;
+                for (WatchEvent<?> event : key.pollEvents()) {
+                    changed |= event.kind() == OVERFLOW || path.getFileName().equals(event.context());
+                }
+                if (changed) {
+                    refreshQuietly();
+                }
+                if (!key.reset()) {
+                    return;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ClosedWatchServiceException e) {
+            // stats were closed
+        }
+    }
+
+    /**
+     * Updates the stats from the watcher thread. The file may be missing for a moment while it is rotated, and the
+     * next event will bring the stats up to date, so a failed update is skipped.
+     */
+    private void refreshQuietly() {
+        try {
+            refresh();
+        } catch (FileStatsException e) {
+            // keep the last snapshot until the next change
+        }
+    }
+
+    private void closeWatchService() {
+        try {
+            watchService.close();
+        } catch (IOException e) {
+            throw new FileStatsException("Cannot stop watching file: " + path, e);
+        }
+    }
+}
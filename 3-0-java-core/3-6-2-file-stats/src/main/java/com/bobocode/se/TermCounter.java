@@ -0,0 +1,168 @@
+package com.bobocode.se;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/**
+ * {@link TermCounter} counts occurrences of terms, such as words or n-grams, within a memory budget. Terms are counted
+ * exactly in a hash map while the estimated size of the map fits into the budget. Once it does not, the counts are
+ * moved into a {@link CountMinSketch} that takes a half of the budget, and the other half is spent on tracking heavy
+ * hitters, the terms with the largest estimates, which are the only candidates for top-K queries from then on.
+ * <p>
+ * Heavy hitters are kept in a map that is pruned to its capacity once it gets twice as large. A new term gets into
+ * the map only if its estimate is above the smallest estimate left after the last pruning, so adding a term is O(1)
+ * amortized.
+ */
+final class TermCounter {
+    /**
+     * Approximate memory taken by a map entry besides the chars of a term: a {@link String} with its array, a hash map
+     * node, a table slot and a counter array.
+     */
+    private static final int ENTRY_OVERHEAD = 104;
+    private static final int AVERAGE_TERM_LENGTH = 16;
+    private static final int MIN_SKETCH_WIDTH = 1024;
+    private static final int MIN_HEAVY_HITTERS = 16;
+    private static final Comparator<Map.Entry<String, Long>> BY_COUNT = Map.Entry.<String, Long>comparingByValue()
+            .thenComparing(Map.Entry.<String, Long>comparingByKey().reversed());
+
+    private final long memoryBudget;
+
+    private Map<String, long[]> exactCounts = new HashMap<>();
+    private long exactCountsSize;
+
+    private CountMinSketch sketch;
+    private Map<String, long[]> heavyHitters;
+    private int heavyHittersCapacity;
+    private long admissionThreshold;
+
+    /**
+     * @param memoryBudget approximate number of bytes the counter can take
+     */
+    TermCounter(long memoryBudget) {
+        this.memoryBudget = memoryBudget;
+    }
+
+    void add(String term) {
+        add(term, 1);
+    }
+
+    void add(String term, long count) {
+        if (sketch == null) {
+            long[] termCount = exactCounts.get(term);
+            if (termCount != null) {
+                termCount[0] += count;
+            } else {
+                exactCounts.put(term, new long[]{count});
+                exactCountsSize += ENTRY_OVERHEAD + term.length();
+                if (exactCountsSize > memoryBudget) {
+                    switchToSketch();
+                }
+            }
+        } else {
+            offerHeavyHitter(term, sketch.add(term, count));
+        }
+    }
+
+    /**
+     * @return an exact count of a term, or an estimate that is never less than the exact count once the counts do not
+     * fit into the memory budget
+     */
+    long count(String term) {
+        if (sketch == null) {
+            long[] termCount = exactCounts.get(term);
+            return termCount == null ? 0 : termCount[0];
+        }
+        return sketch.estimate(term);
+    }
+
+    /**
+     * @return {@code true} if the counts are exact
+     */
+    boolean isExact() {
+        return sketch == null;
+    }
+
+    /**
+     * Finds up to k terms with the largest counts using a bounded min-heap, so it takes O(n log k) time for n terms.
+     * Terms with equal counts are ordered alphabetically. Once the counts are estimated, the terms are taken from heavy
+     * hitters only.
+     *
+     * @return terms with their counts in the descending order of counts
+     */
+    List<Map.Entry<String, Long>> top(int k) {
+        if (k <= 0) {
+            return List.of();
+        }
+        PriorityQueue<Map.Entry<String, Long>> heap = new PriorityQueue<>(k + 1, BY_COUNT);
+        Map<String, long[]> terms = sketch == null ? exactCounts : heavyHitters;
+        for (Map.Entry<String, long[]> term : terms.entrySet()) {
+            long count = sketch == null ? term.getValue()[0] : sketch.estimate(term.getKey());
+            if (heap.size() < k || count >= heap.peek().getValue()) {
+                heap.add(Map.entry(term.getKey(), count));
+                if (heap.size() > k) {
+                    heap.poll();
+                }
+            }
+        }
+        List<Map.Entry<String, Long>> top = new ArrayList<>(heap);
+        top.sort(BY_COUNT.reversed());
+        return top;
+    }
+
+    /**
+     * Adds the counts of another counter with the same memory budget.
+     */
+    void merge(TermCounter other) {
+        if (other.sketch == null) {
+            other.exactCounts.forEach((term, count) -> add(term, count[0]));
+            return;
+        }
+        if (sketch == null) {
+            switchToSketch();
+        }
+        sketch.merge(other.sketch);
+        for (String term : other.heavyHitters.keySet()) {
+            offerHeavyHitter(term, sketch.estimate(term));
+        }
+    }
+
+    private void switchToSketch() {
+        long halfBudget = memoryBudget / 2;
+        long width = Long.highestOneBit(Math.max(MIN_SKETCH_WIDTH, halfBudget / (Long.BYTES * CountMinSketch.DEPTH)));
+        sketch = new CountMinSketch((int) Math.min(width, 1 << 30));
+        heavyHittersCapacity = (int) Math.max(MIN_HEAVY_HITTERS,
+                Math.min(1 << 20, halfBudget / (2 * (ENTRY_OVERHEAD + AVERAGE_TERM_LENGTH))));
+        heavyHitters = new HashMap<>();
+        Map<String, long[]> counts = exactCounts;
+        exactCounts = null;
+        counts.forEach((term, count) -> offerHeavyHitter(term, sketch.add(term, count[0])));
+    }
+
+    private void offerHeavyHitter(String term, long estimate) {
+        long[] termEstimate = heavyHitters.get(term);
+        if (termEstimate != null) {
+            termEstimate[0] = estimate;
+        } else if (estimate > admissionThreshold) {
+            heavyHitters.put(term, new long[]{estimate});
+            if (heavyHitters.size() > 2 * heavyHittersCapacity) {
+                pruneHeavyHitters();
+            }
+        }
+    }
+
+    /**
+     * Keeps the heavy hitters with the largest estimates, and raises the admission threshold to the smallest of them.
+     */
+    private void pruneHeavyHitters() {
+        List<Map.Entry<String, Long>> top = top(heavyHittersCapacity);
+        heavyHitters = new HashMap<>();
+        for (Map.Entry<String, Long> term : top) {
+            heavyHitters.put(term.getKey(), new long[]{term.getValue()});
+        }
+        admissionThreshold = top.get(top.size() - 1).getValue();
+    }
+}
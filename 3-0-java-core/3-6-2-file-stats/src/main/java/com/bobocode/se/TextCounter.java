@@ -0,0 +1,206 @@
+package com.bobocode.se;
+
+import java.nio.CharBuffer;
+import java.util.HashMap;
+import java.util.Map;
+
+import static com.bobocode.se.CharHistogram.CHAR_COUNT;
+
+/**
+ * {@link TextCounter} collects statistics of a text that is passed to it chunk by chunk. It always counts chars and
+ * code points outside the Basic Multilingual Plane, and, if it is created with a memory budget for terms, it splits
+ * the text into words and counts words, bigrams and trigrams as well.
+ * <p>
+ * A word is a sequence of letters and digits in lower case. N-grams are sequences of adjacent words joined with a
+ * single space, e.g. {@code "of the"}. Counters of consecutive parts of a text can be merged, as long as the parts are
+ * split between words: the n-grams that span the split are built from the last words of the first part and the
+ * first words of the second one.
+ */
+final class TextCounter {
+    static final int MAX_NGRAM_SIZE = 3;
+
+    private final long[] charCounts;
+    private final Map<Integer, Long> supplementaryCounts;
+    private final long termMemoryBudget;
+    private final TermCounter[] ngrams;
+
+    private final StringBuilder word = new StringBuilder();
+    /**
+     * The last words of the text, the most recent one is at the end.
+     */
+    private final String[] lastWords = new String[MAX_NGRAM_SIZE - 1];
+    private final String[] firstWords = new String[MAX_NGRAM_SIZE - 1];
+    private long wordCount;
+
+    /**
+     * Creates a counter of chars and code points only.
+     */
+    TextCounter() {
+        this(new long[CHAR_COUNT], new HashMap<>(), 0);
+    }
+
+    /**
+     * Creates a counter of chars, code points and terms. Each of the word, bigram and trigram counters gets a third of
+     * the budget.
+     *
+     * @param termMemoryBudget approximate number of bytes the term counts can take
+     */
+    TextCounter(long termMemoryBudget) {
+        this(new long[CHAR_COUNT], new HashMap<>(), termMemoryBudget);
+    }
+
+    /**
+     * Creates a counter of chars and code points that continues counting from provided histogram.
+     */
+    TextCounter(CharHistogram histogram) {
+        this(histogram.copyOfCounts(), histogram.copyOfSupplementaryCounts(), 0);
+    }
+
+    private TextCounter(long[] charCounts, Map<Integer, Long> supplementaryCounts, long termMemoryBudget) {
+        this.charCounts = charCounts;
+        this.supplementaryCounts = supplementaryCounts;
+        this.termMemoryBudget = termMemoryBudget;
+        if (termMemoryBudget > 0) {
+            ngrams = new TermCounter[MAX_NGRAM_SIZE];
+            for (int i = 0; i < MAX_NGRAM_SIZE; i++) {
+                ngrams[i] = new TermCounter(termMemoryBudget / MAX_NGRAM_SIZE);
+            }
+        } else {
+            ngrams = null;
+        }
+    }
+
+    /**
+     * @return an empty counter that collects the same statistics as this one
+     */
+    TextCounter newCounter() {
+        return new TextCounter(new long[CHAR_COUNT], new HashMap<>(), termMemoryBudget);
+    }
+
+    /**
+     * Counts decoded chars and clears the buffer. A surrogate pair is never split between chunks, since a decoder
+     * writes both chars of a pair at once.
+     */
+    void accept(CharBuffer chars) {
+        char[] array = chars.array();
+        int length = chars.position();
+        for (int i = 0; i < length; i++) {
+            char c = array[i];
+            charCounts[c]++;
+            int codePoint = c;
+            if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(array[i + 1])) {
+                char low = array[++i];
+                charCounts[low]++;
+                codePoint = Character.toCodePoint(c, low);
+                supplementaryCounts.merge(codePoint, 1L, Long::sum);
+            }
+            if (ngrams != null) {
+                acceptCodePoint(codePoint);
+            }
+        }
+        chars.clear();
+    }
+
+    /**
+     * Completes the last word, once the end of the text is reached.
+     */
+    void finish() {
+        if (ngrams != null && word.length() > 0) {
+            endWord();
+        }
+    }
+
+    /**
+     * Adds the statistics of the text that follows the text of this counter. Both counters should be finished.
+     */
+    void merge(TextCounter next) {
+        for (int i = 0; i < CHAR_COUNT; i++) {
+            charCounts[i] += next.charCounts[i];
+        }
+        next.supplementaryCounts.forEach((codePoint, count) -> supplementaryCounts.merge(codePoint, count, Long::sum));
+        if (ngrams == null) {
+            return;
+        }
+        for (int i = 0; i < MAX_NGRAM_SIZE; i++) {
+            ngrams[i].merge(next.ngrams[i]);
+        }
+        int nextFirstWords = (int) Math.min(next.wordCount, firstWords.length);
+        for (int i = 0; i < nextFirstWords; i++) {
+            String nextWord = next.firstWords[i];
+            countSpanningNgrams(nextWord, i);
+            shiftLastWords(nextWord);
+            if (wordCount < firstWords.length) {
+                firstWords[(int) wordCount] = nextWord;
+            }
+            wordCount++;
+        }
+        wordCount += next.wordCount - nextFirstWords;
+        if (next.wordCount > nextFirstWords) {
+            System.arraycopy(next.lastWords, 0, lastWords, 0, lastWords.length);
+        }
+    }
+
+    CharHistogram toHistogram() {
+        return new CharHistogram(charCounts, supplementaryCounts);
+    }
+
+    /**
+     * @return word, bigram and trigram counters, or {@code null} if terms are not counted
+     */
+    TermCounter[] ngrams() {
+        return ngrams;
+    }
+
+    /**
+     * Converts a word to the form words are counted in.
+     */
+    static String normalize(String word) {
+        StringBuilder normalized = new StringBuilder(word.length());
+        word.codePoints().map(Character::toLowerCase).forEach(normalized::appendCodePoint);
+        return normalized.toString();
+    }
+
+    private void acceptCodePoint(int codePoint) {
+        if (Character.isLetterOrDigit(codePoint)) {
+            word.appendCodePoint(Character.toLowerCase(codePoint));
+        } else if (word.length() > 0) {
+            endWord();
+        }
+    }
+
+    private void endWord() {
+        String newWord = word.toString();
+        word.setLength(0);
+        ngrams[0].add(newWord);
+        countSpanningNgrams(newWord, 0);
+        shiftLastWords(newWord);
+        if (wordCount < firstWords.length) {
+            firstWords[(int) wordCount] = newWord;
+        }
+        wordCount++;
+    }
+
+    /**
+     * Counts the n-grams that end with a new word and start with the last words of this counter. The first
+     * {@code skipped} words before the new one come from the same counter as the new word, so the n-grams made only
+     * of those words are counted by that counter already.
+     */
+    private void countSpanningNgrams(String newWord, int skipped) {
+        StringBuilder ngram = new StringBuilder(newWord);
+        for (int n = 2; n <= MAX_NGRAM_SIZE; n++) {
+            String previousWord = lastWords[lastWords.length - n + 1];
+            if (previousWord == null) {
+                return;
+            }
+            ngram.insert(0, ' ').insert(0, previousWord);
+            if (n > skipped + 1) {
+                ngrams[n - 1].add(ngram.toString());
+            }
+        }
+    }
+
+    private void shiftLastWords(String newWord) {
+        System.arraycopy(lastWords, 1, lastWords, 0, lastWords.length - 1);
+        lastWords[lastWords.length - 1] = newWord;
+    }
+}
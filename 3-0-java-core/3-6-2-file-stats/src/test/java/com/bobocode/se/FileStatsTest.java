@@ -1,11 +1,34 @@
 package com.bobocode.se;
 
+import lombok.SneakyThrows;
 import org.junit.jupiter.api.MethodOrderer;
 import org.junit.jupiter.api.Order;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestMethodOrder;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+import java.util.stream.Collectors;
 
 import static org.assertj.core.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeFalse;
 
 @TestMethodOrder(MethodOrderer.OrderAnnotation.class)
 public class FileStatsTest {
@@ -66,4 +89,400 @@ public class FileStatsTest {
         assertThat(springArticleContainsExistingCharacter).isTrue();
         assertThat(springArticleContainsWhitespace).isFalse();
     }
-}
\ No newline at end of file
+
+    @Test
+    @Order(6)
+    void createFileStatsFromPath(@TempDir Path tempDir) throws IOException {
+        Path file = Files.writeString(tempDir.resolve("test.txt"), "Привіт,\n світе! 😀", StandardCharsets.UTF_8);
+
+        FileStats fileStats = FileStats.from(file);
+
+        assertThat(fileStats.getCharCount('і')).isEqualTo(2);
+        assertThat(fileStats.getCharCount('т')).isEqualTo(2);
+        assertThat(fileStats.getCharCount(',')).isEqualTo(1);
+        assertThat(fileStats.getCharCount('\uD83D')).isEqualTo(1);
+        assertThat(fileStats.containsCharacter('\n')).isFalse();
+        assertThat(fileStats.getMostPopularCharacter()).isEqualTo('в');
+    }
+
+    @Test
+    @Order(7)
+    void createFileStatsFromLargeFile(@TempDir Path tempDir) throws IOException {
+        String text = randomText(6_000_000);
+        Path file = Files.writeString(tempDir.resolve("large.txt"), text, StandardCharsets.UTF_8);
+        int[] expectedCounts = new int[Character.MAX_VALUE + 1];
+        text.chars().filter(c -> !Character.isWhitespace(c)).forEach(c -> expectedCounts[c]++);
+
+        FileStats fileStats = FileStats.from(file);
+
+        for (char c : "aeiouїß€😀".toCharArray()) {
+            assertThat(fileStats.getCharCount(c)).isEqualTo(expectedCounts[c]);
+        }
+        assertThat(fileStats.containsCharacter(' ')).isFalse();
+        assertThat(fileStats.getMostPopularCharacter()).isEqualTo('a');
+    }
+
+    @Test
+    @Order(8)
+    void getMostPopularCharacterOnWhitespaceOnlyFile(@TempDir Path tempDir) throws IOException {
+        Path file = Files.writeString(tempDir.resolve("blank.txt"), " \n\t \n");
+
+        FileStats fileStats = FileStats.from(file);
+
+        assertThat(fileStats.containsCharacter(' ')).isFalse();
+        assertThatThrownBy(fileStats::getMostPopularCharacter).isInstanceOf(NoSuchElementException.class);
+    }
+
+    @Test
+    @Order(9)
+    void watchCountsExistingContent(@TempDir Path tempDir) throws IOException {
+        Path file = Files.writeString(tempDir.resolve("app.log"), "abc\nab\n");
+
+        try (LiveFileStats fileStats = FileStats.watch(file)) {
+            assertThat(fileStats.getCharCount('a')).isEqualTo(2);
+            assertThat(fileStats.getCharCount('c')).isEqualTo(1);
+            assertThat(fileStats.getMostPopularCharacter()).isEqualTo('a');
+        }
+    }
+
+    @Test
+    @Order(10)
+    void watchCountsAppendedContent(@TempDir Path tempDir) throws IOException {
+        Path file = Files.writeString(tempDir.resolve("app.log"), "abc\n");
+
+        try (LiveFileStats fileStats = FileStats.watch(file)) {
+            Files.writeString(file, "ccc ddd\n", StandardOpenOption.APPEND);
+
+            awaitUntil(() -> fileStats.getCharCount('d') == 3);
+            assertThat(fileStats.getCharCount('a')).isEqualTo(1);
+            assertThat(fileStats.getCharCount('c')).isEqualTo(4);
+            assertThat(fileStats.getMostPopularCharacter()).isEqualTo('c');
+        }
+    }
+
+    @Test
+    @Order(11)
+    void refreshCountsCharacterSplitBetweenAppends(@TempDir Path tempDir) throws IOException {
+        Path file = Files.writeString(tempDir.resolve("app.log"), "a");
+        byte[] euro = "€".getBytes(StandardCharsets.UTF_8);
+
+        try (LiveFileStats fileStats = FileStats.watch(file)) {
+            Files.write(file, new byte[]{euro[0], euro[1]}, StandardOpenOption.APPEND);
+            fileStats.refresh();
+            assertThat(fileStats.containsCharacter('€')).isFalse();
+            assertThat(fileStats.containsCharacter('\uFFFD')).isFalse();
+
+            Files.write(file, new byte[]{euro[2]}, StandardOpenOption.APPEND);
+            fileStats.refresh();
+            assertThat(fileStats.getCharCount('€')).isEqualTo(1);
+            assertThat(fileStats.getCharCount('a')).isEqualTo(1);
+        }
+    }
+
+    @Test
+    @Order(12)
+    void refreshRecountsTruncatedFile(@TempDir Path tempDir) throws IOException {
+        Path file = Files.writeString(tempDir.resolve("app.log"), "aaaa bbbb\n");
+
+        try (LiveFileStats fileStats = FileStats.watch(file)) {
+            Files.writeString(file, "bc\n", StandardOpenOption.TRUNCATE_EXISTING);
+            fileStats.refresh();
+
+            assertThat(fileStats.containsCharacter('a')).isFalse();
+            assertThat(fileStats.getCharCount('b')).isEqualTo(1);
+            assertThat(fileStats.getCharCount('c')).isEqualTo(1);
+        }
+    }
+
+    @Test
+    @Order(13)
+    void watchNonExistingFile(@TempDir Path tempDir) {
+        assertThatThrownBy(() -> FileStats.watch(tempDir.resolve("blahblah.txt")))
+                .isInstanceOf(FileStatsException.class);
+    }
+
+    @Test
+    @Order(14)
+    void getCodePointCount(@TempDir Path tempDir) throws IOException {
+        Path file = Files.writeString(tempDir.resolve("emoji.txt"), "😀 a😀 \uD834\uDD1E ß", StandardCharsets.UTF_8);
+
+        FileStats fileStats = FileStats.from(file);
+
+        assertThat(fileStats.getCodePointCount(0x1F600)).isEqualTo(2);
+        assertThat(fileStats.getCodePointCount(0x1D11E)).isEqualTo(1);
+        assertThat(fileStats.getCodePointCount('a')).isEqualTo(1);
+        assertThat(fileStats.getCodePointCount('ß')).isEqualTo(1);
+        assertThat(fileStats.getCodePointCount(0xD83D)).isZero();
+        assertThat(fileStats.getCodePointCount(' ')).isZero();
+        assertThat(fileStats.getCharCount('\uD83D')).isEqualTo(2);
+        assertThatThrownBy(() -> fileStats.getCodePointCount(-1)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @Order(15)
+    void getWordAndNgramCounts(@TempDir Path tempDir) throws IOException {
+        String text = "To be, or not to be: that is the question.\nTo BE continued... Café's café.";
+        Path file = Files.writeString(tempDir.resolve("words.txt"), text, StandardCharsets.UTF_8);
+
+        FileStats fileStats = FileStats.from(file, 1024 * 1024);
+
+        assertThat(fileStats.getWordCount("to")).isEqualTo(3);
+        assertThat(fileStats.getWordCount("Be")).isEqualTo(3);
+        assertThat(fileStats.getWordCount("café")).isEqualTo(2);
+        assertThat(fileStats.getWordCount("continued")).isEqualTo(1);
+        assertThat(fileStats.getWordCount("hamlet")).isZero();
+        assertThat(fileStats.getNgramCount("to", "be")).isEqualTo(3);
+        assertThat(fileStats.getNgramCount("question", "to")).isEqualTo(1);
+        assertThat(fileStats.getNgramCount("to", "be", "or")).isEqualTo(1);
+        assertThat(fileStats.getNgramCount("be", "or", "to")).isZero();
+        assertThat(fileStats.hasExactTermCounts()).isTrue();
+    }
+
+    @Test
+    @Order(16)
+    void getTopNgrams(@TempDir Path tempDir) throws IOException {
+        String text = "to be or not to be that is the question to be";
+        Path file = Files.writeString(tempDir.resolve("words.txt"), text);
+
+        FileStats fileStats = FileStats.from(file, 1024 * 1024);
+
+        assertThat(fileStats.getTopWords(3)).containsExactly(Map.entry("be", 3L), Map.entry("to", 3L),
+                Map.entry("is", 1L));
+        assertThat(fileStats.getTopNgrams(2, 2)).containsExactly(Map.entry("to be", 3L), Map.entry("be or", 1L));
+        assertThat(fileStats.getTopNgrams(3, 1)).containsExactly(Map.entry("be or not", 1L));
+        assertThat(fileStats.getTopWords(100)).hasSize(8);
+        assertThat(fileStats.getTopWords(0)).isEmpty();
+        assertThatThrownBy(() -> fileStats.getTopNgrams(4, 1)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> fileStats.getTopWords(-1)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @Order(17)
+    void getWordCountWithoutMemoryBudget() {
+        FileStats fileStats = FileStats.from("sotl.txt");
+
+        assertThatThrownBy(() -> fileStats.getWordCount("lambda")).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @Order(18)
+    void getNgramCountsOfLargeFile(@TempDir Path tempDir) throws IOException {
+        String text = randomWords(4_500_000);
+        Path file = Files.writeString(tempDir.resolve("large.txt"), text, StandardCharsets.UTF_8);
+        Map<String, Long> expectedCounts = countNgrams(text);
+
+        FileStats fileStats = FileStats.from(file, 64 * 1024 * 1024);
+
+        assertThat(Files.size(file)).isGreaterThan(8 * 1024 * 1024);
+        assertThat(fileStats.hasExactTermCounts()).isTrue();
+        expectedCounts.forEach((ngram, count) ->
+                assertThat(fileStats.getNgramCount(ngram.split(" "))).as(ngram).isEqualTo(count));
+        assertThat(fileStats.getTopNgrams(3, 5)).containsExactlyElementsOf(expectedCounts.entrySet().stream()
+                .filter(ngram -> ngram.getKey().split(" ").length == 3)
+                .sorted(Map.Entry.<String, Long>comparingByValue().reversed().thenComparing(Map.Entry.comparingByKey()))
+                .limit(5)
+                .collect(Collectors.toList()));
+    }
+
+    @Test
+    @Order(19)
+    void getTopWordsBeyondMemoryBudget(@TempDir Path tempDir) throws IOException {
+        String text = randomWords(200_000);
+        Path file = Files.writeString(tempDir.resolve("words.txt"), text, StandardCharsets.UTF_8);
+        Map<String, Long> expectedCounts = countNgrams(text);
+
+        FileStats fileStats = FileStats.from(file, 64 * 1024);
+
+        assertThat(fileStats.hasExactTermCounts()).isFalse();
+        expectedCounts.forEach((ngram, count) ->
+                assertThat(fileStats.getNgramCount(ngram.split(" "))).as(ngram).isGreaterThanOrEqualTo(count));
+        assertThat(fileStats.getTopWords(3)).extracting(Map.Entry::getKey).containsExactly("a", "b", "c");
+    }
+
+    @Test
+    @Order(20)
+    void fromDirectoryCountsMatchingFiles(@TempDir Path tempDir) throws IOException {
+        Files.createDirectories(tempDir.resolve("nested/deeper"));
+        Files.writeString(tempDir.resolve("a.txt"), "ab a");
+        Files.writeString(tempDir.resolve("nested/b.txt"), "b😀", StandardCharsets.UTF_8);
+        Files.writeString(tempDir.resolve("nested/deeper/c.txt"), "c\nc");
+        Files.writeString(tempDir.resolve("nested/d.log"), "ddd");
+
+        FileStats fileStats = FileStats.fromDirectory(tempDir, "**.txt");
+
+        assertThat(fileStats.getCharCount('a')).isEqualTo(2);
+        assertThat(fileStats.getCharCount('b')).isEqualTo(2);
+        assertThat(fileStats.getCharCount('c')).isEqualTo(2);
+        assertThat(fileStats.containsCharacter('d')).isFalse();
+        assertThat(fileStats.getCodePointCount(0x1F600)).isEqualTo(1);
+        assertThat(fileStats.getMostPopularCharacter()).isEqualTo('a');
+        assertThat(FileStats.fromDirectory(tempDir, "*.txt").getCharCount('b')).isEqualTo(1);
+        assertThat(tempDir.resolve(".filestats")).isRegularFile();
+    }
+
+    @Test
+    @Order(21)
+    void fromDirectoryRecountsOnlyChangedFiles(@TempDir Path tempDir) throws IOException {
+        Path unchanged = Files.writeString(tempDir.resolve("unchanged.txt"), "aaa");
+        Path changed = Files.writeString(tempDir.resolve("changed.txt"), "bbb");
+        Path deleted = Files.writeString(tempDir.resolve("deleted.txt"), "ccc");
+        FileStats.fromDirectory(tempDir, "*.txt");
+
+        FileTime lastModified = Files.getLastModifiedTime(unchanged);
+        Files.writeString(unchanged, "zzz");
+        Files.setLastModifiedTime(unchanged, lastModified);
+        Files.writeString(changed, "bbbb");
+        Files.setLastModifiedTime(changed, FileTime.fromMillis(lastModified.toMillis() + 1000));
+        Files.delete(deleted);
+        FileStats fileStats = FileStats.fromDirectory(tempDir, "*.txt");
+
+        assertThat(fileStats.getCharCount('a')).isEqualTo(3);
+        assertThat(fileStats.containsCharacter('z')).isFalse();
+        assertThat(fileStats.getCharCount('b')).isEqualTo(4);
+        assertThat(fileStats.containsCharacter('c')).isFalse();
+    }
+
+    @Test
+    @Order(22)
+    void fromDirectoryIgnoresCorruptedCache(@TempDir Path tempDir) throws IOException {
+        Files.writeString(tempDir.resolve("a.txt"), "abc");
+        Files.write(tempDir.resolve(".filestats"), new byte[]{0x46, 0x53, 0x43, 0x31, 0, 0, 0, 7, 1});
+
+        FileStats fileStats = FileStats.fromDirectory(tempDir, "*");
+
+        assertThat(fileStats.getCharCount('a')).isEqualTo(1);
+        assertThat(fileStats.getCharCount('F')).isZero();
+        assertThat(FileStats.fromDirectory(tempDir, "*").getCharCount('c')).isEqualTo(1);
+    }
+
+    @Test
+    @Order(23)
+    void fromDirectoryIgnoresCacheWithInvalidCounts(@TempDir Path tempDir) throws IOException {
+        Files.writeString(tempDir.resolve("a.txt"), "abc");
+        Path cache = tempDir.resolve(".filestats");
+        Files.write(cache, new byte[]{0x46, 0x53, 0x43, 0x31, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF});
+
+        assertThat(FileStats.fromDirectory(tempDir, "*").getCharCount('a')).isEqualTo(1);
+
+        byte[] path = "a.txt".getBytes(StandardCharsets.UTF_8);
+        ByteBuffer hugeCharCount = ByteBuffer.allocate(30)
+                .putInt(0x46534331).putInt(1)
+                .putShort((short) path.length).put(path)
+                .put((byte) 3).putLong(0)
+                .put(new byte[]{(byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0x7F});
+        Files.write(cache, Arrays.copyOf(hugeCharCount.array(), hugeCharCount.position()));
+
+        assertThat(FileStats.fromDirectory(tempDir, "*").getCharCount('b')).isEqualTo(1);
+    }
+
+    @Test
+    @Order(24)
+    void fromNonExistingDirectory(@TempDir Path tempDir) {
+        assertThatThrownBy(() -> FileStats.fromDirectory(tempDir.resolve("missing"), "*"))
+                .isInstanceOf(FileStatsException.class);
+    }
+
+    @Test
+    @Order(25)
+    void fromDirectoryKeepsCacheOfFilesOutsideGlob(@TempDir Path tempDir) throws IOException {
+        Path text = Files.writeString(tempDir.resolve("a.txt"), "aaa");
+        Files.writeString(tempDir.resolve("b.md"), "bbb");
+        FileStats.fromDirectory(tempDir, "*.txt");
+        FileStats.fromDirectory(tempDir, "*.md");
+
+        FileTime lastModified = Files.getLastModifiedTime(text);
+        Files.writeString(text, "zzz");
+        Files.setLastModifiedTime(text, lastModified);
+        FileStats fileStats = FileStats.fromDirectory(tempDir, "*.txt");
+
+        assertThat(fileStats.getCharCount('a')).isEqualTo(3);
+        assertThat(fileStats.containsCharacter('z')).isFalse();
+        assertThat(fileStats.containsCharacter('b')).isFalse();
+    }
+
+    @Test
+    @Order(26)
+    void fromDirectorySkipsUnreadableFiles(@TempDir Path tempDir) throws IOException {
+        Files.writeString(tempDir.resolve("a.txt"), "abc");
+        Path unreadableFile = Files.writeString(tempDir.resolve("b.txt"), "bcd");
+        Path unreadableDirectory = Files.createDirectory(tempDir.resolve("nested"));
+        Files.writeString(unreadableDirectory.resolve("c.txt"), "cde");
+        Files.setPosixFilePermissions(unreadableFile, Set.of());
+        Files.setPosixFilePermissions(unreadableDirectory, Set.of());
+        try {
+            assumeFalse(Files.isReadable(unreadableFile), "Permissions are not enforced for the current user");
+
+            FileStats fileStats = FileStats.fromDirectory(tempDir, "**.txt");
+
+            assertThat(fileStats.getCharCount('a')).isEqualTo(1);
+            assertThat(fileStats.getCharCount('c')).isEqualTo(1);
+            assertThat(fileStats.containsCharacter('d')).isFalse();
+            assertThat(fileStats.getSkippedFiles()).containsExactly(unreadableFile, unreadableDirectory);
+        } finally {
+            Files.setPosixFilePermissions(unreadableFile, PosixFilePermissions.fromString("rw-------"));
+            Files.setPosixFilePermissions(unreadableDirectory, PosixFilePermissions.fromString("rwx------"));
+        }
+    }
+
+    @SneakyThrows
+    private void awaitUntil(BooleanSupplier condition) {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+        while (!condition.getAsBoolean()) {
+            assertThat(System.nanoTime()).as("condition is met in time").isLessThan(deadline);
+            Thread.sleep(10);
+        }
+    }
+
+    /**
+     * Generates words with a skewed distribution, so "a" is the most frequent word, "b" is the next one and so on.
+     */
+    private String randomWords(int count) {
+        String[] words = {"a", "b", "c", "d", "e", "f", "g", "h", "ї", "ß", "€uro", "😀"};
+        Random random = new Random(42);
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < count; i++) {
+            int index = (int) (Math.abs(random.nextGaussian()) * 2) % words.length;
+            builder.append(words[index]).append(i % 10 == 9 ? ".\n" : " ");
+        }
+        for (int i = 0; i < 2_000; i++) {
+            builder.append("rare").append(i).append(' ');
+        }
+        return builder.toString();
+    }
+
+    /**
+     * Counts words, bigrams and trigrams of a text, joining the words of n-grams with spaces.
+     */
+    private Map<String, Long> countNgrams(String text) {
+        List<String> words = new ArrayList<>();
+        StringBuilder word = new StringBuilder();
+        (text + " ").codePoints().forEach(codePoint -> {
+            if (Character.isLetterOrDigit(codePoint)) {
+                word.appendCodePoint(Character.toLowerCase(codePoint));
+            } else if (word.length() > 0) {
+                words.add(word.toString().intern());
+                word.setLength(0);
+            }
+        });
+        Map<String, Long> counts = new HashMap<>();
+        for (int i = 0; i < words.size(); i++) {
+            for (int n = 1; n <= 3 && i + n <= words.size(); n++) {
+                counts.merge(String.join(" ", words.subList(i, i + n)), 1L, Long::sum);
+            }
+        }
+        return counts;
+    }
+
+    /**
+     * Generates a text that mixes one, two, three and four byte UTF-8 characters, with 'a' being the most frequent.
+     */
+    private String randomText(int codePoints) {
+        int[] alphabet = {'a', 'a', 'e', 'i', 'o', 'u', ' ', '\n', 'ї', 'ß', '€', 0x1F600};
+        Random random = new Random(42);
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < codePoints; i++) {
+            builder.appendCodePoint(alphabet[random.nextInt(alphabet.length)]);
+        }
+        return builder.toString();
+    }
+}
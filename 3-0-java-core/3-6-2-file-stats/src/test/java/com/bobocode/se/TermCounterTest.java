@@ -0,0 +1,113 @@
+package com.bobocode.se;
+
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class TermCounterTest {
+
+    @Test
+    @Order(1)
+    void countsAreExactWithinMemoryBudget() {
+        TermCounter counter = new TermCounter(1024 * 1024);
+
+        Map<String, Long> expectedCounts = addZipfTerms(counter, 10_000, 1);
+
+        assertThat(counter.isExact()).isTrue();
+        expectedCounts.forEach((term, count) -> assertThat(counter.count(term)).isEqualTo(count));
+        assertThat(counter.count("missing")).isZero();
+    }
+
+    @Test
+    @Order(2)
+    void countsAreNeverUnderestimatedBeyondMemoryBudget() {
+        TermCounter counter = new TermCounter(16 * 1024);
+
+        Map<String, Long> expectedCounts = addZipfTerms(counter, 100_000, 1);
+
+        assertThat(counter.isExact()).isFalse();
+        expectedCounts.forEach((term, count) -> assertThat(counter.count(term)).isGreaterThanOrEqualTo(count));
+    }
+
+    @Test
+    @Order(3)
+    void topFindsHeavyHittersBeyondMemoryBudget() {
+        TermCounter counter = new TermCounter(16 * 1024);
+
+        Map<String, Long> expectedCounts = addZipfTerms(counter, 100_000, 1);
+
+        assertThat(counter.top(5)).extracting(Map.Entry::getKey).containsExactlyElementsOf(top(expectedCounts, 5));
+    }
+
+    @Test
+    @Order(4)
+    void topOrdersEqualCountsAlphabetically() {
+        TermCounter counter = new TermCounter(1024);
+        List.of("b", "c", "a", "c").forEach(counter::add);
+
+        assertThat(counter.top(3)).containsExactly(Map.entry("c", 2L), Map.entry("a", 1L), Map.entry("b", 1L));
+        assertThat(counter.top(0)).isEmpty();
+    }
+
+    @Test
+    @Order(5)
+    void mergeAddsCounts() {
+        TermCounter exact = new TermCounter(16 * 1024);
+        TermCounter exactToMerge = new TermCounter(16 * 1024);
+        TermCounter estimated = new TermCounter(16 * 1024);
+        TermCounter estimatedToMerge = new TermCounter(16 * 1024);
+        Map<String, Long> expectedCounts = addZipfTerms(exact, 50, 1);
+        addZipfTerms(exactToMerge, 50, 2).forEach((term, count) -> expectedCounts.merge(term, count, Long::sum));
+        addZipfTerms(estimated, 50_000, 3).forEach((term, count) -> expectedCounts.merge(term, count, Long::sum));
+        addZipfTerms(estimatedToMerge, 50_000, 4)
+                .forEach((term, count) -> expectedCounts.merge(term, count, Long::sum));
+
+        exact.merge(exactToMerge);
+        assertThat(exact.isExact()).isTrue();
+        exact.merge(estimated);
+        exact.merge(estimatedToMerge);
+
+        assertThat(exact.isExact()).isFalse();
+        expectedCounts.forEach((term, count) -> assertThat(exact.count(term)).isGreaterThanOrEqualTo(count));
+        assertThat(exact.top(3)).extracting(Map.Entry::getKey).containsExactlyElementsOf(top(expectedCounts, 3));
+    }
+
+    @Test
+    @Order(6)
+    void sketchWidthShouldBePowerOfTwo() {
+        assertThatThrownBy(() -> new CountMinSketch(1000)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    /**
+     * Adds terms with frequencies that follow Zipf's law, as words of a natural language text do.
+     */
+    private Map<String, Long> addZipfTerms(TermCounter counter, int count, long seed) {
+        Random random = new Random(seed);
+        Map<String, Long> counts = new HashMap<>();
+        for (int i = 0; i < count; i++) {
+            String term = "term" + (int) Math.floor(Math.pow(20_000, random.nextDouble()));
+            counter.add(term);
+            counts.merge(term, 1L, Long::sum);
+        }
+        return counts;
+    }
+
+    private List<String> top(Map<String, Long> counts, int k) {
+        return counts.entrySet().stream()
+                .sorted(Map.Entry.<String, Long>comparingByValue().reversed().thenComparing(Map.Entry.comparingByKey()))
+                .limit(k)
+                .map(Map.Entry::getKey)
+                .collect(Collectors.toList());
+    }
+}
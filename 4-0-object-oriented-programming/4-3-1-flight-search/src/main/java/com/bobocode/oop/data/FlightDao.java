@@ -1,19 +1,23 @@
 package com.bobocode.oop.data;
 
-import com.bobocode.util.ExerciseNotCompletedException;
+import com.bobocode.oop.service.Flights;
 
-import java.util.HashSet;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.NavigableSet;
 import java.util.Set;
+import java.util.TreeSet;
 
 /**
- * {@link FlightDao} represents a Data Access Object (DAO) for flights. The implementation is simplified, so it just
- * uses {@link HashSet} to store flight numbers.
- * <p>
- * todo: 1. Implement a method {@link FlightDao#register(String)} that store new flight number into the set
- * todo: 2. Implement a method {@link FlightDao#findAll()} that returns a set of all flight numbers
+ * {@link FlightDao} represents a Data Access Object (DAO) for flights. Flight numbers are kept in a sorted set, so a
+ * prefix query is a range of the set that is found in O(log n) time. Substring queries are answered by
+ * {@link FlightNumberIndex}, an inverted index of the n-grams of flight numbers, so neither of the queries scans all
+ * the flight numbers.
  */
-public class FlightDao {
-    private Set<String> flights = new HashSet<>();
+public class FlightDao implements Flights {
+    private final NavigableSet<String> flights = new TreeSet<>();
+    private final FlightNumberIndex index = new FlightNumberIndex();
 
     /**
      * Stores a new flight number
@@ -21,8 +25,13 @@ public class FlightDao {
      * @param flightNumber a flight number to store
      * @return {@code true} if a flight number was stored, {@code false} otherwise
      */
+    @Override
     public boolean register(String flightNumber) {
-        throw new ExerciseNotCompletedException();// todo: implement this method
+        if (!flights.add(flightNumber)) {
+            return false;
+        }
+        index.add(flightNumber);
+        return true;
     }
 
     /**
@@ -30,8 +39,38 @@ public class FlightDao {
      *
      * @return a set of flight numbers
      */
+    @Override
     public Set<String> findAll() {
-        throw new ExerciseNotCompletedException();// todo: implement this method
+        return Collections.unmodifiableSet(flights);
     }
 
+    /**
+     * Returns stored flight numbers that start with a provided prefix. It takes O(log n + k) time, where k is
+     * a number of found flight numbers.
+     *
+     * @param prefix a prefix of flight numbers
+     * @return a list of flight numbers in alphabetical order
+     */
+    @Override
+    public List<String> findAllStartingWith(String prefix) {
+        List<String> found = new ArrayList<>();
+        for (String flightNumber : flights.tailSet(prefix, true)) {
+            if (!flightNumber.startsWith(prefix)) {
+                break;
+            }
+            found.add(flightNumber);
+        }
+        return found;
+    }
+
+    /**
+     * Returns stored flight numbers that contain a provided query
+     *
+     * @param query a part of flight numbers
+     * @return a list of flight numbers in the order they were stored
+     */
+    @Override
+    public List<String> findAllContaining(String query) {
+        return index.findAllContaining(query);
+    }
 }
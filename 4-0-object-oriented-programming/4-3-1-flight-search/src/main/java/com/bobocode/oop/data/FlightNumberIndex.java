@@ -0,0 +1,114 @@
+package com.bobocode.oop.data;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * {@link FlightNumberIndex} is an inverted index of flight numbers for substring queries. Each flight number gets an
+ * id in the order it is added, and every n-gram of it, i.e. each substring of one, two or three chars, is mapped to
+ * the ids of the flight numbers that contain that n-gram. The ids of an n-gram are kept in an ascending array.
+ * <p>
+ * A query of up to three chars is an n-gram itself, so its ids are the answer. A longer query is split into
+ * overlapping trigrams, their ids are intersected starting from the shortest array, and the flight numbers that
+ * contain all the trigrams are checked to contain the whole query. The work depends on the number of flight numbers
+ * that share the rarest trigram of the query rather than on the number of all flight numbers.
+ */
+final class FlightNumberIndex {
+    private static final int MAX_NGRAM_LENGTH = 3;
+
+    private final List<String> flightNumbers = new ArrayList<>();
+    private final Map<Long, Postings> postings = new HashMap<>();
+
+    /**
+     * Adds a flight number that is not in the index yet
+     */
+    void add(String flightNumber) {
+        int id = flightNumbers.size();
+        flightNumbers.add(flightNumber);
+        for (int start = 0; start < flightNumber.length(); start++) {
+            int maxLength = Math.min(MAX_NGRAM_LENGTH, flightNumber.length() - start);
+            for (int length = 1; length <= maxLength; length++) {
+                postings.computeIfAbsent(ngram(flightNumber, start, length), key -> new Postings()).add(id);
+            }
+        }
+    }
+
+    /**
+     * @return flight numbers that contain the query in the order they were added
+     */
+    List<String> findAllContaining(String query) {
+        if (query.isEmpty()) {
+            return new ArrayList<>(flightNumbers);
+        }
+        int length = Math.min(MAX_NGRAM_LENGTH, query.length());
+        Postings[] queryPostings = new Postings[query.length() - length + 1];
+        for (int start = 0; start < queryPostings.length; start++) {
+            queryPostings[start] = postings.get(ngram(query, start, length));
+            if (queryPostings[start] == null) {
+                return new ArrayList<>();
+            }
+        }
+        Arrays.sort(queryPostings, Comparator.comparingInt(ids -> ids.size));
+        return intersect(queryPostings, query);
+    }
+
+    /**
+     * Looks up the ids of the shortest array in the other ones. Both the ids and the lookups are ascending, so each
+     * binary search starts where the previous one stopped.
+     */
+    private List<String> intersect(Postings[] queryPostings, String query) {
+        List<String> found = new ArrayList<>();
+        Postings shortest = queryPostings[0];
+        int[] from = new int[queryPostings.length];
+        candidates:
+        for (int i = 0; i < shortest.size; i++) {
+            int id = shortest.ids[i];
+            for (int j = 1; j < queryPostings.length; j++) {
+                int position = Arrays.binarySearch(queryPostings[j].ids, from[j], queryPostings[j].size, id);
+                if (position < 0) {
+                    from[j] = -position - 1;
+                    continue candidates;
+                }
+                from[j] = position + 1;
+            }
+            String flightNumber = flightNumbers.get(id);
+            if (query.length() <= MAX_NGRAM_LENGTH || flightNumber.contains(query)) {
+                found.add(flightNumber);
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Packs an n-gram into a key: its length goes first, followed by 16 bits per char.
+     */
+    private static long ngram(String text, int start, int length) {
+        long key = length;
+        for (int i = start; i < start + length; i++) {
+            key = key << Character.SIZE | text.charAt(i);
+        }
+        return key;
+    }
+
+    /**
+     * A growing ascending array of flight number ids.
+     */
+    private static final class Postings {
+        private int[] ids = new int[4];
+        private int size;
+
+        void add(int id) {
+            if (size > 0 && ids[size - 1] == id) {
+                return;
+            }
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size * 2);
+            }
+            ids[size++] = id;
+        }
+    }
+}
@@ -1,16 +1,18 @@
 package com.bobocode.oop.service;
 
-import com.bobocode.util.ExerciseNotCompletedException;
-
 import java.util.List;
+import java.util.Objects;
 
 /**
- * {@link FlightService} provides an API that allows to manage flight numbers
- * <p>
- * todo: 1. Using {@link com.bobocode.oop.data.FlightDao} implement method {@link FlightService#registerFlight(String)}
- * todo: 2. Using {@link com.bobocode.oop.data.FlightDao} implement method {@link FlightService#searchFlights(String)}
+ * {@link FlightService} provides an API that allows to manage flight numbers. It stores flight numbers using
+ * {@link Flights}, which is implemented by {@link com.bobocode.oop.data.FlightDao}.
  */
 public class FlightService {
+    private final Flights flights;
+
+    public FlightService(Flights flights) {
+        this.flights = Objects.requireNonNull(flights);
+    }
 
     /**
      * Adds a new flight number
@@ -19,7 +21,7 @@ public class FlightService {
      * @return {@code true} if a flight number was added, {@code false} otherwise
      */
     public boolean registerFlight(String flightNumber) {
-        throw new ExerciseNotCompletedException();
+        return flights.register(flightNumber);
     }
 
     /**
@@ -29,6 +31,16 @@ public class FlightService {
      * @return a list of found flight numbers
      */
     public List<String> searchFlights(String query) {
-        throw new ExerciseNotCompletedException();
+        return flights.findAllContaining(query);
+    }
+
+    /**
+     * Returns all flight numbers that start with a provided prefix, e.g. an airline code.
+     *
+     * @param prefix a prefix of flight numbers
+     * @return a list of found flight numbers in alphabetical order
+     */
+    public List<String> searchFlightsByPrefix(String prefix) {
+        return flights.findAllStartingWith(prefix);
     }
 }
@@ -0,0 +1,42 @@
+package com.bobocode.oop.service;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * {@link Flights} is a storage of flight numbers that {@link FlightService} depends on. It is declared by the service
+ * and implemented by the data access layer, so the service does not depend on the data access layer at compile time.
+ */
+public interface Flights {
+
+    /**
+     * Stores a new flight number
+     *
+     * @param flightNumber a flight number to store
+     * @return {@code true} if a flight number was stored, {@code false} if it is already stored
+     */
+    boolean register(String flightNumber);
+
+    /**
+     * Returns all stored flight numbers
+     *
+     * @return a set of flight numbers
+     */
+    Set<String> findAll();
+
+    /**
+     * Returns stored flight numbers that start with a provided prefix
+     *
+     * @param prefix a prefix of flight numbers
+     * @return a list of flight numbers in alphabetical order
+     */
+    List<String> findAllStartingWith(String prefix);
+
+    /**
+     * Returns stored flight numbers that contain a provided query
+     *
+     * @param query a part of flight numbers
+     * @return a list of flight numbers in the order they were stored
+     */
+    List<String> findAllContaining(String query);
+}
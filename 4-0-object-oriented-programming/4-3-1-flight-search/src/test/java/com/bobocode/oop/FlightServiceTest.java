@@ -4,7 +4,10 @@ import com.bobocode.oop.factory.FlightServiceFactory;
 import com.bobocode.oop.service.FlightService;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -62,4 +65,70 @@ public class FlightServiceTest {
         assertTrue(foundFlights.contains("RLR198"));
         assertEquals(3, foundFlights.size());
     }
+
+    @Test
+    public void testSearchFlightsByLongQuery() {
+        flightService.registerFlight("LTE1147");
+        flightService.registerFlight("LTE9114");
+        flightService.registerFlight("TE114LT");
+
+        List<String> foundFlights = flightService.searchFlights("TE114");
+
+        assertEquals(List.of("LTE1147", "TE114LT"), foundFlights);
+    }
+
+    @Test
+    public void testSearchFlightsByEmptyQuery() {
+        flightService.registerFlight("OL234");
+        flightService.registerFlight("BRT14");
+
+        List<String> foundFlights = flightService.searchFlights("");
+
+        assertEquals(List.of("OL234", "BRT14"), foundFlights);
+    }
+
+    @Test
+    public void testSearchFlightsByPrefix() {
+        flightService.registerFlight("PS101");
+        flightService.registerFlight("LH12");
+        flightService.registerFlight("PS1");
+        flightService.registerFlight("PT101");
+        flightService.registerFlight("P");
+
+        assertEquals(List.of("PS1", "PS101"), flightService.searchFlightsByPrefix("PS"));
+        assertEquals(List.of("P", "PS1", "PS101", "PT101"), flightService.searchFlightsByPrefix("P"));
+        assertEquals(List.of(), flightService.searchFlightsByPrefix("PS2"));
+        assertEquals(5, flightService.searchFlightsByPrefix("").size());
+    }
+
+    @Test
+    public void testSearchFlightsMatchesLinearScan() {
+        Random random = new Random(42);
+        List<String> flightNumbers = new ArrayList<>();
+        for (int i = 0; i < 100_000; i++) {
+            String flightNumber = randomFlightNumber(random);
+            if (flightService.registerFlight(flightNumber)) {
+                flightNumbers.add(flightNumber);
+            }
+        }
+
+        for (String query : List.of("A", "7", "AB", "B12", "C123", "12345", "ZZ9", "AAA0", "Q")) {
+            List<String> expectedFlights = flightNumbers.stream()
+                    .filter(flightNumber -> flightNumber.contains(query))
+                    .collect(Collectors.toList());
+            assertEquals(expectedFlights, flightService.searchFlights(query), query);
+        }
+    }
+
+    private String randomFlightNumber(Random random) {
+        StringBuilder flightNumber = new StringBuilder();
+        for (int i = 0; i < 2; i++) {
+            flightNumber.append((char) ('A' + random.nextInt(16)));
+        }
+        int digits = 1 + random.nextInt(5);
+        for (int i = 0; i < digits; i++) {
+            flightNumber.append((char) ('0' + random.nextInt(10)));
+        }
+        return flightNumber.toString();
+    }
 }
@@ -1,4 +1,120 @@
 package com.bobocode.tdd;
 
+import org.junit.jupiter.api.Test;
+
+import java.util.NoSuchElementException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
 public class LinkedListTest {
+
+    private final List<Integer> intList = new LinkedList<>();
+
+    @Test
+    void addElements() {
+        intList.add(41);
+        intList.add(30);
+
+        assertThat(intList.size()).isEqualTo(2);
+        assertThat(intList.get(0)).isEqualTo(41);
+        assertThat(intList.get(1)).isEqualTo(30);
+    }
+
+    @Test
+    void ofCreatesListOfElements() {
+        List<Integer> list = LinkedList.of(1, 2, 3);
+
+        assertThat(list.size()).isEqualTo(3);
+        assertThat(list.getFirst()).isEqualTo(1);
+        assertThat(list.getLast()).isEqualTo(3);
+    }
+
+    @Test
+    void addByIndex() {
+        intList.add(2);
+        intList.add(0, 1);
+        intList.add(2, 4);
+        intList.add(2, 3);
+
+        assertThat(intList.size()).isEqualTo(4);
+        for (int i = 0; i < 4; i++) {
+            assertThat(intList.get(i)).isEqualTo(i + 1);
+        }
+        assertThat(intList.getLast()).isEqualTo(4);
+    }
+
+    @Test
+    void addByIndexOutOfBounds() {
+        intList.add(1);
+
+        assertThatExceptionOfType(IndexOutOfBoundsException.class).isThrownBy(() -> intList.add(2, 5));
+        assertThatExceptionOfType(IndexOutOfBoundsException.class).isThrownBy(() -> intList.add(-1, 5));
+    }
+
+    @Test
+    void setElement() {
+        intList.add(1);
+        intList.add(2);
+
+        intList.set(1, 5);
+
+        assertThat(intList.get(1)).isEqualTo(5);
+        assertThatExceptionOfType(IndexOutOfBoundsException.class).isThrownBy(() -> intList.set(2, 3));
+    }
+
+    @Test
+    void getOutOfBounds() {
+        assertThatExceptionOfType(IndexOutOfBoundsException.class).isThrownBy(() -> intList.get(0));
+    }
+
+    @Test
+    void getFirstAndLastOfEmptyList() {
+        assertThatExceptionOfType(NoSuchElementException.class).isThrownBy(intList::getFirst);
+        assertThatExceptionOfType(NoSuchElementException.class).isThrownBy(intList::getLast);
+    }
+
+    @Test
+    void removeElements() {
+        List<Integer> list = LinkedList.of(1, 2, 3, 4);
+
+        assertThat(list.remove(3)).isEqualTo(4);
+        assertThat(list.getLast()).isEqualTo(3);
+        assertThat(list.remove(0)).isEqualTo(1);
+        assertThat(list.getFirst()).isEqualTo(2);
+        assertThat(list.remove(1)).isEqualTo(3);
+        assertThat(list.remove(0)).isEqualTo(2);
+        assertThat(list.isEmpty()).isTrue();
+        assertThatExceptionOfType(NoSuchElementException.class).isThrownBy(list::getLast);
+
+        list.add(5);
+
+        assertThat(list.getFirst()).isEqualTo(5);
+        assertThat(list.getLast()).isEqualTo(5);
+    }
+
+    @Test
+    void removeOutOfBounds() {
+        assertThatExceptionOfType(IndexOutOfBoundsException.class).isThrownBy(() -> intList.remove(0));
+    }
+
+    @Test
+    void containsElement() {
+        List<Integer> list = LinkedList.of(1, null, 3);
+
+        assertThat(list.contains(3)).isTrue();
+        assertThat(list.contains(null)).isTrue();
+        assertThat(list.contains(2)).isFalse();
+    }
+
+    @Test
+    void clearList() {
+        List<Integer> list = LinkedList.of(1, 2, 3);
+
+        list.clear();
+
+        assertThat(list.isEmpty()).isTrue();
+        assertThat(list.size()).isZero();
+        assertThat(list.contains(1)).isFalse();
+    }
 }
@@ -0,0 +1,108 @@
+package com.bobocode.benchmarks;
+
+import com.bobocode.cs.ConcurrentLinkedQueue;
+import com.bobocode.cs.LinkedQueue;
+import com.bobocode.cs.Queue;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * {@link ConcurrentQueueBenchmark} measures the throughput of a queue shared by producers and consumers. It compares
+ * the lock-free {@link ConcurrentLinkedQueue} with {@link LinkedQueue} guarded by a single lock, with one, four and
+ * sixteen producers and as many consumers.
+ * <p>
+ * Build and run it from the project root:
+ * <pre>
+ * mvn -pl benchmarks -am package -DskipTests
+ * java -jar benchmarks/target/benchmarks.jar ConcurrentQueueBenchmark
+ * </pre>
+ * JMH reports the throughput of every group and of its producers and consumers separately. A consumer that finds
+ * the queue empty returns {@code null}, which counts as an operation, so compare the producer numbers first.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Group)
+public class ConcurrentQueueBenchmark {
+    private static final Integer ELEMENT = 42;
+
+    public enum Type {
+        MICHAEL_SCOTT(ConcurrentLinkedQueue::new),
+        LOCKED_LINKED(() -> new LockedQueue<>(new LinkedQueue<>()));
+
+        private final Supplier<Queue<Integer>> factory;
+
+        Type(Supplier<Queue<Integer>> factory) {
+            this.factory = factory;
+        }
+    }
+
+    @Param({"MICHAEL_SCOTT", "LOCKED_LINKED"})
+    private Type type;
+
+    private Queue<Integer> queue;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        queue = type.factory.get();
+    }
+
+    @Benchmark
+    @Group("p01c01")
+    @GroupThreads(1)
+    public void add01() {
+        queue.add(ELEMENT);
+    }
+
+    @Benchmark
+    @Group("p01c01")
+    @GroupThreads(1)
+    public Integer poll01() {
+        return queue.poll();
+    }
+
+    @Benchmark
+    @Group("p04c04")
+    @GroupThreads(4)
+    public void add04() {
+        queue.add(ELEMENT);
+    }
+
+    @Benchmark
+    @Group("p04c04")
+    @GroupThreads(4)
+    public Integer poll04() {
+        return queue.poll();
+    }
+
+    @Benchmark
+    @Group("p16c16")
+    @GroupThreads(16)
+    public void add16() {
+        queue.add(ELEMENT);
+    }
+
+    @Benchmark
+    @Group("p16c16")
+    @GroupThreads(16)
+    public Integer poll16() {
+        return queue.poll();
+    }
+}
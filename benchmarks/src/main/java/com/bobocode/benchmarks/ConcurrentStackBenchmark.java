@@ -0,0 +1,96 @@
+package com.bobocode.benchmarks;
+
+import com.bobocode.cs.ConcurrentLinkedStack;
+import com.bobocode.cs.LinkedStack;
+import com.bobocode.cs.Stack;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * {@link ConcurrentStackBenchmark} measures the throughput of a stack shared by many threads, each of them pushing an
+ * element and popping one back. It compares the lock-free {@link ConcurrentLinkedStack} with {@link LinkedStack}
+ * guarded by a single lock.
+ * <p>
+ * Build and run it from the project root:
+ * <pre>
+ * mvn -pl benchmarks -am package -DskipTests
+ * java -jar benchmarks/target/benchmarks.jar ConcurrentStackBenchmark
+ * </pre>
+ * Every benchmark method runs the same operation with a different number of threads, from 1 to 64.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ConcurrentStackBenchmark {
+    private static final Integer ELEMENT = 42;
+
+    public enum Type {
+        TREIBER(ConcurrentLinkedStack::new),
+        LOCKED_LINKED(() -> new LockedStack<>(new LinkedStack<>()));
+
+        private final Supplier<Stack<Integer>> factory;
+
+        Type(Supplier<Stack<Integer>> factory) {
+            this.factory = factory;
+        }
+    }
+
+    @Param({"TREIBER", "LOCKED_LINKED"})
+    private Type type;
+
+    private Stack<Integer> stack;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        stack = type.factory.get();
+    }
+
+    @Benchmark
+    @Threads(1)
+    public Integer threads01() {
+        return pushPop();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public Integer threads04() {
+        return pushPop();
+    }
+
+    @Benchmark
+    @Threads(16)
+    public Integer threads16() {
+        return pushPop();
+    }
+
+    @Benchmark
+    @Threads(64)
+    public Integer threads64() {
+        return pushPop();
+    }
+
+    /**
+     * Every thread pops only after its own push, so the stack is never empty when it pops.
+     */
+    private Integer pushPop() {
+        stack.push(ELEMENT);
+        return stack.pop();
+    }
+}
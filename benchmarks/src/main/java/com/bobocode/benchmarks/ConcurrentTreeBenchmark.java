@@ -0,0 +1,101 @@
+package com.bobocode.benchmarks;
+
+import com.bobocode.cs.BinarySearchTree;
+import com.bobocode.cs.ConcurrentSkipListTree;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link ConcurrentTreeBenchmark} measures the throughput of a tree shared by many threads that mix lookups and
+ * insertions of random elements. It compares the lock-free {@link ConcurrentSkipListTree} with unbalanced and balanced
+ * trees guarded by a single lock.
+ * <p>
+ * Build and run it from the project root:
+ * <pre>
+ * mvn -pl benchmarks -am package -DskipTests
+ * java -jar benchmarks/target/benchmarks.jar ConcurrentTreeBenchmark
+ * </pre>
+ * Every benchmark method runs the same operation with a different number of threads, from 1 to 64.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ConcurrentTreeBenchmark {
+
+    @Param({"SKIP_LIST", "LOCKED_RECURSIVE", "LOCKED_RED_BLACK"})
+    private TreeType type;
+
+    @Param({"1000000"})
+    private int size;
+
+    /**
+     * Percentage of insertions among all operations, the rest are lookups.
+     */
+    @Param({"10", "50"})
+    private int writePercent;
+
+    private BinarySearchTree<Integer> tree;
+    private int bound;
+
+    /**
+     * Fills the tree with random elements from a range twice as large as the size, so a half of lookups find an
+     * element, and insertions keep the tree size within that range.
+     */
+    @Setup(Level.Iteration)
+    public void setUp() {
+        bound = 2 * size;
+        tree = type.create();
+        new Random(42).ints(size, 0, bound).forEach(tree::insert);
+    }
+
+    @Benchmark
+    @Threads(1)
+    public boolean threads01() {
+        return operation();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public boolean threads04() {
+        return operation();
+    }
+
+    @Benchmark
+    @Threads(16)
+    public boolean threads16() {
+        return operation();
+    }
+
+    @Benchmark
+    @Threads(64)
+    public boolean threads64() {
+        return operation();
+    }
+
+    private boolean operation() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        Integer element = random.nextInt(bound);
+        if (random.nextInt(100) < writePercent) {
+            return tree.insert(element);
+        }
+        return tree.contains(element);
+    }
+}
@@ -0,0 +1,100 @@
+package com.bobocode.benchmarks;
+
+import com.bobocode.se.FileReaders;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.CharBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link FileReadersBenchmark} compares ways of reading a whole text file with {@link Files#readString(Path)} as a
+ * baseline. It generates a file of the provided size, 1 GB by default, that consists of lines of random words, mostly
+ * ASCII with some Cyrillic, so decoding goes through multibyte UTF-8 characters too.
+ * <p>
+ * {@link FileReaders#readParallel(Path, int)} with one chunk shows the cost of single-threaded decoding, and more
+ * chunks show how much of it is spread across cores. The speedup is bounded by the number of available processors, and by
+ * the disk once the file does not fit into the page cache.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgs = {"-Xms6g", "-Xmx6g"})
+@State(Scope.Benchmark)
+public class FileReadersBenchmark {
+    private static final String[] WORDS = {"the", "flight", "log", "request", "completed", "in", "ms", "error",
+            "привіт", "світ", "user", "id", "status", "OK", "200", "404"};
+
+    @Param({"1073741824"})
+    private long size;
+
+    private Path file;
+    private CharBuffer buffer;
+
+    @Setup
+    public void setUp() throws IOException {
+        file = Files.createTempFile("file-readers-benchmark", ".txt");
+        Random random = new Random(42);
+        try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            StringBuilder line = new StringBuilder();
+            for (long written = 0; written < size; written += line.toString().getBytes(StandardCharsets.UTF_8).length) {
+                line.setLength(0);
+                int words = 5 + random.nextInt(15);
+                for (int i = 0; i < words; i++) {
+                    line.append(WORDS[random.nextInt(WORDS.length)]).append(' ');
+                }
+                line.setCharAt(line.length() - 1, '\n');
+                writer.write(line.toString());
+            }
+        }
+        buffer = CharBuffer.allocate((int) Files.size(file));
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(file);
+    }
+
+    @Benchmark
+    public String readString() throws IOException {
+        return Files.readString(file);
+    }
+
+    @Benchmark
+    public int readInto() {
+        buffer.clear();
+        return FileReaders.readInto(file, buffer);
+    }
+
+    @Benchmark
+    public String readParallel01() {
+        return FileReaders.readParallel(file, 1);
+    }
+
+    @Benchmark
+    public String readParallel04() {
+        return FileReaders.readParallel(file, 4);
+    }
+
+    @Benchmark
+    public String readParallel16() {
+        return FileReaders.readParallel(file, 16);
+    }
+}
@@ -0,0 +1,66 @@
+package com.bobocode.benchmarks;
+
+import com.bobocode.cs.ArrayList;
+import com.bobocode.cs.GrowthPolicy;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link GrowthPolicyBenchmark} compares {@link GrowthPolicy} implementations by filling an {@link ArrayList} that
+ * starts with the default capacity. Run it with {@code -prof gc} to see how much memory each policy allocates:
+ * <pre>
+ * java -jar benchmarks/target/benchmarks.jar GrowthPolicyBenchmark -prof gc
+ * </pre>
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+@State(Scope.Thread)
+public class GrowthPolicyBenchmark {
+    private static final int INITIAL_CAPACITY = 5;
+
+    @Param({"ONE_AND_HALF", "DOUBLING", "FIXED_INCREMENT", "CAPPED_GEOMETRIC"})
+    private GrowthPolicyType policy;
+
+    @Param({"1000", "100000", "10000000"})
+    private int size;
+
+    private GrowthPolicy growthPolicy;
+
+    @Setup
+    public void setUp() {
+        growthPolicy = policy.create();
+    }
+
+    @Benchmark
+    public ArrayList<Integer> fill() {
+        ArrayList<Integer> list = new ArrayList<>(INITIAL_CAPACITY, growthPolicy);
+        for (int i = 0; i < size; i++) {
+            list.add(i);
+        }
+        return list;
+    }
+
+    @Benchmark
+    public ArrayList<Integer> fillAfterEnsureCapacity() {
+        ArrayList<Integer> list = new ArrayList<>(INITIAL_CAPACITY, growthPolicy);
+        list.ensureCapacity(size);
+        for (int i = 0; i < size; i++) {
+            list.add(i);
+        }
+        return list;
+    }
+}
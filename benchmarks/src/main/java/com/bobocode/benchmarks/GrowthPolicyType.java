@@ -0,0 +1,32 @@
+package com.bobocode.benchmarks;
+
+import com.bobocode.cs.ArrayList;
+import com.bobocode.cs.GrowthPolicy;
+
+import java.util.function.Supplier;
+
+/**
+ * {@link GrowthPolicyType} enumerates all {@link GrowthPolicy} implementations of {@link ArrayList} that are covered by
+ * benchmarks. Its constant names are used as JMH {@code @Param} values, so each benchmark is run once per policy.
+ */
+public enum GrowthPolicyType {
+    ONE_AND_HALF(GrowthPolicy::oneAndHalf),
+    DOUBLING(GrowthPolicy::doubling),
+    FIXED_INCREMENT(() -> GrowthPolicy.fixedIncrement(4096)),
+    CAPPED_GEOMETRIC(() -> GrowthPolicy.cappedGeometric(1 << 20));
+
+    private final Supplier<GrowthPolicy> factory;
+
+    GrowthPolicyType(Supplier<GrowthPolicy> factory) {
+        this.factory = factory;
+    }
+
+    /**
+     * Creates a growth policy of this type.
+     *
+     * @return a new growth policy
+     */
+    public GrowthPolicy create() {
+        return factory.get();
+    }
+}
@@ -0,0 +1,83 @@
+package com.bobocode.benchmarks;
+
+import com.bobocode.cs.BinaryHeapQueue;
+import com.bobocode.cs.DaryHeapQueue;
+import com.bobocode.cs.Queue;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * {@link HeapQueueBenchmark} compares {@link BinaryHeapQueue} with {@link DaryHeapQueue} of different arities on
+ * a scheduling workload: a queue of pending deadlines where every polled job schedules a new one.
+ * <p>
+ * Build and run it from the project root:
+ * <pre>
+ * mvn -pl benchmarks -am package -DskipTests
+ * java -jar benchmarks/target/benchmarks.jar HeapQueueBenchmark
+ * </pre>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class HeapQueueBenchmark {
+    private static final int DEADLINES = 1 << 16;
+
+    public enum Type {
+        BINARY(BinaryHeapQueue::new),
+        QUATERNARY(DaryHeapQueue::new),
+        OCTONARY(() -> new DaryHeapQueue<>(8, Long::compare));
+
+        private final Supplier<Queue<Long>> factory;
+
+        Type(Supplier<Queue<Long>> factory) {
+            this.factory = factory;
+        }
+    }
+
+    @Param({"BINARY", "QUATERNARY", "OCTONARY"})
+    private Type type;
+
+    @Param({"1000", "100000", "1000000"})
+    private int size;
+
+    private Queue<Long> queue;
+    private long[] delays;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42);
+        delays = random.longs(DEADLINES, 0, 1_000_000).toArray();
+        queue = type.factory.get();
+        for (int i = 0; i < size; i++) {
+            queue.add(delays[i % DEADLINES]);
+        }
+    }
+
+    /**
+     * Polls the earliest deadline and schedules a new one after it, so the size of the queue stays the same.
+     */
+    @Benchmark
+    public long pollAndReschedule() {
+        long deadline = queue.poll();
+        queue.add(deadline + delays[next++ & (DEADLINES - 1)]);
+        return deadline;
+    }
+}
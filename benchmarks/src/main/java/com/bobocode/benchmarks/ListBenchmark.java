@@ -0,0 +1,162 @@
+package com.bobocode.benchmarks;
+
+import com.bobocode.cs.List;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link ListBenchmark} measures basic {@link List} operations of every list implementation of the course on lists of
+ * different sizes. It makes the difference between index access on linked nodes and on array-backed storage visible,
+ * and serves as a regression check for those implementations.
+ * <p>
+ * Build and run it from the project root:
+ * <pre>
+ * mvn -pl benchmarks -am package -DskipTests
+ * java -jar benchmarks/target/benchmarks.jar ListBenchmark
+ * </pre>
+ * Use {@code -p type=ARRAY_LIST -p size=1000} to narrow down the parameter matrix.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ListBenchmark {
+
+    @Param({"ARRAY_LIST", "LINKED_LIST", "UNROLLED_LINKED_LIST", "TDD_LINKED_LIST"})
+    private ListType type;
+
+    @Param({"10", "1000", "100000", "10000000"})
+    private int size;
+
+    private List<Integer> list;
+    private int middle;
+    private Integer absent;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        list = type.filled(size);
+        middle = size / 2;
+        absent = -1;
+    }
+
+    /**
+     * Builds a new list of {@code size} elements using {@link List#add(Object)}, so the result reflects the amortized
+     * cost of appending including all resizes.
+     */
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(iterations = 5)
+    @Measurement(iterations = 10)
+    public List<Integer> add() {
+        return type.filled(size);
+    }
+
+    /**
+     * Inserts an element at the head of the list and removes it right away, so the list size stays the same between
+     * invocations.
+     */
+    @Benchmark
+    public Integer addAndRemoveFirst() {
+        list.add(0, absent);
+        return list.remove(0);
+    }
+
+    /**
+     * Inserts an element in the middle of the list and removes it right away, so the list size stays the same between
+     * invocations.
+     */
+    @Benchmark
+    public Integer addAndRemoveInTheMiddle() {
+        list.add(middle, absent);
+        return list.remove(middle);
+    }
+
+    @Benchmark
+    public Integer getFirst() {
+        return list.get(0);
+    }
+
+    @Benchmark
+    public Integer getInTheMiddle() {
+        return list.get(middle);
+    }
+
+    @Benchmark
+    public Integer getLast() {
+        return list.get(size - 1);
+    }
+
+    /**
+     * Looks for an element that is not in the list, which is the worst case that scans all the elements.
+     */
+    @Benchmark
+    public boolean containsAbsent() {
+        return list.contains(absent);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    @Warmup(iterations = 5)
+    @Measurement(iterations = 10)
+    public List<Integer> clear(FilledList filledList) {
+        filledList.list.clear();
+        return filledList.list;
+    }
+
+    /**
+     * Inserts an element in the middle of a new filled list, so unlike {@link #addAndRemoveInTheMiddle()} it measures
+     * {@link List#add(int, Object)} alone.
+     */
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    @Warmup(iterations = 5)
+    @Measurement(iterations = 10)
+    public List<Integer> addInTheMiddle(FilledList filledList) {
+        filledList.list.add(middle, absent);
+        return filledList.list;
+    }
+
+    /**
+     * Removes an element from the middle of a new filled list, so unlike {@link #addAndRemoveInTheMiddle()} it
+     * measures {@link List#remove(int)} alone.
+     */
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    @Warmup(iterations = 5)
+    @Measurement(iterations = 10)
+    public Integer removeInTheMiddle(FilledList filledList) {
+        return filledList.list.remove(middle);
+    }
+
+    /**
+     * A separate state for the benchmarks that change the list size, such as {@link #clear(FilledList)}. It provides
+     * a new filled list for every invocation.
+     */
+    @State(Scope.Thread)
+    public static class FilledList {
+        private List<Integer> list;
+
+        @Setup(Level.Invocation)
+        public void setUp(ListBenchmark benchmark) {
+            list = benchmark.type.filled(benchmark.size);
+        }
+    }
+}
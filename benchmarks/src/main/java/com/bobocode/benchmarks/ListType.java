@@ -0,0 +1,48 @@
+package com.bobocode.benchmarks;
+
+import com.bobocode.cs.ArrayList;
+import com.bobocode.cs.LinkedList;
+import com.bobocode.cs.List;
+import com.bobocode.cs.UnrolledLinkedList;
+
+import java.util.function.Supplier;
+
+/**
+ * {@link ListType} enumerates all {@link List} implementations of the course that are covered by benchmarks. Its
+ * constant names are used as JMH {@code @Param} values, so each benchmark is run once per implementation.
+ */
+public enum ListType {
+    ARRAY_LIST(ArrayList::new),
+    LINKED_LIST(LinkedList::new),
+    UNROLLED_LINKED_LIST(UnrolledLinkedList::new),
+    TDD_LINKED_LIST(() -> new TddListAdapter<>(new com.bobocode.tdd.LinkedList<>()));
+
+    private final Supplier<List<Integer>> factory;
+
+    ListType(Supplier<List<Integer>> factory) {
+        this.factory = factory;
+    }
+
+    /**
+     * Creates a new empty list of this type.
+     *
+     * @return a new empty list
+     */
+    public List<Integer> create() {
+        return factory.get();
+    }
+
+    /**
+     * Creates a new list of this type and fills it with integers from {@code 0} to {@code size - 1}.
+     *
+     * @param size number of elements to add
+     * @return a new list of provided size
+     */
+    public List<Integer> filled(int size) {
+        List<Integer> list = create();
+        for (int i = 0; i < size; i++) {
+            list.add(i);
+        }
+        return list;
+    }
+}
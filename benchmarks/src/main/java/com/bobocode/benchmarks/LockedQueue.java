@@ -0,0 +1,56 @@
+package com.bobocode.benchmarks;
+
+import com.bobocode.cs.Queue;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * {@link LockedQueue} makes any {@link Queue} thread-safe by guarding every operation with a single lock. It is the
+ * baseline for concurrent benchmarks, since producers and consumers that share the queue are serialized.
+ *
+ * @param <T> a type of elements
+ */
+public class LockedQueue<T> implements Queue<T> {
+    private final Queue<T> queue;
+
+    public LockedQueue(Queue<T> queue) {
+        this.queue = queue;
+    }
+
+    @Override
+    public synchronized void add(T element) {
+        queue.add(element);
+    }
+
+    @Override
+    public synchronized T poll() {
+        return queue.poll();
+    }
+
+    @Override
+    public synchronized int size() {
+        return queue.size();
+    }
+
+    @Override
+    public synchronized boolean isEmpty() {
+        return queue.isEmpty();
+    }
+
+    @Override
+    public synchronized void addAll(Collection<? extends T> elements) {
+        queue.addAll(elements);
+    }
+
+    @Override
+    public synchronized int drainTo(Consumer<? super T> consumer, int maxElements) {
+        return queue.drainTo(consumer, maxElements);
+    }
+
+    @Override
+    public synchronized List<T> pollBatch(int n) {
+        return queue.pollBatch(n);
+    }
+}
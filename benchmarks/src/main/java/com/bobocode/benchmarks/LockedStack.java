@@ -0,0 +1,37 @@
+package com.bobocode.benchmarks;
+
+import com.bobocode.cs.Stack;
+
+/**
+ * {@link LockedStack} makes any {@link Stack} thread-safe by guarding every operation with a single lock. It is the
+ * baseline for concurrent benchmarks, since all the threads that share the stack are serialized.
+ *
+ * @param <T> a type of elements
+ */
+public class LockedStack<T> implements Stack<T> {
+    private final Stack<T> stack;
+
+    public LockedStack(Stack<T> stack) {
+        this.stack = stack;
+    }
+
+    @Override
+    public synchronized void push(T element) {
+        stack.push(element);
+    }
+
+    @Override
+    public synchronized T pop() {
+        return stack.pop();
+    }
+
+    @Override
+    public synchronized int size() {
+        return stack.size();
+    }
+
+    @Override
+    public synchronized boolean isEmpty() {
+        return stack.isEmpty();
+    }
+}
@@ -0,0 +1,79 @@
+package com.bobocode.benchmarks;
+
+import com.bobocode.cs.BinarySearchTree;
+
+import java.util.function.Consumer;
+
+/**
+ * {@link LockedTree} makes any {@link BinarySearchTree} thread-safe by guarding every operation with a single lock.
+ * It is the baseline for concurrent benchmarks, since all the threads that share the tree are serialized.
+ *
+ * @param <T> a type of elements
+ */
+public class LockedTree<T extends Comparable<T>> implements BinarySearchTree<T> {
+    private final BinarySearchTree<T> tree;
+
+    public LockedTree(BinarySearchTree<T> tree) {
+        this.tree = tree;
+    }
+
+    @Override
+    public synchronized boolean insert(T element) {
+        return tree.insert(element);
+    }
+
+    @Override
+    public synchronized boolean contains(T element) {
+        return tree.contains(element);
+    }
+
+    @Override
+    public synchronized int size() {
+        return tree.size();
+    }
+
+    @Override
+    public synchronized int depth() {
+        return tree.depth();
+    }
+
+    @Override
+    public synchronized void inOrderTraversal(Consumer<T> consumer) {
+        tree.inOrderTraversal(consumer);
+    }
+
+    @Override
+    public synchronized T floor(T element) {
+        return tree.floor(element);
+    }
+
+    @Override
+    public synchronized T ceiling(T element) {
+        return tree.ceiling(element);
+    }
+
+    @Override
+    public synchronized T min() {
+        return tree.min();
+    }
+
+    @Override
+    public synchronized T max() {
+        return tree.max();
+    }
+
+    @Override
+    public synchronized void rangeTraversal(T from, T to, Consumer<T> consumer) {
+        tree.rangeTraversal(from, to, consumer);
+    }
+
+    @Override
+    public synchronized int rank(T element) {
+        return tree.rank(element);
+    }
+
+    @Override
+    public synchronized T select(int index) {
+        return tree.select(index);
+    }
+}
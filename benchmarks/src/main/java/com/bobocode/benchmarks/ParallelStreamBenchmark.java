@@ -0,0 +1,96 @@
+package com.bobocode.benchmarks;
+
+import com.bobocode.cs.ArrayList;
+import com.bobocode.cs.LinkedList;
+import com.bobocode.cs.RecursiveBinarySearchTree;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongPredicate;
+import java.util.stream.LongStream;
+
+/**
+ * {@link ParallelStreamBenchmark} compares sequential and parallel streams over {@link ArrayList}, {@link LinkedList}
+ * and {@link RecursiveBinarySearchTree}, doing the same work as {@code StreamParallelProcessing} does for
+ * {@link LongStream#range(long, long)}, which serves as a baseline. The speedup shows how well the spliterator of each
+ * data structure splits the work across cores.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ParallelStreamBenchmark {
+    private static final LongPredicate IS_DIVISIBLE_BY_SEVEN = n -> n % 7 == 0;
+
+    @Param({"100000", "1000000", "10000000"})
+    private int size;
+
+    private ArrayList<Long> arrayList;
+    private LinkedList<Long> linkedList;
+    private RecursiveBinarySearchTree<Long> tree;
+
+    @Setup
+    public void setUp() {
+        arrayList = new ArrayList<>(size);
+        linkedList = new LinkedList<>();
+        for (long i = 0; i < size; i++) {
+            arrayList.add(i);
+            linkedList.add(i);
+        }
+        tree = new RecursiveBinarySearchTree<>();
+        new Random(42).longs(size, 0, Long.MAX_VALUE).forEach(tree::insert);
+    }
+
+    @Benchmark
+    public long rangeSequential() {
+        return LongStream.range(0, size).filter(IS_DIVISIBLE_BY_SEVEN).count();
+    }
+
+    @Benchmark
+    public long rangeParallel() {
+        return LongStream.range(0, size).parallel().filter(IS_DIVISIBLE_BY_SEVEN).count();
+    }
+
+    @Benchmark
+    public long arrayListSequential() {
+        return arrayList.stream().mapToLong(Long::longValue).filter(IS_DIVISIBLE_BY_SEVEN).count();
+    }
+
+    @Benchmark
+    public long arrayListParallel() {
+        return arrayList.stream().parallel().mapToLong(Long::longValue).filter(IS_DIVISIBLE_BY_SEVEN).count();
+    }
+
+    @Benchmark
+    public long linkedListSequential() {
+        return linkedList.stream().mapToLong(Long::longValue).filter(IS_DIVISIBLE_BY_SEVEN).count();
+    }
+
+    @Benchmark
+    public long linkedListParallel() {
+        return linkedList.stream().parallel().mapToLong(Long::longValue).filter(IS_DIVISIBLE_BY_SEVEN).count();
+    }
+
+    @Benchmark
+    public long treeSequential() {
+        return tree.stream().mapToLong(Long::longValue).filter(IS_DIVISIBLE_BY_SEVEN).count();
+    }
+
+    @Benchmark
+    public long treeParallel() {
+        return tree.stream().parallel().mapToLong(Long::longValue).filter(IS_DIVISIBLE_BY_SEVEN).count();
+    }
+}
@@ -0,0 +1,87 @@
+package com.bobocode.benchmarks;
+
+import com.bobocode.cs.ArrayStack;
+import com.bobocode.cs.LinkedStack;
+import com.bobocode.cs.Stack;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * {@link StackBenchmark} compares {@link LinkedStack}, which allocates a node per element, with the array-based
+ * {@link ArrayStack}. Run it with {@code -prof gc} to see the allocation rate next to the time.
+ * <p>
+ * Build and run it from the project root:
+ * <pre>
+ * mvn -pl benchmarks -am package -DskipTests
+ * java -jar benchmarks/target/benchmarks.jar StackBenchmark -prof gc
+ * </pre>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class StackBenchmark {
+    private static final Integer ONE = 1;
+
+    public enum Type {
+        LINKED(LinkedStack::new),
+        ARRAY(ArrayStack::new),
+        SHRINKING_ARRAY(() -> new ArrayStack<>(16, true));
+
+        private final Supplier<Stack<Integer>> factory;
+
+        Type(Supplier<Stack<Integer>> factory) {
+            this.factory = factory;
+        }
+    }
+
+    @Param({"LINKED", "ARRAY", "SHRINKING_ARRAY"})
+    private Type type;
+
+    @Param({"16", "1000", "100000"})
+    private int size;
+
+    /**
+     * Creates a new stack, pushes {@code size} elements and pops all of them.
+     */
+    @Benchmark
+    public int pushAllThenPopAll() {
+        Stack<Integer> stack = type.factory.get();
+        for (int i = 0; i < size; i++) {
+            stack.push(ONE);
+        }
+        int sum = 0;
+        while (!stack.isEmpty()) {
+            sum += stack.pop();
+        }
+        return sum;
+    }
+
+    /**
+     * Evaluates a sum of {@code size} operands in reverse Polish notation: pushes two operands, then pops them and
+     * pushes the result. The stack stays shallow, like in expression evaluation.
+     */
+    @Benchmark
+    public int evaluateExpression() {
+        Stack<Integer> stack = type.factory.get();
+        stack.push(ONE);
+        for (int i = 1; i < size; i++) {
+            stack.push(ONE);
+            stack.push(stack.pop() + stack.pop());
+        }
+        return stack.pop();
+    }
+}
@@ -0,0 +1,110 @@
+package com.bobocode.benchmarks;
+
+import com.bobocode.cs.List;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * An adapter that exposes {@link com.bobocode.tdd.List} as {@link List}, so both list hierarchies can be measured by
+ * the same benchmark code.
+ *
+ * @param <T> generic type parameter
+ */
+class TddListAdapter<T> implements List<T> {
+    private final com.bobocode.tdd.List<T> delegate;
+
+    TddListAdapter(com.bobocode.tdd.List<T> delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public void add(T element) {
+        delegate.add(element);
+    }
+
+    @Override
+    public void add(int index, T element) {
+        delegate.add(index, element);
+    }
+
+    @Override
+    public void set(int index, T element) {
+        delegate.set(index, element);
+    }
+
+    @Override
+    public T get(int index) {
+        return delegate.get(index);
+    }
+
+    @Override
+    public T getFirst() {
+        return delegate.getFirst();
+    }
+
+    @Override
+    public T getLast() {
+        return delegate.getLast();
+    }
+
+    @Override
+    public T remove(int index) {
+        return delegate.remove(index);
+    }
+
+    @Override
+    public boolean contains(T element) {
+        return delegate.contains(element);
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return delegate.isEmpty();
+    }
+
+    @Override
+    public int size() {
+        return delegate.size();
+    }
+
+    @Override
+    public void clear() {
+        delegate.clear();
+    }
+
+    /**
+     * {@link com.bobocode.tdd.List} has no iterator, so this one goes through the elements by index.
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return new Iterator<>() {
+            private int cursor;
+            private int lastReturned = -1;
+
+            @Override
+            public boolean hasNext() {
+                return cursor < delegate.size();
+            }
+
+            @Override
+            public T next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                lastReturned = cursor++;
+                return delegate.get(lastReturned);
+            }
+
+            @Override
+            public void remove() {
+                if (lastReturned < 0) {
+                    throw new IllegalStateException();
+                }
+                delegate.remove(lastReturned);
+                cursor = lastReturned;
+                lastReturned = -1;
+            }
+        };
+    }
+}
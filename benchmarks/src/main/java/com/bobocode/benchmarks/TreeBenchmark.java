@@ -0,0 +1,112 @@
+package com.bobocode.benchmarks;
+
+import com.bobocode.cs.BinarySearchTree;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * {@link TreeBenchmark} compares the unbalanced {@code RecursiveBinarySearchTree} with the balanced {@code AvlTree}
+ * and {@code RedBlackTree} on sorted and random input. Sorted input turns the recursive tree into a linked list, so
+ * its insertions and lookups become linear, while the balanced trees stay logarithmic.
+ * <p>
+ * Build and run it from the project root:
+ * <pre>
+ * mvn -pl benchmarks -am package -DskipTests
+ * java -jar benchmarks/target/benchmarks.jar TreeBenchmark
+ * </pre>
+ * The default sizes are small enough for the recursive tree to survive sorted input. Larger trees can be checked for
+ * the balanced implementations only, e.g. {@code -p type=AVL,RED_BLACK -p size=10000000}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgs = "-Xss16m")
+@State(Scope.Thread)
+public class TreeBenchmark {
+    private static final int LOOKUPS = 1000;
+
+    public enum Order {
+        SORTED, RANDOM
+    }
+
+    @Param({"RECURSIVE", "AVL", "RED_BLACK"})
+    private TreeType type;
+
+    @Param({"SORTED", "RANDOM"})
+    private Order order;
+
+    @Param({"1000", "10000"})
+    private int size;
+
+    private int[] elements;
+    private int[] lookups;
+    private BinarySearchTree<Integer> tree;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42);
+        elements = order == Order.SORTED
+                ? IntStream.range(0, size).toArray()
+                : random.ints(size).toArray();
+        lookups = random.ints(LOOKUPS, 0, size).map(i -> elements[i]).toArray();
+        tree = type.filled(elements);
+    }
+
+    /**
+     * Builds a new tree from all the elements, so the result includes the cost of rebalancing.
+     */
+    @Benchmark
+    public BinarySearchTree<Integer> insert() {
+        return type.filled(elements);
+    }
+
+    /**
+     * Looks up {@value #LOOKUPS} existing elements, so the result reflects the depth of the tree.
+     */
+    @Benchmark
+    public void contains(Blackhole blackhole) {
+        for (int element : lookups) {
+            blackhole.consume(tree.contains(element));
+        }
+    }
+
+    /**
+     * Finds ranks of {@value #LOOKUPS} existing elements, which takes a single descent with subtree sizes.
+     */
+    @Benchmark
+    public void rank(Blackhole blackhole) {
+        for (int element : lookups) {
+            blackhole.consume(tree.rank(element));
+        }
+    }
+
+    /**
+     * Traverses a range of about a hundred elements starting from an existing one.
+     */
+    @Benchmark
+    public void rangeTraversal(Blackhole blackhole) {
+        int from = lookups[0];
+        tree.rangeTraversal(from, tree.select(Math.min(tree.rank(from) + 100, tree.size() - 1)), blackhole::consume);
+    }
+
+    @Benchmark
+    public void inOrderTraversal(Blackhole blackhole) {
+        tree.inOrderTraversal(blackhole::consume);
+    }
+}
@@ -0,0 +1,55 @@
+package com.bobocode.benchmarks;
+
+import com.bobocode.cs.AvlTree;
+import com.bobocode.cs.BinarySearchTree;
+import com.bobocode.cs.ConcurrentSkipListTree;
+import com.bobocode.cs.RecursiveBinarySearchTree;
+import com.bobocode.cs.RedBlackTree;
+
+import java.util.function.Supplier;
+
+/**
+ * {@link TreeType} enumerates all {@link BinarySearchTree} implementations of the course that are covered by
+ * benchmarks. Its constant names are used as JMH {@code @Param} values, so each benchmark is run once per
+ * implementation.
+ * <p>
+ * {@link #SKIP_LIST} and the trees guarded by {@link LockedTree} are thread-safe, so they are the ones that can be
+ * shared by the threads of concurrent benchmarks.
+ */
+public enum TreeType {
+    RECURSIVE(RecursiveBinarySearchTree::new),
+    AVL(AvlTree::new),
+    RED_BLACK(RedBlackTree::new),
+    SKIP_LIST(ConcurrentSkipListTree::new),
+    LOCKED_RECURSIVE(() -> new LockedTree<>(new RecursiveBinarySearchTree<Integer>())),
+    LOCKED_RED_BLACK(() -> new LockedTree<>(new RedBlackTree<Integer>()));
+
+    private final Supplier<BinarySearchTree<Integer>> factory;
+
+    TreeType(Supplier<BinarySearchTree<Integer>> factory) {
+        this.factory = factory;
+    }
+
+    /**
+     * Creates a new empty tree of this type.
+     *
+     * @return a new empty tree
+     */
+    public BinarySearchTree<Integer> create() {
+        return factory.get();
+    }
+
+    /**
+     * Creates a new tree of this type and inserts provided elements in their order.
+     *
+     * @param elements elements to insert
+     * @return a new tree with provided elements
+     */
+    public BinarySearchTree<Integer> filled(int[] elements) {
+        BinarySearchTree<Integer> tree = create();
+        for (int element : elements) {
+            tree.insert(element);
+        }
+        return tree;
+    }
+}